@@ -0,0 +1,90 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscriber;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Measures the cost of the {@code Infrastructure} interceptor hooks, called on every assembly and every subscription,
+ * when no interceptor is registered. Each hook is compared to a baseline returning its argument: the scores are
+ * expected to be identical.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class InterceptorBenchmark {
+
+    private Uni<Integer> uni;
+    private Multi<Integer> multi;
+    private UniSubscriber<Integer> uniSubscriber;
+    private Subscriber<Integer> subscriber;
+
+    @Setup
+    public void setup() {
+        uni = Uni.createFrom().item(1);
+        multi = Multi.createFrom().item(1);
+        uniSubscriber = new UniSubscriber<Integer>() {
+            @Override
+            public void onSubscribe(UniSubscription subscription) {
+                // Ignored
+            }
+
+            @Override
+            public void onItem(Integer item) {
+                // Ignored
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                // Ignored
+            }
+        };
+        subscriber = new PerfSubscriber<>(null);
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        blackhole.consume(uni);
+    }
+
+    @Benchmark
+    public void uniCreation(Blackhole blackhole) {
+        blackhole.consume(Infrastructure.onUniCreation(uni));
+    }
+
+    @Benchmark
+    public void uniSubscription(Blackhole blackhole) {
+        blackhole.consume(Infrastructure.onUniSubscription(uni, uniSubscriber));
+    }
+
+    @Benchmark
+    public void multiCreation(Blackhole blackhole) {
+        blackhole.consume(Infrastructure.onMultiCreation(multi));
+    }
+
+    @Benchmark
+    public void multiSubscription(Blackhole blackhole) {
+        blackhole.consume(Infrastructure.onMultiSubscription(multi, subscriber));
+    }
+
+}
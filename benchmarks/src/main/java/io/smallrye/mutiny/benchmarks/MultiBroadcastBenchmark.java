@@ -0,0 +1,50 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures {@code broadcast()} dispatching the items to several subscribers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiBroadcastBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    @Param({ "1", "4" })
+    public int subscribers;
+
+    @Benchmark
+    public void broadcast(Blackhole blackhole) throws InterruptedException {
+        Multi<Integer> multi = Multi.createFrom().range(0, size)
+                .broadcast().toAtLeast(subscribers);
+        @SuppressWarnings("unchecked")
+        PerfSubscriber<Integer>[] list = new PerfSubscriber[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            list[i] = multi.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+        }
+        for (PerfSubscriber<Integer> subscriber : list) {
+            subscriber.await();
+        }
+    }
+
+}
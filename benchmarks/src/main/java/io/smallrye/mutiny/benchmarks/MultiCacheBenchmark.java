@@ -0,0 +1,54 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures {@code Multi.cache()}: filling the cache from the upstream and replaying it to a late subscriber.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiCacheBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private Multi<Integer> filled;
+
+    @Setup
+    public void setup() {
+        filled = Multi.createFrom().range(0, size).cache();
+        filled.subscribe().with(x -> {
+        });
+    }
+
+    @Benchmark
+    public void fill(Blackhole blackhole) {
+        Multi.createFrom().range(0, size).cache()
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void replay(Blackhole blackhole) {
+        filled.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures the {@code collectItems()} collectors turning a {@code Multi} into a {@code Uni}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiCollectBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    public int size;
+
+    private Multi<Integer> range;
+
+    @Setup
+    public void setup() {
+        range = Multi.createFrom().range(0, size);
+    }
+
+    @Benchmark
+    public void asList(Blackhole blackhole) {
+        range.collectItems().asList().subscribe().with(blackhole::consume);
+    }
+
+    @Benchmark
+    public void last(Blackhole blackhole) {
+        range.collectItems().last().subscribe().with(blackhole::consume);
+    }
+
+    @Benchmark
+    public void asMap(Blackhole blackhole) {
+        range.collectItems().asMap(x -> x).subscribe().with(blackhole::consume);
+    }
+
+}
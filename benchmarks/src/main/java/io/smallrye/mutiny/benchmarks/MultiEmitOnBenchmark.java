@@ -0,0 +1,56 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures the cross-thread hand-off of {@code emitOn}, which goes through the {@code Queues} implementations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiEmitOnBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    public int size;
+
+    private ExecutorService executor;
+    private Multi<Integer> emitOn;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        emitOn = Multi.createFrom().range(0, size).emitOn(executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void emitOn(Blackhole blackhole) throws InterruptedException {
+        emitOn.subscribe().withSubscriber(new PerfSubscriber<>(blackhole)).await();
+    }
+
+}
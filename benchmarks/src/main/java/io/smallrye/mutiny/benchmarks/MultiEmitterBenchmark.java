@@ -0,0 +1,108 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures the throughput of a {@code Multi.createFrom().emitter(...)} emitter called concurrently from several
+ * producer threads, which goes through the serialized emitter and its multi-producer queue, either item per item or
+ * in batches with {@code emitAll}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiEmitterBenchmark {
+
+    @Param({ "1", "2", "4", "8", "16" })
+    public int producers;
+
+    @Param({ "100000" })
+    public int size;
+
+    @Param({ "100" })
+    public int batch;
+
+    private ExecutorService executor;
+    private Multi<Integer> multi;
+    private Multi<Integer> batched;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(producers);
+        multi = create(false);
+        batched = create(true);
+    }
+
+    private Multi<Integer> create(boolean useBatches) {
+        int perProducer = size / producers;
+        return Multi.createFrom().emitter(emitter -> {
+            CountDownLatch start = new CountDownLatch(producers);
+            AtomicInteger remaining = new AtomicInteger(producers);
+            for (int p = 0; p < producers; p++) {
+                executor.execute(() -> {
+                    start.countDown();
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if (useBatches) {
+                        Integer[] items = new Integer[batch];
+                        for (int i = 0; i < perProducer; i += batch) {
+                            int length = Math.min(batch, perProducer - i);
+                            for (int j = 0; j < length; j++) {
+                                items[j] = i + j;
+                            }
+                            emitter.emitAll(items, 0, length);
+                        }
+                    } else {
+                        for (int i = 0; i < perProducer; i++) {
+                            emitter.emit(i);
+                        }
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        emitter.complete();
+                    }
+                });
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void emitFromProducers(Blackhole blackhole) throws InterruptedException {
+        multi.subscribe().withSubscriber(new PerfSubscriber<>(blackhole)).await();
+    }
+
+    @Benchmark
+    public void emitAllFromProducers(Blackhole blackhole) throws InterruptedException {
+        batched.subscribe().withSubscriber(new PerfSubscriber<>(blackhole)).await();
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures {@code groupItems().by(...)} with a varying number of distinct keys, with and without a bound on the
+ * number of groups.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiGroupByBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    @Param({ "1", "16", "1024" })
+    public int keys;
+
+    private Multi<Integer> groupBy;
+    private Multi<Integer> boundedGroupBy;
+
+    @Setup
+    public void setup() {
+        int k = keys;
+        groupBy = Multi.createFrom().range(0, size)
+                .groupItems().by(x -> x % k)
+                .flatMap(group -> group);
+        // Half of the keys fit, so groups are evicted and created again
+        boundedGroupBy = Multi.createFrom().range(0, size)
+                .groupItems().withMaxGroups(Math.max(1, k / 2)).by(x -> x % k)
+                .flatMap(group -> group);
+    }
+
+    @Benchmark
+    public void groupBy(Blackhole blackhole) {
+        groupBy.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void groupByWithMaxGroups(Blackhole blackhole) {
+        boundedGroupBy.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the synchronous {@code Multi} operators: {@code map}, {@code filter}, {@code flatMap} (merge),
+ * {@code concatMap} and {@code transformToUniAndMerge}. The flatMap variants exercise {@code MultiFlatMapOp}, the
+ * {@code transformToUni} variants exercise {@code MultiFlatMapUniOp}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiOperatorsBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    public int size;
+
+    private Multi<Integer> range;
+    private Multi<Integer> map;
+    private Multi<Integer> filter;
+    private Multi<Integer> flatMap;
+    private Multi<Integer> concatMap;
+    private Multi<Integer> flatMapUni;
+    private Multi<Integer> flatMapEmitterUni;
+
+    @Setup
+    public void setup() {
+        range = Multi.createFrom().range(0, size);
+        map = range.map(x -> x + 1).map(x -> x + 1).map(x -> x + 1);
+        filter = range.filter(x -> (x & 1) == 0).filter(x -> (x & 2) == 0);
+        flatMap = range.flatMap(x -> Multi.createFrom().items(x, x + 1));
+        concatMap = range.concatMap(x -> Multi.createFrom().items(x, x + 1));
+        flatMapUni = range.onItem().transformToUniAndMerge(x -> Uni.createFrom().item(x));
+        flatMapEmitterUni = range.onItem()
+                .transformToUniAndMerge(x -> Uni.createFrom().emitter(emitter -> emitter.complete(x)));
+    }
+
+    @Benchmark
+    public void range(Blackhole blackhole) {
+        range.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        map.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        filter.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void flatMap(Blackhole blackhole) {
+        flatMap.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void concatMap(Blackhole blackhole) {
+        concatMap.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void transformToUniAndMerge(Blackhole blackhole) {
+        flatMapUni.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void transformToEmitterUniAndMerge(Blackhole blackhole) {
+        flatMapEmitterUni.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A subscriber requesting everything and sinking the received items into a {@link Blackhole}.
+ * <p>
+ * {@link #await()} blocks until the stream terminates, which is required for the benchmarks involving an
+ * asynchronous boundary.
+ *
+ * @param <T> the type of item
+ */
+public class PerfSubscriber<T> implements MultiSubscriber<T> {
+
+    private final Blackhole blackhole;
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    public PerfSubscriber(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onItem(T item) {
+        blackhole.consume(item);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        blackhole.consume(failure);
+        latch.countDown();
+    }
+
+    @Override
+    public void onCompletion() {
+        latch.countDown();
+    }
+
+    public void await() throws InterruptedException {
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The stream did not complete in time");
+        }
+    }
+}
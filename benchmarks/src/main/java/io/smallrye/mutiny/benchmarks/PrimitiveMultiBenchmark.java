@@ -0,0 +1,54 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.IntMulti;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Compares a {@code range -> map -> filter -> sum} pipeline using {@code IntMulti} with the same pipeline using a
+ * boxed {@code Multi<Integer>}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class PrimitiveMultiBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    @Benchmark
+    public void primitive(Blackhole blackhole) {
+        IntMulti.range(0, size)
+                .map(i -> i * 3)
+                .filter(i -> (i & 1) == 0)
+                .sum()
+                .subscribe().with(blackhole::consume);
+    }
+
+    @Benchmark
+    public void boxed(Blackhole blackhole) {
+        Multi.createFrom().range(0, size)
+                .onItem().transform(i -> i * 3)
+                .transform().byFilteringItemsWith(i -> (i & 1) == 0)
+                .collectItems().with(Collectors.summingInt(Integer::intValue))
+                .subscribe().with(blackhole::consume);
+    }
+
+}
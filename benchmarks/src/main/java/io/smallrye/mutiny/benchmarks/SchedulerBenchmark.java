@@ -0,0 +1,64 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.infrastructure.HashedWheelScheduler;
+import io.smallrye.mutiny.infrastructure.MutinyScheduler;
+
+/**
+ * Measures the cost of scheduling and cancelling a timeout (the {@code ifNoItem().after(...)} pattern), comparing the
+ * {@code ScheduledThreadPoolExecutor} based {@link MutinyScheduler} with the {@link HashedWheelScheduler}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    @Param({ "heap", "wheel" })
+    public String scheduler;
+
+    private ExecutorService executor;
+    private ScheduledExecutorService timer;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+        timer = scheduler.equals("heap") ? new MutinyScheduler(executor) : new HashedWheelScheduler(executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        timer.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        ScheduledFuture<?> future = timer.schedule(() -> {
+        }, 10, TimeUnit.SECONDS);
+        return future.cancel(false);
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the assembly and subscription cost of {@code Uni} pipelines ({@code map}, {@code chain} and
+ * {@code onFailure}). Every operator goes through {@code AbstractUni} and {@code UniSerializedSubscriber}, so these
+ * benchmarks mostly track the per-operator allocation cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class UniBenchmark {
+
+    @Param({ "1", "10" })
+    public int length;
+
+    private Uni<Integer> mapChain;
+    private Uni<Integer> flatMapChain;
+    private Uni<Integer> failureChain;
+
+    @Setup
+    public void setup() {
+        Uni<Integer> uni = Uni.createFrom().item(1);
+        for (int i = 0; i < length; i++) {
+            uni = uni.map(x -> x + 1);
+        }
+        mapChain = uni;
+
+        uni = Uni.createFrom().item(1);
+        for (int i = 0; i < length; i++) {
+            uni = uni.chain(x -> Uni.createFrom().item(x + 1));
+        }
+        flatMapChain = uni;
+
+        uni = Uni.createFrom().failure(new Exception("boom"));
+        for (int i = 0; i < length; i++) {
+            uni = uni.onFailure().recoverWithUni(f -> Uni.createFrom().failure(f));
+        }
+        failureChain = uni.onFailure().recoverWithItem(0);
+    }
+
+    @Benchmark
+    public void assembly(Blackhole blackhole) {
+        Uni<Integer> uni = Uni.createFrom().item(1);
+        for (int i = 0; i < length; i++) {
+            uni = uni.map(x -> x + 1);
+        }
+        blackhole.consume(uni);
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        mapChain.subscribe().with(blackhole::consume);
+    }
+
+    @Benchmark
+    public void chain(Blackhole blackhole) {
+        flatMapChain.subscribe().with(blackhole::consume);
+    }
+
+    @Benchmark
+    public void onFailure(Blackhole blackhole) {
+        failureChain.subscribe().with(blackhole::consume);
+    }
+
+}
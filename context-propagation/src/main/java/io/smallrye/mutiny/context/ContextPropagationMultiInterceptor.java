@@ -2,6 +2,7 @@ package io.smallrye.mutiny.context;
 
 import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.context.ThreadContext;
 import org.reactivestreams.Publisher;
@@ -9,6 +10,7 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.context.InlinePropagation.Signal;
 import io.smallrye.mutiny.helpers.StrictMultiSubscriber;
 import io.smallrye.mutiny.infrastructure.MultiInterceptor;
 import io.smallrye.mutiny.operators.AbstractMulti;
@@ -17,17 +19,28 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
 /**
  * Provides context propagation to Multi types.
  * Subclasses need to override this to provide the Context Propagation ThreadContext.
+ * <p>
+ * By default, each signal is dispatched using the {@link ThreadContext#currentContextExecutor() contextual executor}.
+ * When the inline mode is enabled (see {@link #isInlinePropagationEnabled()}), the context is captured once into a
+ * contextual function, and restored around each signal without additional allocation.
  */
 public abstract class ContextPropagationMultiInterceptor implements MultiInterceptor {
 
     @Override
     public <T> Subscriber<? super T> onSubscription(Publisher<? extends T> instance, Subscriber<? super T> subscriber) {
+        if (isInlinePropagationEnabled()) {
+            return new ContextualSubscriber<>(getThreadContext(), subscriber);
+        }
         Executor executor = getThreadContext().currentContextExecutor();
         return new ContextPropagationSubscriber<>(executor, subscriber);
     }
 
     @Override
     public <T> Multi<T> onMultiCreation(Multi<T> multi) {
+        if (isInlinePropagationEnabled()) {
+            BiConsumer<Multi<T>, Subscriber<? super T>> action = ContextPropagationMultiInterceptor::subscribe;
+            return new ContextualMulti<>(getThreadContext().contextualConsumer(action), multi);
+        }
         Executor executor = getThreadContext().currentContextExecutor();
         return new ContextPropagationMulti<>(executor, multi);
     }
@@ -41,6 +54,43 @@ public abstract class ContextPropagationMultiInterceptor implements MultiInterce
      */
     protected abstract ThreadContext getThreadContext();
 
+    /**
+     * Whether the context is propagated inline, i.e. captured once and restored around each signal on the caller
+     * thread instead of dispatching each signal through the contextual executor.
+     * <p>
+     * Defaults to the value of the {@code mutiny.context-propagation.inline} system property.
+     *
+     * @return {@code true} to use the inline mode
+     */
+    protected boolean isInlinePropagationEnabled() {
+        return InlinePropagation.ENABLED;
+    }
+
+    private static <T> void subscribe(Multi<T> multi, Subscriber<? super T> subscriber) {
+        if (subscriber instanceof MultiSubscriber) {
+            multi.subscribe(subscriber);
+        } else {
+            multi.subscribe(new StrictMultiSubscriber<>(subscriber));
+        }
+    }
+
+    private static class ContextualMulti<T> extends AbstractMulti<T> {
+
+        private final BiConsumer<Multi<T>, Subscriber<? super T>> subscribe;
+        private final Multi<T> multi;
+
+        ContextualMulti(BiConsumer<Multi<T>, Subscriber<? super T>> subscribe, Multi<T> multi) {
+            this.subscribe = subscribe;
+            this.multi = multi;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            Objects.requireNonNull(subscriber); // Required by reactive streams TCK
+            subscribe.accept(multi, subscriber);
+        }
+    }
+
     private static class ContextPropagationMulti<T> extends AbstractMulti<T> {
 
         private final Executor executor;
@@ -54,16 +104,7 @@ public abstract class ContextPropagationMultiInterceptor implements MultiInterce
         @Override
         public void subscribe(Subscriber<? super T> subscriber) {
             Objects.requireNonNull(subscriber); // Required by reactive streams TCK
-            executor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    if (subscriber instanceof MultiSubscriber) {
-                        multi.subscribe(subscriber);
-                    } else {
-                        multi.subscribe(new StrictMultiSubscriber<>(subscriber));
-                    }
-                }
-            });
+            executor.execute(() -> ContextPropagationMultiInterceptor.subscribe(multi, subscriber));
         }
     }
 
@@ -100,4 +141,63 @@ public abstract class ContextPropagationMultiInterceptor implements MultiInterce
             executor.execute(subscriber::onComplete);
         }
     }
+
+    /**
+     * Subscriber restoring the captured context around each signal, on the caller thread.
+     *
+     * @param <T> the type of item
+     */
+    @SuppressWarnings({ "ReactiveStreamsSubscriberImplementation" })
+    public static class ContextualSubscriber<T> implements Subscriber<T> {
+
+        private final Subscriber<? super T> subscriber;
+        private final BiConsumer<Signal, Object> signals;
+
+        public ContextualSubscriber(ThreadContext context, Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            BiConsumer<Signal, Object> dispatcher = this::dispatch;
+            this.signals = context.contextualConsumer(dispatcher);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            signals.accept(Signal.SUBSCRIBE, subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            Objects.requireNonNull(item);
+            signals.accept(Signal.ITEM, item);
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            Objects.requireNonNull(failure);
+            signals.accept(Signal.FAILURE, failure);
+        }
+
+        @Override
+        public void onComplete() {
+            signals.accept(Signal.COMPLETION, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void dispatch(Signal signal, Object value) {
+            // Called with the captured context
+            switch (signal) {
+                case SUBSCRIBE:
+                    subscriber.onSubscribe((Subscription) value);
+                    break;
+                case ITEM:
+                    subscriber.onNext((T) value);
+                    break;
+                case FAILURE:
+                    subscriber.onError((Throwable) value);
+                    break;
+                default:
+                    subscriber.onComplete();
+                    break;
+            }
+        }
+    }
 }
@@ -1,10 +1,12 @@
 package io.smallrye.mutiny.context;
 
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.context.ThreadContext;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.context.InlinePropagation.Signal;
 import io.smallrye.mutiny.infrastructure.UniInterceptor;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniSerializedSubscriber;
@@ -14,11 +16,19 @@ import io.smallrye.mutiny.subscription.UniSubscription;
 /**
  * Provides context propagation to Uni types.
  * Subclasses need to override this to provide the Context Propagation ThreadContext.
+ * <p>
+ * By default, each signal is dispatched using the {@link ThreadContext#currentContextExecutor() contextual executor}.
+ * When the inline mode is enabled (see {@link #isInlinePropagationEnabled()}), the context is captured once into a
+ * contextual function, and restored around each signal without additional allocation.
  */
 public abstract class ContextPropagationUniInterceptor implements UniInterceptor {
 
     @Override
     public <T> UniSubscriber<? super T> onSubscription(Uni<T> instance, UniSubscriber<? super T> subscriber) {
+        if (isInlinePropagationEnabled()) {
+            return new ContextualUniSubscriber<>(getThreadContext(), subscriber);
+        }
+
         Executor executor = getThreadContext().currentContextExecutor();
         return new UniSubscriber<T>() {
 
@@ -41,6 +51,18 @@ public abstract class ContextPropagationUniInterceptor implements UniInterceptor
 
     @Override
     public <T> Uni<T> onUniCreation(Uni<T> uni) {
+        if (isInlinePropagationEnabled()) {
+            BiConsumer<Uni<T>, UniSerializedSubscriber<? super T>> action = AbstractUni::subscribe;
+            BiConsumer<Uni<T>, UniSerializedSubscriber<? super T>> subscribe = getThreadContext()
+                    .contextualConsumer(action);
+            return new AbstractUni<T>() {
+                @Override
+                protected void subscribing(UniSerializedSubscriber<? super T> subscriber) {
+                    subscribe.accept(uni, subscriber);
+                }
+            };
+        }
+
         Executor executor = getThreadContext().currentContextExecutor();
         return new AbstractUni<T>() {
             @Override
@@ -58,4 +80,59 @@ public abstract class ContextPropagationUniInterceptor implements UniInterceptor
      * @see DefaultContextPropagationUniInterceptor#getThreadContext()
      */
     protected abstract ThreadContext getThreadContext();
+
+    /**
+     * Whether the context is propagated inline, i.e. captured once and restored around each signal on the caller
+     * thread instead of dispatching each signal through the contextual executor.
+     * <p>
+     * Defaults to the value of the {@code mutiny.context-propagation.inline} system property.
+     *
+     * @return {@code true} to use the inline mode
+     */
+    protected boolean isInlinePropagationEnabled() {
+        return InlinePropagation.ENABLED;
+    }
+
+    private static final class ContextualUniSubscriber<T> implements UniSubscriber<T> {
+
+        private final UniSubscriber<? super T> downstream;
+        private final BiConsumer<Signal, Object> signals;
+
+        ContextualUniSubscriber(ThreadContext context, UniSubscriber<? super T> downstream) {
+            this.downstream = downstream;
+            BiConsumer<Signal, Object> dispatcher = this::dispatch;
+            this.signals = context.contextualConsumer(dispatcher);
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            signals.accept(Signal.SUBSCRIBE, subscription);
+        }
+
+        @Override
+        public void onItem(T item) {
+            signals.accept(Signal.ITEM, item);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            signals.accept(Signal.FAILURE, failure);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void dispatch(Signal signal, Object value) {
+            // Called with the captured context
+            switch (signal) {
+                case SUBSCRIBE:
+                    downstream.onSubscribe((UniSubscription) value);
+                    break;
+                case ITEM:
+                    downstream.onItem((T) value);
+                    break;
+                default:
+                    downstream.onFailure((Throwable) value);
+                    break;
+            }
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package io.smallrye.mutiny.context;
+
+/**
+ * Support for the <em>inline</em> context propagation mode.
+ * <p>
+ * In this mode, the context is captured once (when the {@code Uni} / {@code Multi} is created or subscribed) into a
+ * contextual function, which restores the captured context, delivers the signal, and restores the previous context,
+ * all on the caller thread. Unlike the default mode, no {@link Runnable} is allocated and no executor is called per
+ * signal.
+ * <p>
+ * The mode is enabled using the {@code mutiny.context-propagation.inline} system property.
+ */
+final class InlinePropagation {
+
+    static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("mutiny.context-propagation.inline", "false"));
+
+    private InlinePropagation() {
+        // avoid direct instantiation
+    }
+
+    /**
+     * The signals dispatched through the contextual functions.
+     */
+    enum Signal {
+        SUBSCRIBE,
+        ITEM,
+        FAILURE,
+        COMPLETION
+    }
+}
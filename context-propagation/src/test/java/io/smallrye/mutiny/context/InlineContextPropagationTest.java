@@ -0,0 +1,157 @@
+package io.smallrye.mutiny.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.*;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+public class InlineContextPropagationTest {
+
+    private static ExecutorService executor;
+
+    private final ContextPropagationUniInterceptor uniInterceptor = new DefaultContextPropagationUniInterceptor() {
+        @Override
+        protected boolean isInlinePropagationEnabled() {
+            return true;
+        }
+    };
+
+    private final ContextPropagationMultiInterceptor multiInterceptor = new DefaultContextPropagationMultiInterceptor() {
+        @Override
+        protected boolean isInlinePropagationEnabled() {
+            return true;
+        }
+    };
+
+    @BeforeEach
+    public void initContext() {
+        Infrastructure.clearInterceptors();
+        MyContext.init();
+    }
+
+    @AfterEach
+    public void clearContext() {
+        MyContext.clear();
+    }
+
+    @BeforeAll
+    public static void init() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testUniCreationCapturesTheContext() {
+        MyContext ctx = MyContext.get();
+        Uni<Integer> uni = uniInterceptor.onUniCreation(Uni.createFrom().item(() -> {
+            assertThat(MyContext.get()).isSameAs(ctx);
+            return 2;
+        }));
+
+        int result = Uni.createFrom().<Integer> emitter(emitter -> executor.execute(() -> {
+            MyContext.clear();
+            uni.subscribe().with(emitter::complete, emitter::fail);
+        })).await().indefinitely();
+
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    public void testUniSignalsAreDeliveredWithTheCapturedContext() throws InterruptedException {
+        MyContext ctx = MyContext.get();
+        List<MyContext> contexts = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        Uni<Integer> uni = Uni.createFrom().<Integer> emitter(e -> executor.execute(() -> {
+            MyContext.clear();
+            e.complete(1);
+        }));
+
+        UniSubscriber<? super Integer> subscriber = uniInterceptor.onSubscription(uni, new UniSubscriber<Integer>() {
+            @Override
+            public void onSubscribe(UniSubscription subscription) {
+                contexts.add(MyContext.get());
+            }
+
+            @Override
+            public void onItem(Integer item) {
+                contexts.add(MyContext.get());
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                contexts.add(MyContext.get());
+                latch.countDown();
+            }
+        });
+        uni.subscribe().withSubscriber(subscriber);
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(contexts).containsExactly(ctx, ctx);
+        // The context of the current thread is not altered
+        assertThat(MyContext.get()).isSameAs(ctx);
+    }
+
+    @Test
+    public void testMultiSignalsAreDeliveredWithTheCapturedContext() {
+        MyContext ctx = MyContext.get();
+        List<MyContext> contexts = new CopyOnWriteArrayList<>();
+        Multi<Integer> multi = multiInterceptor.onMultiCreation(Multi.createFrom().range(0, 3)
+                .invoke(i -> contexts.add(MyContext.get())))
+                .emitOn(executor);
+
+        AssertSubscriber<Integer> subscriber = AssertSubscriber.create(10);
+        @SuppressWarnings("unchecked")
+        Subscriber<Integer> wrapped = (Subscriber<Integer>) multiInterceptor.onSubscription(multi,
+                new Subscriber<Integer>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        subscriber.onSubscribe(subscription);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        contexts.add(MyContext.get());
+                        subscriber.onNext(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable failure) {
+                        subscriber.onError(failure);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        contexts.add(MyContext.get());
+                        subscriber.onComplete();
+                    }
+                });
+
+        executor.execute(() -> {
+            MyContext.clear();
+            multi.subscribe(wrapped);
+        });
+
+        subscriber.await().assertCompleted().assertItems(0, 1, 2);
+        assertThat(contexts).hasSize(7).containsOnly(ctx);
+    }
+}
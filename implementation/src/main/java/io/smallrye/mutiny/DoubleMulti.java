@@ -0,0 +1,137 @@
+package io.smallrye.mutiny;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.operators.multi.primitives.DoubleMultiSources;
+import io.smallrye.mutiny.subscription.DoubleSubscriber;
+
+/**
+ * A stream of {@code double} items, specialized to avoid boxing each item into a {@link Double}.
+ * <p>
+ * The operators, such as {@link #map(DoubleUnaryOperator)} or {@link #filter(DoublePredicate)}, and the collectors, such as
+ * {@link #sum()} or {@link #average()}, work on the primitive values. The items are only boxed when converting the
+ * stream into a {@link Multi}, using {@link #boxed()} or {@link #mapToObj(DoubleFunction)}, and the collectors only box
+ * their result.
+ * <p>
+ * Like {@link Multi}, the stream is lazy, and follows the Reactive Streams back-pressure protocol, using
+ * {@link DoubleSubscriber}.
+ */
+@Experimental("Primitive streams are an experimental feature at this stage")
+public interface DoubleMulti {
+
+    /**
+     * Creates a {@link DoubleMulti} emitting the given items, and then completing.
+     *
+     * @param items the items, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    static DoubleMulti items(double... items) {
+        return DoubleMultiSources.items(items);
+    }
+
+    /**
+     * Creates a {@link DoubleMulti} emitting the {@code double} value of the items emitted by the given {@link Publisher}.
+     *
+     * @param publisher the publisher, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    static DoubleMulti from(Publisher<? extends Number> publisher) {
+        return DoubleMultiSources.from(publisher);
+    }
+
+    /**
+     * Subscribes to the stream.
+     *
+     * @param subscriber the subscriber, must not be {@code null}
+     */
+    void subscribe(DoubleSubscriber subscriber);
+
+    /**
+     * Produces a new {@link DoubleMulti} emitting the result of the given function for each item.
+     *
+     * @param mapper the function, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    DoubleMulti map(DoubleUnaryOperator mapper);
+
+    /**
+     * Produces a new {@link DoubleMulti} emitting the items passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    DoubleMulti filter(DoublePredicate predicate);
+
+    /**
+     * Produces a new {@link DoubleMulti} emitting the intermediate results of the reduction of the items by the given
+     * accumulator. The first item is emitted as is, and used as initial value.
+     *
+     * @param accumulator the accumulator, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    DoubleMulti scan(DoubleBinaryOperator accumulator);
+
+    /**
+     * Produces a {@link Multi} emitting the result of the given function for each item.
+     *
+     * @param mapper the function, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of item emitted by the produced {@link Multi}
+     * @return the new {@link Multi}
+     */
+    <T> Multi<T> mapToObj(DoubleFunction<? extends T> mapper);
+
+    /**
+     * Produces a {@link Multi} emitting the boxed items.
+     *
+     * @return the new {@link Multi}
+     */
+    Multi<Double> boxed();
+
+    /**
+     * Produces a {@link Uni} emitting the sum of the items, or {@code 0} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Double> sum();
+
+    /**
+     * Produces a {@link Uni} emitting the number of items.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Long> count();
+
+    /**
+     * Produces a {@link Uni} emitting the smallest item, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Double> min();
+
+    /**
+     * Produces a {@link Uni} emitting the largest item, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Double> max();
+
+    /**
+     * Produces a {@link Uni} emitting the arithmetic mean of the items, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Double> average();
+
+    /**
+     * Produces a {@link Uni} emitting an array containing all the items, in order.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<double[]> toArray();
+}
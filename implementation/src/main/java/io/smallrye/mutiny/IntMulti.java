@@ -0,0 +1,165 @@
+package io.smallrye.mutiny;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.operators.multi.primitives.IntMultiSources;
+import io.smallrye.mutiny.subscription.IntSubscriber;
+
+/**
+ * A stream of {@code int} items, specialized to avoid boxing each item into a {@link Integer}.
+ * <p>
+ * The operators, such as {@link #map(IntUnaryOperator)} or {@link #filter(IntPredicate)}, and the collectors, such as
+ * {@link #sum()} or {@link #average()}, work on the primitive values. The items are only boxed when converting the
+ * stream into a {@link Multi}, using {@link #boxed()} or {@link #mapToObj(IntFunction)}, and the collectors only box
+ * their result.
+ * <p>
+ * Like {@link Multi}, the stream is lazy, and follows the Reactive Streams back-pressure protocol, using
+ * {@link IntSubscriber}.
+ */
+@Experimental("Primitive streams are an experimental feature at this stage")
+public interface IntMulti {
+
+    /**
+     * Creates a {@link IntMulti} emitting the items from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the start, included
+     * @param endExclusive the end, excluded, must be greater than {@code startInclusive}
+     * @return the new {@link IntMulti}
+     */
+    static IntMulti range(int startInclusive, int endExclusive) {
+        return IntMultiSources.range(startInclusive, endExclusive);
+    }
+
+    /**
+     * Creates a {@link IntMulti} emitting the given items, and then completing.
+     *
+     * @param items the items, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    static IntMulti items(int... items) {
+        return IntMultiSources.items(items);
+    }
+
+    /**
+     * Creates a {@link IntMulti} emitting the {@code int} value of the items emitted by the given {@link Publisher}.
+     * <p>
+     * The items of a {@link Multi} are already boxed, so this source unboxes each of them once. The sources producing
+     * primitive values, {@link #range(int, int)} and {@link #items(int...)}, do not box the items at all.
+     *
+     * @param publisher the publisher, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    static IntMulti from(Publisher<? extends Number> publisher) {
+        return IntMultiSources.from(publisher);
+    }
+
+    /**
+     * Subscribes to the stream.
+     *
+     * @param subscriber the subscriber, must not be {@code null}
+     */
+    void subscribe(IntSubscriber subscriber);
+
+    /**
+     * Produces a new {@link IntMulti} emitting the result of the given function for each item.
+     *
+     * @param mapper the function, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    IntMulti map(IntUnaryOperator mapper);
+
+    /**
+     * Produces a new {@link IntMulti} emitting the items passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    IntMulti filter(IntPredicate predicate);
+
+    /**
+     * Produces a new {@link IntMulti} emitting the intermediate results of the reduction of the items by the given
+     * accumulator. The first item is emitted as is, and used as initial value.
+     *
+     * @param accumulator the accumulator, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    IntMulti scan(IntBinaryOperator accumulator);
+
+    /**
+     * Produces a new {@link LongMulti} emitting the items converted to {@code long}.
+     *
+     * @return the new {@link LongMulti}
+     */
+    LongMulti asLongMulti();
+
+    /**
+     * Produces a new {@link DoubleMulti} emitting the items converted to {@code double}.
+     *
+     * @return the new {@link DoubleMulti}
+     */
+    DoubleMulti asDoubleMulti();
+
+    /**
+     * Produces a {@link Multi} emitting the result of the given function for each item.
+     *
+     * @param mapper the function, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of item emitted by the produced {@link Multi}
+     * @return the new {@link Multi}
+     */
+    <T> Multi<T> mapToObj(IntFunction<? extends T> mapper);
+
+    /**
+     * Produces a {@link Multi} emitting the boxed items.
+     *
+     * @return the new {@link Multi}
+     */
+    Multi<Integer> boxed();
+
+    /**
+     * Produces a {@link Uni} emitting the sum of the items, or {@code 0} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Integer> sum();
+
+    /**
+     * Produces a {@link Uni} emitting the number of items.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Long> count();
+
+    /**
+     * Produces a {@link Uni} emitting the smallest item, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Integer> min();
+
+    /**
+     * Produces a {@link Uni} emitting the largest item, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Integer> max();
+
+    /**
+     * Produces a {@link Uni} emitting the arithmetic mean of the items, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Double> average();
+
+    /**
+     * Produces a {@link Uni} emitting an array containing all the items, in order.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<int[]> toArray();
+}
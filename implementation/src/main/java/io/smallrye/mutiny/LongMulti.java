@@ -0,0 +1,190 @@
+package io.smallrye.mutiny;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.primitives.LongMultiSources;
+import io.smallrye.mutiny.subscription.LongSubscriber;
+
+/**
+ * A stream of {@code long} items, specialized to avoid boxing each item into a {@link Long}.
+ * <p>
+ * The operators, such as {@link #map(LongUnaryOperator)} or {@link #filter(LongPredicate)}, and the collectors, such as
+ * {@link #sum()} or {@link #average()}, work on the primitive values. The items are only boxed when converting the
+ * stream into a {@link Multi}, using {@link #boxed()} or {@link #mapToObj(LongFunction)}, and the collectors only box
+ * their result.
+ * <p>
+ * Like {@link Multi}, the stream is lazy, and follows the Reactive Streams back-pressure protocol, using
+ * {@link LongSubscriber}.
+ */
+@Experimental("Primitive streams are an experimental feature at this stage")
+public interface LongMulti {
+
+    /**
+     * Creates a {@link LongMulti} emitting the items from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the start, included
+     * @param endExclusive the end, excluded, must be greater than {@code startInclusive}
+     * @return the new {@link LongMulti}
+     */
+    static LongMulti range(long startInclusive, long endExclusive) {
+        return LongMultiSources.range(startInclusive, endExclusive);
+    }
+
+    /**
+     * Creates a {@link LongMulti} emitting the given items, and then completing.
+     *
+     * @param items the items, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    static LongMulti items(long... items) {
+        return LongMultiSources.items(items);
+    }
+
+    /**
+     * Creates a {@link LongMulti} emitting the {@code long} value of the items emitted by the given {@link Publisher}.
+     * <p>
+     * The items of a {@link Multi} are already boxed: they are unboxed once here, and the following operators work on
+     * the primitive values. To avoid boxing the items at all, create the stream with a primitive source, such as
+     * {@link #range(long, long)} or {@link #ticks(Duration)}.
+     *
+     * @param publisher the publisher, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    static LongMulti from(Publisher<? extends Number> publisher) {
+        return LongMultiSources.from(publisher);
+    }
+
+    /**
+     * Creates a {@link LongMulti} emitting {@code long} items (ticks) starting with 0 and incrementing at each period,
+     * like {@code Multi.createFrom().ticks().every(period)}. The first tick is emitted right away.
+     * The ticks are emitted on the default worker pool (see {@link Infrastructure#getDefaultWorkerPool()}).
+     * <p>
+     * If the subscriber does not request enough items in time, a back pressure failure is fired. The stream never
+     * completes, the cancellation stops the ticks.
+     *
+     * @param period the period, must not be {@code null}, must be strictly positive
+     * @return the new {@link LongMulti}
+     */
+    static LongMulti ticks(Duration period) {
+        return LongMultiSources.ticks(period, Infrastructure.getDefaultWorkerPool());
+    }
+
+    /**
+     * Creates a {@link LongMulti} emitting {@code long} items (ticks) starting with 0 and incrementing at each period,
+     * on the given executor.
+     *
+     * @param period the period, must not be {@code null}, must be strictly positive
+     * @param executor the executor, must not be {@code null}
+     * @return the new {@link LongMulti}
+     * @see #ticks(Duration)
+     */
+    static LongMulti ticks(Duration period, ScheduledExecutorService executor) {
+        return LongMultiSources.ticks(period, executor);
+    }
+
+    /**
+     * Subscribes to the stream.
+     *
+     * @param subscriber the subscriber, must not be {@code null}
+     */
+    void subscribe(LongSubscriber subscriber);
+
+    /**
+     * Produces a new {@link LongMulti} emitting the result of the given function for each item.
+     *
+     * @param mapper the function, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    LongMulti map(LongUnaryOperator mapper);
+
+    /**
+     * Produces a new {@link LongMulti} emitting the items passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    LongMulti filter(LongPredicate predicate);
+
+    /**
+     * Produces a new {@link LongMulti} emitting the intermediate results of the reduction of the items by the given
+     * accumulator. The first item is emitted as is, and used as initial value.
+     *
+     * @param accumulator the accumulator, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    LongMulti scan(LongBinaryOperator accumulator);
+
+    /**
+     * Produces a new {@link DoubleMulti} emitting the items converted to {@code double}.
+     *
+     * @return the new {@link DoubleMulti}
+     */
+    DoubleMulti asDoubleMulti();
+
+    /**
+     * Produces a {@link Multi} emitting the result of the given function for each item.
+     *
+     * @param mapper the function, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of item emitted by the produced {@link Multi}
+     * @return the new {@link Multi}
+     */
+    <T> Multi<T> mapToObj(LongFunction<? extends T> mapper);
+
+    /**
+     * Produces a {@link Multi} emitting the boxed items.
+     *
+     * @return the new {@link Multi}
+     */
+    Multi<Long> boxed();
+
+    /**
+     * Produces a {@link Uni} emitting the sum of the items, or {@code 0} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Long> sum();
+
+    /**
+     * Produces a {@link Uni} emitting the number of items.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Long> count();
+
+    /**
+     * Produces a {@link Uni} emitting the smallest item, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Long> min();
+
+    /**
+     * Produces a {@link Uni} emitting the largest item, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Long> max();
+
+    /**
+     * Produces a {@link Uni} emitting the arithmetic mean of the items, or {@code null} if the stream is empty.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<Double> average();
+
+    /**
+     * Produces a {@link Uni} emitting an array containing all the items, in order.
+     *
+     * @return the new {@link Uni}
+     */
+    Uni<long[]> toArray();
+}
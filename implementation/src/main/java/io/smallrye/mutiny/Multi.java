@@ -12,6 +12,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.groups.*;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 
@@ -186,9 +187,22 @@ public interface Multi<T> extends Publisher<T> {
      * all the downstream subscribers.
      *
      * @return a multi replaying the events from the upstream.
+     * @see #memoize()
      */
     Multi<T> cache();
 
+    /**
+     * Configures the memoization of the events emitted by this {@link Multi}.
+     * <p>
+     * Unlike {@link #cache()}, which replays all the items, it allows bounding the number of items or the age of the
+     * items replayed to late subscribers.
+     *
+     * @return the object to configure memoization
+     * @apiNote This is an experimental API
+     */
+    @Experimental("Memoization is an experimental feature at this stage")
+    MultiMemoize<T> memoize();
+
     /**
      * Produces {@link Multi} or {@link Uni} collecting items from this {@link Multi}. You can accumulate the items
      * into a {@link java.util.List} ({@link MultiCollect#asList()}), {@link java.util.Map}
@@ -247,6 +261,20 @@ public interface Multi<T> extends Publisher<T> {
      */
     Multi<T> runSubscriptionOn(Executor executor);
 
+    /**
+     * Splits the items emitted by this {@link Multi} onto {@code rails} rails, processed in parallel.
+     * <p>
+     * The items are dispatched onto the rails in round-robin order. Use {@link MultiParallel#runOn(Executor)} to
+     * process the rails concurrently, and {@link MultiParallel#sequential()} or
+     * {@link MultiParallel#sequentialOrdered()} to merge them back into a {@link Multi}.
+     *
+     * @param rails the number of rails, must be strictly positive
+     * @return the object to configure the rails
+     * @apiNote This is an experimental API
+     */
+    @Experimental("Parallel rails are an experimental feature at this stage")
+    MultiParallel<T> parallel(int rails);
+
     /**
      * Allows configuring the actions or continuation to execute when this {@link Multi} fires the completion event.
      *
@@ -391,6 +391,33 @@ public interface Uni<T> {
     @Experimental("Memoization is an experimental feature at this stage")
     UniMemoize<T> memoize();
 
+    /**
+     * Configures a keyed memoization cache for a function producing {@link Uni} instances.
+     * <p>
+     * The resulting {@link io.smallrye.mutiny.operators.UniMemoizer} is itself a function: the {@link Uni} produced
+     * for each key is memoized, and concurrent subscriptions for the same key share a single call to the function.
+     *
+     * <pre>
+     * {@code
+     * UniMemoizer<String, Token> tokens = Uni.memoizeBy(this::fetchToken)
+     *      .withMaxSize(1000)
+     *      .expireAfter(Duration.ofMinutes(5))
+     *      .create();
+     * Uni<Token> token = tokens.apply("my-service");
+     * }
+     * </pre>
+     *
+     * @param function the function producing the {@link Uni} for a key, must not be {@code null}
+     * @param <K> the type of key
+     * @param <V> the type of item
+     * @return the object to configure the memoization cache
+     * @apiNote This is an experimental API
+     */
+    @Experimental("Memoization is an experimental feature at this stage")
+    static <K, V> UniMemoizeBy<K, V> memoizeBy(Function<K, Uni<V>> function) {
+        return new UniMemoizeBy<>(nonNull(function, "function"));
+    }
+
     /**
      * Caches the events (item or failure) of this {@link Uni} and replays it for all further {@link UniSubscriber}.
      *
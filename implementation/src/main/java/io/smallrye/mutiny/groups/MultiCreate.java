@@ -29,6 +29,7 @@ import io.smallrye.mutiny.operators.multi.builders.EmitterBasedMulti;
 import io.smallrye.mutiny.operators.multi.builders.EmptyMulti;
 import io.smallrye.mutiny.operators.multi.builders.FailedMulti;
 import io.smallrye.mutiny.operators.multi.builders.IterableBasedMulti;
+import io.smallrye.mutiny.operators.multi.builders.KnownItemMulti;
 import io.smallrye.mutiny.operators.multi.builders.NeverMulti;
 import io.smallrye.mutiny.operators.multi.builders.StreamBasedMulti;
 import io.smallrye.mutiny.subscription.BackPressureStrategy;
@@ -249,7 +250,10 @@ public class MultiCreate {
      * @return the new {@link Multi}
      */
     public <T> Multi<T> item(T item) {
-        return item(() -> item);
+        if (item == null) {
+            return empty();
+        }
+        return Infrastructure.onMultiCreation(new KnownItemMulti<>(item));
     }
 
     /**
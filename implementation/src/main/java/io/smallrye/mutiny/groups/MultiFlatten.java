@@ -8,9 +8,12 @@ import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiConcatMapEagerOp;
 import io.smallrye.mutiny.operators.multi.MultiFlatMapOp;
+import io.smallrye.mutiny.operators.multi.MultiFlatMapUniOp;
 
 /**
  * The object to tune the <em>flatMap</em> operation
@@ -21,6 +24,8 @@ import io.smallrye.mutiny.operators.multi.MultiFlatMapOp;
 public class MultiFlatten<I, O> {
 
     private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+    // The mapper producing Unis, when the flatten operation comes from `transformToUni`, null otherwise
+    private final Function<? super I, ? extends Uni<? extends O>> uniMapper;
     private final Multi<I> upstream;
 
     private final int requests;
@@ -29,8 +34,16 @@ public class MultiFlatten<I, O> {
     MultiFlatten(Multi<I> upstream,
             Function<? super I, ? extends Publisher<? extends O>> mapper,
             int requests, boolean collectFailures) {
+        this(upstream, mapper, null, requests, collectFailures);
+    }
+
+    MultiFlatten(Multi<I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            Function<? super I, ? extends Uni<? extends O>> uniMapper,
+            int requests, boolean collectFailures) {
         this.upstream = upstream;
         this.mapper = mapper;
+        this.uniMapper = uniMapper;
         this.requests = requests;
         this.collectFailureUntilCompletion = collectFailures;
     }
@@ -45,7 +58,7 @@ public class MultiFlatten<I, O> {
      * @return this {@link MultiFlatten}
      */
     public MultiFlatten<I, O> collectFailures() {
-        return new MultiFlatten<>(upstream, mapper, requests, true);
+        return new MultiFlatten<>(upstream, mapper, uniMapper, requests, true);
     }
 
     /**
@@ -55,7 +68,8 @@ public class MultiFlatten<I, O> {
      * @return this {@link MultiFlatten}
      */
     public MultiFlatten<I, O> withRequests(int requests) {
-        return new MultiFlatten<>(upstream, mapper, positive(requests, "requests"), collectFailureUntilCompletion);
+        return new MultiFlatten<>(upstream, mapper, uniMapper, positive(requests, "requests"),
+                collectFailureUntilCompletion);
     }
 
     /**
@@ -94,6 +108,11 @@ public class MultiFlatten<I, O> {
      * @return the object to configure the {@code flatMap} operation.
      */
     public Multi<O> merge(int concurrency) {
+        if (uniMapper != null) {
+            // Subscribe to the Unis directly, without adapting them into Multis
+            return Infrastructure.onMultiCreation(
+                    new MultiFlatMapUniOp<>(upstream, uniMapper, collectFailureUntilCompletion, concurrency));
+        }
         return Infrastructure.onMultiCreation(
                 new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, requests));
     }
@@ -113,7 +132,37 @@ public class MultiFlatten<I, O> {
      * @return the object to configure the {@code concatMap} operation.
      */
     public Multi<O> concatenate() {
+        if (uniMapper != null) {
+            // With a concurrency of 1, the items are emitted in order
+            return Infrastructure.onMultiCreation(
+                    new MultiFlatMapUniOp<>(upstream, uniMapper, collectFailureUntilCompletion, 1));
+        }
         return Infrastructure.onMultiCreation(
                 new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, 1, requests));
     }
+
+    /**
+     * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
+     * item emitted by this {@link Multi}.
+     * <p>
+     * The operators behaves as follows:
+     * <ul>
+     * <li>for each item emitted by this {@link Multi}, the mapper is called and produces a {@link Publisher}
+     * (potentially a {@code Multi}). The mapper must not return {@code null}</li>
+     * <li>up to {@code concurrency} produced {@link Publisher} are subscribed <strong>eagerly</strong>, and their items
+     * are buffered (see {@link #withRequests(int)})</li>
+     * <li>The items contained in each of the produced {@link Publisher} are then <strong>concatenated</strong> in the
+     * produced {@link Multi}, in the order of the items emitted by this {@link Multi}.</li>
+     * </ul>
+     * <p>
+     * Unlike {@link #concatenate()}, the inner streams are processed concurrently, and unlike {@link #merge(int)}, the
+     * order is preserved.
+     *
+     * @param concurrency the maximum number of in-flight/subscribed inner streams, must be strictly positive
+     * @return the object to configure the {@code concatMapEager} operation.
+     */
+    public Multi<O> concatenateEagerly(int concurrency) {
+        return Infrastructure.onMultiCreation(
+                new MultiConcatMapEagerOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, requests));
+    }
 }
@@ -1,9 +1,13 @@
 package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
+import java.time.Duration;
 import java.util.function.Function;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.GroupedMulti;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -13,8 +17,19 @@ public class MultiGroup<T> {
 
     private final Multi<T> upstream;
 
+    private final int requests;
+    private final int maxGroups;
+    private final Duration evictIdleAfter;
+
     public MultiGroup(Multi<T> upstream) {
+        this(upstream, MultiGroupByOp.DEFAULT_REQUESTS, Integer.MAX_VALUE, null);
+    }
+
+    private MultiGroup(Multi<T> upstream, int requests, int maxGroups, Duration evictIdleAfter) {
         this.upstream = nonNull(upstream, "upstream");
+        this.requests = requests;
+        this.maxGroups = maxGroups;
+        this.evictIdleAfter = evictIdleAfter;
     }
 
     /**
@@ -39,17 +54,64 @@ public class MultiGroup<T> {
         return new MultiGroupIntoMultis<>(upstream);
     }
 
-    // TODO grouping can also have prefetch and failure collection delay.
+    // TODO grouping can also have failure collection delay.
+
+    /**
+     * Configures the number of items requested upstream by {@link #by(Function)}, and replenished as the groups
+     * consume their items. It bounds the number of items buffered by the groups.
+     * By default, 128 items are requested.
+     *
+     * @param requests the requests, must be strictly positive
+     * @return a new {@link MultiGroup} with the given configuration
+     * @apiNote This is an experimental API
+     */
+    @Experimental("Bounded grouping is an experimental feature at this stage")
+    public MultiGroup<T> withRequests(int requests) {
+        return new MultiGroup<>(upstream, positive(requests, "requests"), maxGroups, evictIdleAfter);
+    }
+
+    /**
+     * Bounds the number of groups created by {@link #by(Function)}. Once reached, the least recently used group, i.e.,
+     * the group which has not received an item for the longest time, is completed. A later item with the key of a
+     * completed group creates a new group.
+     * By default, the number of groups is not bounded.
+     *
+     * @param maxGroups the maximum number of groups, must be strictly positive
+     * @return a new {@link MultiGroup} with the given configuration
+     * @apiNote This is an experimental API
+     */
+    @Experimental("Bounded grouping is an experimental feature at this stage")
+    public MultiGroup<T> withMaxGroups(int maxGroups) {
+        return new MultiGroup<>(upstream, requests, positive(maxGroups, "maxGroups"), evictIdleAfter);
+    }
+
+    /**
+     * Completes the groups created by {@link #by(Function)} which have not received an item for the given duration.
+     * The check runs periodically on the default worker pool, so a group is completed after being idle for at least
+     * the given duration (and at most twice the duration). A later item with the key of a completed group creates a
+     * new group.
+     * By default, the groups are not completed until the upstream terminates.
+     *
+     * @param duration the duration, must not be {@code null}, must be strictly positive
+     * @return a new {@link MultiGroup} with the given configuration
+     * @apiNote This is an experimental API
+     */
+    @Experimental("Bounded grouping is an experimental feature at this stage")
+    public MultiGroup<T> evictIdleAfter(Duration duration) {
+        return new MultiGroup<>(upstream, requests, maxGroups, validate(duration, "duration"));
+    }
 
     public <K> Multi<GroupedMulti<K, T>> by(Function<? super T, ? extends K> keyMapper) {
         Function<? super T, ? extends K> mapper = nonNull(keyMapper, "keyMapper");
-        return Infrastructure.onMultiCreation(new MultiGroupByOp<>(upstream, mapper, x -> x));
+        return Infrastructure.onMultiCreation(
+                new MultiGroupByOp<>(upstream, mapper, x -> x, requests, maxGroups, evictIdleAfter));
     }
 
     public <K, V> Multi<GroupedMulti<K, V>> by(Function<? super T, ? extends K> keyMapper,
             Function<? super T, ? extends V> valueMapper) {
         Function<? super T, ? extends K> k = nonNull(keyMapper, "keyMapper");
         Function<? super T, ? extends V> v = nonNull(valueMapper, "valueMapper");
-        return Infrastructure.onMultiCreation(new MultiGroupByOp<>(upstream, k, v));
+        return Infrastructure.onMultiCreation(
+                new MultiGroupByOp<>(upstream, k, v, requests, maxGroups, evictIdleAfter));
     }
 }
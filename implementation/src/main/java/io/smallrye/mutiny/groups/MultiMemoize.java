@@ -0,0 +1,92 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.operators.multi.MultiCacheOp;
+
+/**
+ * Configures the memoization of the events emitted by a {@link Multi}.
+ * <p>
+ * The returned {@link Multi} subscribes to the upstream once (on the first subscription), stores the items and
+ * replays them to every subscriber. The failure or completion event is always replayed.
+ * <p>
+ * The bounded variants only retain a <em>window</em> of items: subscribers arriving late only receive the items
+ * from this window (and then the subsequent items). Subscribers that are already replaying the stream are not
+ * affected by the eviction and receive all the items.
+ *
+ * @param <T> the type of item
+ */
+@Experimental("Memoization is an experimental feature at this stage")
+public class MultiMemoize<T> {
+
+    private final AbstractMulti<T> upstream;
+
+    public MultiMemoize(AbstractMulti<T> upstream) {
+        this.upstream = nonNull(upstream, "upstream");
+    }
+
+    /**
+     * Memoize all the items and the terminal event.
+     * This is equivalent to {@link Multi#cache()}.
+     *
+     * @return a new {@link Multi}
+     * @apiNote This is an experimental API
+     */
+    public Multi<T> indefinitely() {
+        return Infrastructure.onMultiCreation(new MultiCacheOp<>(upstream));
+    }
+
+    /**
+     * Memoize the last {@code size} items and the terminal event.
+     * <p>
+     * Late subscribers receive at most the {@code size} last items received from the upstream before their
+     * subscription.
+     *
+     * @param size the maximum number of items to replay, must be strictly positive
+     * @return a new {@link Multi}
+     * @apiNote This is an experimental API
+     */
+    public Multi<T> atMost(int size) {
+        positive(size, "size");
+        return Infrastructure.onMultiCreation(new MultiCacheOp<>(upstream, size, null));
+    }
+
+    /**
+     * Memoize the items received during the last {@code duration} and the terminal event.
+     * <p>
+     * Late subscribers only receive the items that have been received from the upstream less than
+     * {@code duration} before their subscription.
+     *
+     * @param duration the maximum age of the items to replay, must not be {@code null}, must be strictly positive
+     * @return a new {@link Multi}
+     * @apiNote This is an experimental API
+     */
+    public Multi<T> forDuration(Duration duration) {
+        Duration validated = validate(duration, "duration");
+        return Infrastructure.onMultiCreation(new MultiCacheOp<>(upstream, Integer.MAX_VALUE, validated));
+    }
+
+    /**
+     * Memoize at most the last {@code size} items received during the last {@code duration}, and the terminal event.
+     * <p>
+     * An item is evicted as soon as one of the bound is reached.
+     *
+     * @param size the maximum number of items to replay, must be strictly positive
+     * @param duration the maximum age of the items to replay, must not be {@code null}, must be strictly positive
+     * @return a new {@link Multi}
+     * @apiNote This is an experimental API
+     */
+    public Multi<T> atMost(int size, Duration duration) {
+        positive(size, "size");
+        Duration validated = validate(duration, "duration");
+        return Infrastructure.onMultiCreation(new MultiCacheOp<>(upstream, size, validated));
+    }
+}
@@ -52,7 +52,7 @@ public class MultiOnItem<T> {
      * @return the new {@link Multi}
      */
     public <R> Multi<R> transform(Function<? super T, ? extends R> mapper) {
-        return Infrastructure.onMultiCreation(new MultiMapOp<>(upstream, nonNull(mapper, "mapper")));
+        return Infrastructure.onMultiCreation(MultiFusedOp.map(upstream, nonNull(mapper, "mapper")));
     }
 
     /**
@@ -67,7 +67,7 @@ public class MultiOnItem<T> {
      * @return the new {@link Multi}
      */
     public Multi<T> invoke(Consumer<? super T> callback) {
-        return Infrastructure.onMultiCreation(new MultiOnItemInvoke<>(upstream, callback));
+        return Infrastructure.onMultiCreation(MultiFusedOp.invoke(upstream, callback));
     }
 
     /**
@@ -341,7 +341,7 @@ public class MultiOnItem<T> {
     public <O> MultiFlatten<T, O> transformToUni(Function<? super T, Uni<? extends O>> mapper) {
         nonNull(mapper, "mapper");
         Function<? super T, ? extends Publisher<? extends O>> wrapper = res -> mapper.apply(res).toMulti();
-        return new MultiFlatten<>(upstream, wrapper, 1, false);
+        return new MultiFlatten<>(upstream, wrapper, mapper, 1, false);
     }
 
     /**
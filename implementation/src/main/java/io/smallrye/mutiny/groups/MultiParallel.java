@@ -0,0 +1,188 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiOrderedMergeOp;
+import io.smallrye.mutiny.operators.multi.MultiRailDispatcher;
+
+/**
+ * Splits the items emitted by a {@link Multi} onto several <em>rails</em>, processed in parallel, and merges them
+ * back.
+ * <p>
+ * The items are dispatched onto the rails in round-robin order. The operations configured on this object
+ * ({@link #map(Function)}, {@link #filter(Predicate)}, {@link #invoke(Consumer)}) are applied independently on each
+ * rail. They run on the thread emitting the items, unless {@link #runOn(Executor)} moves the following operations to
+ * an executor, so that the rails run concurrently.
+ * <p>
+ * {@link #sequential()} merges the rails as the items are produced, while {@link #sequentialOrdered()} preserves the
+ * upstream order.
+ *
+ * <pre>
+ * {@code
+ * Multi<Enriched> enriched = multi
+ *      .parallel(4)
+ *      .runOn(executor)
+ *      .map(this::enrich)
+ *      .sequential();
+ * }
+ * </pre>
+ *
+ * @param <T> the type of item
+ */
+@Experimental("Parallel rails are an experimental feature at this stage")
+public class MultiParallel<T> {
+
+    private final Multi<?> upstream;
+    private final int rails;
+
+    // The operations applied on each rail, when merging the rails as items are produced
+    private final Function<Multi<Object>, Multi<Object>> unordered;
+    // The same operations, replacing the filtered items by MultiOrderedMergeOp.SKIPPED to keep the rails aligned
+    private final Function<Multi<Object>, Multi<Object>> ordered;
+
+    public MultiParallel(Multi<T> upstream, int rails) {
+        this(nonNull(upstream, "upstream"), positive(rails, "rails"), Function.identity(), Function.identity());
+    }
+
+    private MultiParallel(Multi<?> upstream, int rails, Function<Multi<Object>, Multi<Object>> unordered,
+            Function<Multi<Object>, Multi<Object>> ordered) {
+        this.upstream = upstream;
+        this.rails = rails;
+        this.unordered = unordered;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Transforms the items on each rail.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not produce {@code null}
+     * @param <R> the type of the produced items
+     * @return the rails emitting the transformed items
+     * @apiNote This is an experimental API
+     */
+    @SuppressWarnings("unchecked")
+    public <R> MultiParallel<R> map(Function<? super T, ? extends R> mapper) {
+        Function<Object, Object> function = (Function<Object, Object>) nonNull(mapper, "mapper");
+        return new MultiParallel<>(upstream, rails,
+                unordered.andThen(rail -> rail.map(function)),
+                ordered.andThen(rail -> rail.map(item -> item == MultiOrderedMergeOp.SKIPPED ? item
+                        : function.apply(item))));
+    }
+
+    /**
+     * Keeps the items passing the given predicate on each rail.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the rails emitting the items passing the predicate
+     * @apiNote This is an experimental API
+     */
+    @SuppressWarnings("unchecked")
+    public MultiParallel<T> filter(Predicate<? super T> predicate) {
+        Predicate<Object> test = (Predicate<Object>) nonNull(predicate, "predicate");
+        return new MultiParallel<>(upstream, rails,
+                unordered.andThen(rail -> rail.transform().byFilteringItemsWith(test)),
+                ordered.andThen(rail -> rail.map(item -> item == MultiOrderedMergeOp.SKIPPED || !test.test(item)
+                        ? MultiOrderedMergeOp.SKIPPED
+                        : item)));
+    }
+
+    /**
+     * Invokes the given callback for each item on each rail.
+     *
+     * @param callback the callback, must not be {@code null}
+     * @return the rails
+     * @apiNote This is an experimental API
+     */
+    @SuppressWarnings("unchecked")
+    public MultiParallel<T> invoke(Consumer<? super T> callback) {
+        Consumer<Object> consumer = (Consumer<Object>) nonNull(callback, "callback");
+        return new MultiParallel<>(upstream, rails,
+                unordered.andThen(rail -> rail.onItem().invoke(consumer)),
+                ordered.andThen(rail -> rail.onItem().invoke(item -> {
+                    if (item != MultiOrderedMergeOp.SKIPPED) {
+                        consumer.accept(item);
+                    }
+                })));
+    }
+
+    /**
+     * Runs the following operations of each rail on the given executor. Each rail emits its items from the executor
+     * independently, so the rails run concurrently if the executor provides several threads.
+     *
+     * @param executor the executor, must not be {@code null}
+     * @return the rails
+     * @apiNote This is an experimental API
+     */
+    public MultiParallel<T> runOn(Executor executor) {
+        nonNull(executor, "executor");
+        return new MultiParallel<>(upstream, rails,
+                unordered.andThen(rail -> rail.emitOn(executor)),
+                ordered.andThen(rail -> rail.emitOn(executor)));
+    }
+
+    /**
+     * @return the number of rails
+     */
+    public int rails() {
+        return rails;
+    }
+
+    /**
+     * Merges the rails into a single {@link Multi}, emitting the items as soon as they are produced by the rails.
+     * The upstream order is not preserved.
+     *
+     * @return the merged {@link Multi}
+     * @apiNote This is an experimental API
+     */
+    @SuppressWarnings("unchecked")
+    public Multi<T> sequential() {
+        return Multi.createFrom().deferred(() -> {
+            List<Publisher<T>> list = new ArrayList<>(rails);
+            for (Multi<Object> rail : dispatch(unordered)) {
+                list.add((Publisher<T>) rail);
+            }
+            return Multi.createBy().merging().withConcurrency(rails).streams(list);
+        });
+    }
+
+    /**
+     * Merges the rails into a single {@link Multi}, emitting the items in the upstream order.
+     * <p>
+     * A slow rail delays the items from the other rails, which are buffered in the meantime.
+     *
+     * @return the merged {@link Multi}
+     * @apiNote This is an experimental API
+     */
+    public Multi<T> sequentialOrdered() {
+        return Multi.createFrom().deferred(
+                () -> Infrastructure.onMultiCreation(new MultiOrderedMergeOp<T>(dispatch(ordered), Queues.BUFFER_S)));
+    }
+
+    /**
+     * Creates the rails for a new subscription, and applies the operations on each of them.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Multi<Object>> dispatch(Function<Multi<Object>, Multi<Object>> operations) {
+        MultiRailDispatcher<Object> dispatcher = new MultiRailDispatcher<>((Multi<Object>) upstream, rails,
+                Queues.BUFFER_S);
+        List<Multi<Object>> list = new ArrayList<>(rails);
+        for (Multi<Object> rail : dispatcher.rails()) {
+            list.add(operations.apply(rail));
+        }
+        return list;
+    }
+}
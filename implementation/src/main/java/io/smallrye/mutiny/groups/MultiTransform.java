@@ -17,7 +17,7 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.MultiTransformation;
-import io.smallrye.mutiny.operators.multi.MultiFilterOp;
+import io.smallrye.mutiny.operators.multi.MultiFusedOp;
 import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
 
 public class MultiTransform<T> {
@@ -94,7 +94,7 @@ public class MultiTransform<T> {
      * @return the produced {@link Multi}
      */
     public Multi<T> byFilteringItemsWith(Predicate<? super T> predicate) {
-        return Infrastructure.onMultiCreation(new MultiFilterOp<>(upstream, nonNull(predicate, "predicate")));
+        return Infrastructure.onMultiCreation(MultiFusedOp.filter(upstream, nonNull(predicate, "predicate")));
     }
 
     /**
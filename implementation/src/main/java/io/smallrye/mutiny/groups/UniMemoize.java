@@ -70,6 +70,47 @@ public class UniMemoize<T> {
         });
     }
 
+    /**
+     * Memoize the received item or failure, and refresh it in the background once it is older than the given
+     * duration.
+     * <p>
+     * Unlike {@link #atLeast(Duration)}, subscribers never wait for the refresh: the first subscriber arriving after
+     * the duration has elapsed receives the memoized (stale) item or failure, and triggers a single re-subscription
+     * to the upstream on the {@link Infrastructure#getDefaultExecutor() default executor}. The new item or failure
+     * replaces the memoized one once received.
+     * <p>
+     * If the refresh fails while an item is memoized, the stale item is kept and refreshed again after the duration.
+     * Use {@link #refreshAfter(Duration, boolean)} to memoize the failure instead. A refresh that has not terminated
+     * after the duration is cancelled, and the next subscriber triggers a new one.
+     *
+     * @param duration the duration after which the memoized item or failure is refreshed, must not be {@code null},
+     *        must be strictly positive
+     * @return a new {@link Uni}
+     * @apiNote This is an experimental API
+     */
+    public Uni<T> refreshAfter(Duration duration) {
+        return refreshAfter(duration, true);
+    }
+
+    /**
+     * Memoize the received item or failure, and refresh it in the background once it is older than the given
+     * duration.
+     * <p>
+     * This method behaves like {@link #refreshAfter(Duration)}, but lets you choose what happens when the refresh
+     * fails while an item is memoized.
+     *
+     * @param duration the duration after which the memoized item or failure is refreshed, must not be {@code null},
+     *        must be strictly positive
+     * @param staleOnFailure {@code true} to keep serving the stale item when the refresh fails, {@code false} to
+     *        memoize the failure
+     * @return a new {@link Uni}
+     * @apiNote This is an experimental API
+     */
+    public Uni<T> refreshAfter(Duration duration, boolean staleOnFailure) {
+        Duration validatedDuration = validate(duration, "duration");
+        return Infrastructure.onUniCreation(new UniMemoizeOp<>(upstream, validatedDuration, staleOnFailure));
+    }
+
     /**
      * Memoize the received item or failure indefinitely.
      * 
@@ -77,6 +118,6 @@ public class UniMemoize<T> {
      * @apiNote This is an experimental API
      */
     public Uni<T> indefinitely() {
-        return this.until(() -> false);
+        return Infrastructure.onUniCreation(new UniMemoizeOp<>(upstream));
     }
 }
@@ -0,0 +1,73 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.UniMemoizer;
+
+/**
+ * Configures a keyed memoization cache.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of item
+ * @see Uni#memoizeBy(Function)
+ */
+@Experimental("Memoization is an experimental feature at this stage")
+public class UniMemoizeBy<K, V> {
+
+    private final Function<K, Uni<V>> function;
+
+    private int maxSize = Integer.MAX_VALUE;
+    private Duration expireAfter;
+
+    public UniMemoizeBy(Function<K, Uni<V>> function) {
+        this.function = function;
+    }
+
+    /**
+     * Bounds the number of entries. Once reached, the entries are evicted with a W-TinyLFU policy rather than in
+     * least recently used order: a new entry first goes through a small admission window, and then only replaces an
+     * existing entry if its key has been requested more often, as estimated by a frequency sketch. So a new entry can
+     * be evicted while an older, frequently requested entry is kept.
+     * The eviction happens during the maintenance following the lookups, not immediately on insertion, so the cache
+     * can briefly exceed the maximum size.
+     * By default, the number of entries is not bounded.
+     *
+     * @param maxSize the maximum number of entries, must be strictly positive
+     * @return this object to configure the memoization cache
+     * @apiNote This is an experimental API
+     */
+    public UniMemoizeBy<K, V> withMaxSize(int maxSize) {
+        this.maxSize = positive(maxSize, "maxSize");
+        return this;
+    }
+
+    /**
+     * Expires the entries after the given duration, measured from their creation.
+     * The next lookup for an expired key calls the function again.
+     * By default, the entries do not expire.
+     *
+     * @param duration the duration, must not be {@code null}, must be strictly positive
+     * @return this object to configure the memoization cache
+     * @apiNote This is an experimental API
+     */
+    public UniMemoizeBy<K, V> expireAfter(Duration duration) {
+        this.expireAfter = validate(duration, "duration");
+        return this;
+    }
+
+    /**
+     * Creates the memoization cache.
+     *
+     * @return the new memoization cache
+     * @apiNote This is an experimental API
+     */
+    public UniMemoizer<K, V> create() {
+        return new UniMemoizer<>(function, maxSize, expireAfter);
+    }
+}
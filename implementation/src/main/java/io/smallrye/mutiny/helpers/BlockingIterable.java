@@ -4,16 +4,16 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.SUPPLIER_PRODUCED_N
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -38,7 +38,7 @@ public class BlockingIterable<T> implements Iterable<T> {
     }
 
     @Override
-    public Iterator<T> iterator() {
+    public DrainableIterator<T> iterator() {
         SubscriberIterator<T> iterator = create();
         Subscriber<? super T> actual = Infrastructure.onMultiSubscription(upstream, iterator);
         upstream.subscribe(actual);
@@ -86,8 +86,27 @@ public class BlockingIterable<T> implements Iterable<T> {
         }
     }
 
+    /**
+     * An {@link Iterator} over the items of the upstream, which can also drain them in bulk.
+     *
+     * @param <T> the type of item
+     */
+    public interface DrainableIterator<T> extends Iterator<T> {
+
+        /**
+         * Moves the available items into the given collection, blocking until at least one item is available or the
+         * upstream terminates.
+         *
+         * @param collection the collection receiving the items, must not be {@code null}
+         * @param max the maximum number of items to move, must be strictly positive
+         * @return the number of items moved, {@code 0} if the upstream has completed and all the items have been
+         *         consumed
+         */
+        int drainTo(Collection<? super T> collection, int max);
+    }
+
     @SuppressWarnings("ReactiveStreamsSubscriberImplementation")
-    private static final class SubscriberIterator<T> implements Subscriber<T>, Iterator<T> {
+    private static final class SubscriberIterator<T> implements Subscriber<T>, DrainableIterator<T> {
 
         private final Queue<T> queue;
 
@@ -95,31 +114,32 @@ public class BlockingIterable<T> implements Iterable<T> {
 
         private final int limit;
 
-        private final Lock lock;
-
-        private final Condition condition;
-
         long produced;
 
         AtomicReference<Subscription> subscription = new AtomicReference<>();
 
-        AtomicBoolean done = new AtomicBoolean();
+        volatile boolean done;
+
+        // The consumer thread, set only while it is about to park
+        volatile Thread waiter;
+
+        // Incremented after each item, failure or completion, re-checked by the consumer before parking
+        final AtomicInteger signals = new AtomicInteger();
 
         Throwable failure;
 
         SubscriberIterator(Queue<T> queue, int batchSize) {
             this.queue = queue;
             this.batchSize = batchSize;
-            this.limit = batchSize;
-            this.lock = new ReentrantLock();
-            this.condition = lock.newCondition();
+            // Replenish before the queue is empty to keep the upstream busy
+            this.limit = batchSize - (batchSize >> 2);
         }
 
         @Override
         public boolean hasNext() {
 
             while (true) {
-                boolean actualDone = done.get();
+                boolean actualDone = done;
                 boolean empty = queue.isEmpty();
 
                 // We are done, no more data.
@@ -140,18 +160,7 @@ public class BlockingIterable<T> implements Iterable<T> {
                         throw new IllegalStateException(
                                 "The current thread cannot be blocked: " + Thread.currentThread().getName());
                     }
-                    lock.lock();
-                    try {
-                        while (!done.get() && queue.isEmpty()) {
-                            condition.await();
-                        }
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        terminateAndFire();
-                        propagateFailure(e);
-                    } finally {
-                        lock.unlock();
-                    }
+                    await();
                     // Go to the next iteration, to get what happened (items, failure, completion)
                 } else {
                     return true;
@@ -159,41 +168,96 @@ public class BlockingIterable<T> implements Iterable<T> {
             }
         }
 
+        private void await() {
+            // Register as waiter before checking again, so a concurrent signal cannot be missed: either the consumer
+            // sees the new signal count and does not park, or the producer sees the waiter and unparks it
+            int observed = signals.get();
+            waiter = Thread.currentThread();
+            try {
+                while (!done && queue.isEmpty()) {
+                    if (signals.get() == observed) {
+                        LockSupport.park(this);
+                        if (Thread.interrupted()) {
+                            Thread.currentThread().interrupt();
+                            terminate();
+                            propagateFailure(new InterruptedException());
+                        }
+                    }
+                    observed = signals.get();
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+
         @Override
         public T next() {
             if (hasNext()) {
-                T v = queue.poll();
-                if (v == null) {
-                    terminate();
-                    propagateFailure(new IllegalArgumentException("`null` is not an accepted value"));
-                }
-
-                long numberOfProducedItems = produced + 1;
-                if (numberOfProducedItems == limit) {
-                    produced = 0;
-                    subscription.get().request(numberOfProducedItems);
-                } else {
-                    produced = numberOfProducedItems;
-                }
-
+                T v = poll();
+                replenish(1);
                 return v;
             }
             // This is do be compliant with the spec of #next.
             throw new NoSuchElementException();
         }
 
-        void fire() {
-            lock.lock();
-            try {
-                condition.signalAll();
-            } finally {
-                lock.unlock();
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            nonNull(action, "action");
+            while (hasNext()) {
+                int count = 0;
+                // Consume the available items, replenishing by batch
+                while (count < limit && !queue.isEmpty()) {
+                    action.accept(poll());
+                    count++;
+                }
+                replenish(count);
             }
         }
 
-        private void terminateAndFire() {
-            terminate();
-            fire();
+        @Override
+        public int drainTo(Collection<? super T> collection, int max) {
+            nonNull(collection, "collection");
+            positive(max, "max");
+            if (!hasNext()) {
+                return 0;
+            }
+            int count = 0;
+            while (count < max && !queue.isEmpty()) {
+                collection.add(poll());
+                count++;
+            }
+            replenish(count);
+            return count;
+        }
+
+        private T poll() {
+            T v = queue.poll();
+            if (v == null) {
+                terminate();
+                propagateFailure(new IllegalArgumentException("`null` is not an accepted value"));
+            }
+            return v;
+        }
+
+        private void replenish(int consumed) {
+            long numberOfProducedItems = produced + consumed;
+            if (numberOfProducedItems >= limit) {
+                produced = 0;
+                subscription.get().request(numberOfProducedItems);
+            } else {
+                produced = numberOfProducedItems;
+            }
+        }
+
+        void fire() {
+            // The increment is a full fence: the item or terminal state is published before reading the waiter
+            signals.getAndIncrement();
+            // Only signal the consumer if it is parked, or about to park
+            Thread thread = waiter;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
         }
 
         private void terminate() {
@@ -223,13 +287,13 @@ public class BlockingIterable<T> implements Iterable<T> {
         @Override
         public void onError(Throwable t) {
             failure = t;
-            done.set(true);
+            done = true;
             fire();
         }
 
         @Override
         public void onComplete() {
-            done.set(true);
+            done = true;
             fire();
         }
 
@@ -3,6 +3,7 @@ package io.smallrye.mutiny.helpers;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 
 import org.reactivestreams.Processor;
 import org.reactivestreams.Subscriber;
@@ -17,7 +18,9 @@ public class MultiEmitterProcessor<T> implements Processor<T, T>, MultiEmitter<T
     private final UnicastProcessor<T> processor;
     private final AtomicReference<Runnable> onTermination = new AtomicReference<>();
     private final AtomicBoolean terminated = new AtomicBoolean();
+    // The outstanding demand, negative when items are emitted ahead of the requests and buffered
     private final AtomicLong requested = new AtomicLong();
+    private final MultiEmitterRequests requests = new MultiEmitterRequests(this, this::addRequests);
 
     private MultiEmitterProcessor() {
         this.processor = UnicastProcessor.create();
@@ -49,6 +52,44 @@ public class MultiEmitterProcessor<T> implements Processor<T, T>, MultiEmitter<T
         return this;
     }
 
+    @Override
+    public MultiEmitter<T> onRequest(LongConsumer onRequest) {
+        requests.onRequest(onRequest);
+        return this;
+    }
+
+    /**
+     * Adds {@code n} requests to the outstanding demand.
+     *
+     * @param n the number of requested items, positive
+     * @return the new demand, excluding the requests matching the items already emitted
+     */
+    private long addRequests(long n) {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return n;
+            }
+            long update = current + n;
+            if (update < current) {
+                // Overflow
+                update = Long.MAX_VALUE;
+            }
+            if (requested.compareAndSet(current, update)) {
+                return update == Long.MAX_VALUE ? n : update - Math.max(current, 0L);
+            }
+        }
+    }
+
+    private void produced() {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE || requested.compareAndSet(current, current - 1)) {
+                return;
+            }
+        }
+    }
+
     @Override
     public boolean isCancelled() {
         return terminated.get();
@@ -56,7 +97,7 @@ public class MultiEmitterProcessor<T> implements Processor<T, T>, MultiEmitter<T
 
     @Override
     public long requested() {
-        return requested.get();
+        return Math.max(requested.get(), 0L);
     }
 
     @SuppressWarnings("SubscriberImplementation")
@@ -68,8 +109,10 @@ public class MultiEmitterProcessor<T> implements Processor<T, T>, MultiEmitter<T
                 subscriber.onSubscribe(new Subscription() {
                     @Override
                     public void request(long l) {
-                        Subscriptions.add(requested, l);
                         subscription.request(l);
+                        if (l > 0) {
+                            requests.request(l);
+                        }
                     }
 
                     @Override
@@ -101,6 +144,7 @@ public class MultiEmitterProcessor<T> implements Processor<T, T>, MultiEmitter<T
 
     private void fireTermination() {
         if (terminated.compareAndSet(false, true)) {
+            requests.clear();
             Runnable runnable = onTermination.getAndSet(null);
             if (runnable != null) {
                 runnable.run();
@@ -115,7 +159,7 @@ public class MultiEmitterProcessor<T> implements Processor<T, T>, MultiEmitter<T
 
     @Override
     public void onNext(T item) {
-        Subscriptions.subtract(requested, 1);
+        produced();
         processor.onNext(item);
     }
 
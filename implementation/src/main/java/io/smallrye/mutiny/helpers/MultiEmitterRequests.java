@@ -0,0 +1,111 @@
+package io.smallrye.mutiny.helpers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * Records the requests received by a {@link MultiEmitter} and notifies its request handler (see
+ * {@link MultiEmitter#onRequest(LongConsumer)}).
+ * <p>
+ * The requests and the registration of the handler are applied one at a time. It ensures that a request concurrent
+ * with the registration of the handler is either included in the initial notification, or notified on its own, but
+ * never twice.
+ */
+public final class MultiEmitterRequests {
+
+    private final MultiEmitter<?> emitter;
+    private final LongUnaryOperator addRequests;
+
+    private final AtomicLong pendingRequests = new AtomicLong();
+    private final AtomicReference<LongConsumer> pendingOnRequest = new AtomicReference<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile LongConsumer onRequest;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param emitter the emitter, providing the outstanding demand, the cancellation state, and failed when the
+     *        handler throws an exception
+     * @param addRequests adds the given requests to the outstanding demand of the emitter, and returns the new demand
+     *        to notify to the handler
+     */
+    public MultiEmitterRequests(MultiEmitter<?> emitter, LongUnaryOperator addRequests) {
+        this.emitter = emitter;
+        this.addRequests = addRequests;
+    }
+
+    /**
+     * Records {@code n} requests.
+     *
+     * @param n the number of requested items, must be strictly positive
+     */
+    public void request(long n) {
+        Subscriptions.add(pendingRequests, n);
+        drain();
+    }
+
+    /**
+     * Registers the request handler, replacing the current one. The handler is notified right away of the outstanding
+     * demand, if any.
+     *
+     * @param onRequest the handler, must not be {@code null}
+     */
+    public void onRequest(LongConsumer onRequest) {
+        pendingOnRequest.set(ParameterValidation.nonNull(onRequest, "onRequest"));
+        drain();
+    }
+
+    /**
+     * Releases the request handler, once the emitter is cancelled or terminated.
+     */
+    public void clear() {
+        onRequest = null;
+        pendingOnRequest.lazySet(null);
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            long n = pendingRequests.getAndSet(0L);
+            long demand = n > 0 ? addRequests.applyAsLong(n) : 0L;
+            LongConsumer handler = pendingOnRequest.getAndSet(null);
+            if (handler != null && !emitter.isCancelled()) {
+                onRequest = handler;
+                // The outstanding demand already includes n
+                long r = emitter.requested();
+                if (r > 0) {
+                    notifyRequest(handler, r);
+                }
+            } else if (demand > 0) {
+                LongConsumer consumer = onRequest;
+                if (consumer != null) {
+                    notifyRequest(consumer, demand);
+                }
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void notifyRequest(LongConsumer consumer, long n) {
+        if (emitter.isCancelled()) {
+            return;
+        }
+        try {
+            consumer.accept(n);
+        } catch (Throwable e) {
+            emitter.fail(e);
+        }
+    }
+}
@@ -136,24 +136,27 @@ public class Subscriptions {
     }
 
     public static boolean addFailure(AtomicReference<Throwable> failures, Throwable failure) {
-        Throwable current = failures.get();
+        // Failures can be added concurrently, for example by inner streams
+        for (;;) {
+            Throwable current = failures.get();
 
-        if (current == Subscriptions.TERMINATED) {
-            return false;
-        }
+            if (current == Subscriptions.TERMINATED) {
+                return false;
+            }
 
-        if (current instanceof CompositeException) {
-            failures.set(new CompositeException((CompositeException) current, failure));
-            return true;
-        }
+            Throwable update;
+            if (current instanceof CompositeException) {
+                update = new CompositeException((CompositeException) current, failure);
+            } else if (current == null) {
+                update = failure;
+            } else {
+                update = new CompositeException(current, failure);
+            }
 
-        if (current == null) {
-            failures.set(failure);
-        } else {
-            failures.set(new CompositeException(current, failure));
+            if (failures.compareAndSet(current, update)) {
+                return true;
+            }
         }
-
-        return true;
     }
 
     public static void cancel(AtomicReference<Subscription> reference) {
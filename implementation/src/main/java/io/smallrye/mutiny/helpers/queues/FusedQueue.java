@@ -0,0 +1,58 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+
+import io.smallrye.mutiny.subscription.QueueSubscription;
+
+/**
+ * A {@link java.util.Queue} view on a fused {@link QueueSubscription}, so operators can poll the upstream as they
+ * would poll their own queue.
+ * <p>
+ * Only the consumer side ({@code poll}, {@code isEmpty} and {@code clear}) is supported.
+ *
+ * @param <T> the type of item
+ */
+final class FusedQueue<T> extends AbstractQueue<T> {
+
+    private final QueueSubscription<T> subscription;
+
+    FusedQueue(QueueSubscription<T> subscription) {
+        this.subscription = subscription;
+    }
+
+    @Override
+    public T poll() {
+        return subscription.poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return subscription.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        subscription.clear();
+    }
+
+    @Override
+    public boolean offer(T t) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public T peek() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException();
+    }
+}
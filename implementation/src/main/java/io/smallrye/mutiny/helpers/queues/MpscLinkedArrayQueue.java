@@ -0,0 +1,244 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A multi-producer single consumer unbounded queue, storing the elements in linked chunks (arrays) of a fixed size.
+ * <p>
+ * Producers claim a slot by incrementing the producer index ({@code getAndIncrement}), so they never retry on
+ * contention. The chunk holding a slot is allocated by the first producer reaching it; this is the only CAS on the
+ * offer path, and it happens once per chunk. Compared to {@link MpscLinkedQueue}, it allocates one array per chunk
+ * instead of one node per element.
+ *
+ * @param <T> the contained value type
+ */
+public final class MpscLinkedArrayQueue<T> implements Queue<T> {
+
+    private final int mask;
+    private final int shift;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+    // A hint of the chunk being filled by the producers, may lag behind
+    private final AtomicReference<Chunk<T>> producerChunk;
+
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private final AtomicReference<Chunk<T>> consumerChunk;
+
+    public MpscLinkedArrayQueue(int chunkSize) {
+        int p2capacity = SpscArrayQueue.roundToPowerOfTwo(Math.max(8, chunkSize));
+        this.mask = p2capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(p2capacity);
+        Chunk<T> first = new Chunk<>(0L, p2capacity);
+        this.producerChunk = new AtomicReference<>(first);
+        this.consumerChunk = new AtomicReference<>(first);
+    }
+
+    @Override
+    public boolean add(T t) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * IMPLEMENTATION NOTES:<br>
+     * Offer is allowed from multiple threads.<br>
+     * Offer claims an index and:
+     * <ol>
+     * <li>Finds the chunk holding the index, appending the missing chunks if needed
+     * <li>Writes the element in the slot of the chunk
+     * </ol>
+     * A consumer reaching a claimed slot before the element is written spins until it becomes visible, as for
+     * {@link MpscLinkedQueue}.
+     *
+     * @see java.util.Queue#offer(Object)
+     */
+    @Override
+    public boolean offer(final T e) {
+        if (null == e) {
+            throw new NullPointerException("Null is not a valid element");
+        }
+        final long index = producerIndex.getAndIncrement();
+        final Chunk<T> chunk = findChunk(index >>> shift);
+        chunk.elements.lazySet((int) index & mask, e); // StoreStore
+        return true;
+    }
+
+    private Chunk<T> findChunk(long id) {
+        Chunk<T> chunk = producerChunk.get();
+        if (chunk.id > id) {
+            // Another producer already moved to a later chunk. The consumer cannot be past this index as the
+            // element has not been written yet, so the chunk is reachable from the consumer chunk.
+            chunk = consumerChunk.get();
+        }
+        Chunk<T> start = chunk;
+        while (chunk.id < id) {
+            Chunk<T> next = chunk.next.get();
+            if (next == null) {
+                Chunk<T> appended = new Chunk<>(chunk.id + 1, mask + 1);
+                if (chunk.next.compareAndSet(null, appended)) {
+                    next = appended;
+                } else {
+                    next = chunk.next.get();
+                }
+            }
+            chunk = next;
+        }
+        if (chunk != start) {
+            // Move the hint forward, unless another producer moved it further already
+            Chunk<T> current = producerChunk.get();
+            while (current.id < chunk.id && !producerChunk.compareAndSet(current, chunk)) {
+                current = producerChunk.get();
+            }
+        }
+        return chunk;
+    }
+
+    @Override
+    public T remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * IMPLEMENTATION NOTES:<br>
+     * Poll is allowed from a SINGLE thread.<br>
+     * Poll reads the slot at the consumer index and:
+     * <ol>
+     * <li>If the slot is empty and the index has not been claimed by a producer, the queue is empty.
+     * <li>If the slot is empty but the index has been claimed, spins until the element is written.
+     * <li>Otherwise, clears the slot and moves to the next index, and to the next chunk at the end of the current one.
+     * </ol>
+     *
+     * @see java.util.Queue#poll()
+     */
+    @Override
+    public T poll() {
+        final long index = consumerIndex.get();
+        Chunk<T> chunk = consumerChunk.get();
+        final int offset = (int) index & mask;
+        if (chunk.id != index >>> shift) {
+            // The previous chunk is consumed, move to the next one if a producer reached it
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            Chunk<T> next;
+            // spin, the producer claiming the first index of the chunk is appending it
+            //noinspection StatementWithEmptyBody
+            while ((next = chunk.next.get()) == null) {
+            }
+            chunk = next;
+            consumerChunk.lazySet(chunk);
+        }
+        T e = chunk.elements.get(offset);
+        if (e == null) {
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            // spin, we are no longer wait free
+            //noinspection StatementWithEmptyBody
+            while ((e = chunk.elements.get(offset)) == null) {
+            }
+        }
+        chunk.elements.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return e;
+    }
+
+    @Override
+    public T element() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public T peek() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        //noinspection StatementWithEmptyBody
+        while (poll() != null) {
+        }
+    }
+
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * IMPLEMENTATION NOTES:<br>
+     * Queue is empty when the consumer index caught up with the producer index. A claimed slot counts as an
+     * element, even if the producer has not written it yet.
+     */
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    static final class Chunk<E> {
+
+        final long id;
+        final AtomicReferenceArray<E> elements;
+        final AtomicReference<Chunk<E>> next = new AtomicReference<>();
+
+        Chunk(long id, int size) {
+            this.id = id;
+            this.elements = new AtomicReferenceArray<>(size);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package io.smallrye.mutiny.helpers.queues;
 import java.util.Queue;
 import java.util.function.Supplier;
 
+import io.smallrye.mutiny.subscription.QueueSubscription;
+
 @SuppressWarnings({ "rawtypes", "unchecked" })
 public class Queues {
 
@@ -89,12 +91,24 @@ public class Queues {
 
     /**
      * Creates a new multi-producer single consumer unbounded queue.
+     * The queue is array-backed, and allocates chunks of {@link #BUFFER_XS} elements as needed.
      * 
      * @param <T> the type of item
      * @return the queue
      */
     public static <T> Queue<T> createMpscQueue() {
-        return new MpscLinkedQueue<>();
+        return new MpscLinkedArrayQueue<>(BUFFER_XS);
+    }
+
+    /**
+     * Creates a {@link Queue} polling the items from the given fused subscription.
+     *
+     * @param subscription the subscription, must have accepted the fusion
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> fromSubscription(QueueSubscription<T> subscription) {
+        return new FusedQueue<>(subscription);
     }
 
 }
@@ -3,7 +3,7 @@ package io.smallrye.mutiny.helpers.queues;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Queue;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -11,21 +11,21 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  * <p>
  * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic,
  * and it's RX Java 2 version.
+ * <p>
+ * The producer index and the consumer index are plain {@code volatile} fields updated with field updaters (no extra
+ * allocation), and are separated by padding fields (see the super-classes) so the producer and the consumer threads
+ * do not write to the same cache line. The producer caches the index up to which the buffer is known to be free
+ * ({@code producerLimit}), so it only reads the buffer ahead once in a while.
  *
  * @param <E> the element type of the queue
  */
-public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements Queue<E> {
+public final class SpscArrayQueue<E> extends SpscArrayQueueL3Pad<E> implements Queue<E> {
+    private static final long serialVersionUID = 1L;
+
     private static final Integer MAX_LOOK_AHEAD_STEP = 4096;
-    private final int mask;
-    private final AtomicLong producerIndex = new AtomicLong();
-    private long producerLookAhead;
-    private final AtomicLong consumerIndex = new AtomicLong();
-    private final int lookAheadStep;
 
     public SpscArrayQueue(int capacity) {
-        super(roundToPowerOfTwo(capacity));
-        this.mask = length() - 1;
-        this.lookAheadStep = Math.min(capacity / 4, MAX_LOOK_AHEAD_STEP);
+        super(roundToPowerOfTwo(capacity), MAX_LOOK_AHEAD_STEP);
     }
 
     /**
@@ -46,12 +46,12 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
         }
         // local load of field to avoid repeated loads after volatile reads
         final int mask = this.mask;
-        final long index = producerIndex.get();
+        final long index = producerIndex;
         final int offset = calcElementOffset(index, mask);
-        if (index >= producerLookAhead) {
+        if (index >= producerLimit) {
             int step = lookAheadStep;
             if (null == lvElement(calcElementOffset(index + step, mask))) { // LoadLoad
-                producerLookAhead = index + step;
+                producerLimit = index + step;
             } else if (null != lvElement(offset)) {
                 return false;
             }
@@ -63,7 +63,7 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
 
     @Override
     public E poll() {
-        final long index = consumerIndex.get();
+        final long index = consumerIndex;
         final int offset = calcElementOffset(index);
         // local load of field to avoid repeated loads after volatile reads
         final E e = lvElement(offset); // LoadLoad
@@ -77,10 +77,10 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
 
     @Override
     public int size() {
-        long ci = consumerIndex.get();
+        long ci = consumerIndex;
         for (;;) {
-            long pi = producerIndex.get();
-            long ci2 = consumerIndex.get();
+            long pi = producerIndex;
+            long ci2 = consumerIndex;
             if (ci == ci2) {
                 return (int) (pi - ci);
             }
@@ -89,21 +89,13 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
     }
 
     public E peek() {
-        int offset = (int) consumerIndex.get() & mask;
+        int offset = (int) consumerIndex & mask;
         return get(offset);
     }
 
     @Override
     public boolean isEmpty() {
-        return producerIndex.get() == consumerIndex.get();
-    }
-
-    void soProducerIndex(long newIndex) {
-        producerIndex.lazySet(newIndex);
-    }
-
-    void soConsumerIndex(long newIndex) {
-        consumerIndex.lazySet(newIndex);
+        return producerIndex == consumerIndex;
     }
 
     @Override
@@ -190,3 +182,111 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
         throw new UnsupportedOperationException();
     }
 }
+
+/**
+ * The fields which are only read after the construction.
+ */
+abstract class SpscArrayQueueColdFields<E> extends AtomicReferenceArray<E> {
+    private static final long serialVersionUID = 1L;
+
+    final int mask;
+    final int lookAheadStep;
+
+    SpscArrayQueueColdFields(int capacity, int maxLookAheadStep) {
+        super(capacity);
+        this.mask = capacity - 1;
+        this.lookAheadStep = Math.min(capacity / 4, maxLookAheadStep);
+    }
+}
+
+/**
+ * Padding isolating the cold fields from the producer fields.
+ */
+@SuppressWarnings("unused")
+abstract class SpscArrayQueueL1Pad<E> extends SpscArrayQueueColdFields<E> {
+    private static final long serialVersionUID = 1L;
+
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+
+    SpscArrayQueueL1Pad(int capacity, int maxLookAheadStep) {
+        super(capacity, maxLookAheadStep);
+    }
+}
+
+/**
+ * The fields written by the producer.
+ */
+@SuppressWarnings("rawtypes")
+abstract class SpscArrayQueueProducerFields<E> extends SpscArrayQueueL1Pad<E> {
+    private static final long serialVersionUID = 1L;
+
+    private static final AtomicLongFieldUpdater<SpscArrayQueueProducerFields> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(SpscArrayQueueProducerFields.class, "producerIndex");
+
+    volatile long producerIndex;
+
+    /**
+     * The index up to which the slots are known to be free, only accessed by the producer.
+     */
+    long producerLimit;
+
+    SpscArrayQueueProducerFields(int capacity, int maxLookAheadStep) {
+        super(capacity, maxLookAheadStep);
+    }
+
+    final void soProducerIndex(long newIndex) {
+        PRODUCER_INDEX.lazySet(this, newIndex);
+    }
+}
+
+/**
+ * Padding isolating the producer fields from the consumer fields.
+ */
+@SuppressWarnings("unused")
+abstract class SpscArrayQueueL2Pad<E> extends SpscArrayQueueProducerFields<E> {
+    private static final long serialVersionUID = 1L;
+
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+
+    SpscArrayQueueL2Pad(int capacity, int maxLookAheadStep) {
+        super(capacity, maxLookAheadStep);
+    }
+}
+
+/**
+ * The fields written by the consumer.
+ */
+@SuppressWarnings("rawtypes")
+abstract class SpscArrayQueueConsumerFields<E> extends SpscArrayQueueL2Pad<E> {
+    private static final long serialVersionUID = 1L;
+
+    private static final AtomicLongFieldUpdater<SpscArrayQueueConsumerFields> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(SpscArrayQueueConsumerFields.class, "consumerIndex");
+
+    volatile long consumerIndex;
+
+    SpscArrayQueueConsumerFields(int capacity, int maxLookAheadStep) {
+        super(capacity, maxLookAheadStep);
+    }
+
+    final void soConsumerIndex(long newIndex) {
+        CONSUMER_INDEX.lazySet(this, newIndex);
+    }
+}
+
+/**
+ * Padding isolating the consumer fields from the objects allocated next to the queue.
+ */
+@SuppressWarnings("unused")
+abstract class SpscArrayQueueL3Pad<E> extends SpscArrayQueueConsumerFields<E> {
+    private static final long serialVersionUID = 1L;
+
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+
+    SpscArrayQueueL3Pad(int capacity, int maxLookAheadStep) {
+        super(capacity, maxLookAheadStep);
+    }
+}
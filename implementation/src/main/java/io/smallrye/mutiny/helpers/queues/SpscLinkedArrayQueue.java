@@ -3,7 +3,7 @@ package io.smallrye.mutiny.helpers.queues;
 import java.util.AbstractQueue;
 import java.util.Iterator;
 import java.util.Queue;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -12,22 +12,14 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  * <p>
  * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic,
  * and it's RX Java 2 version.
+ * <p>
+ * The producer and consumer fields are separated by padding fields (see the super-classes), and the indexes are
+ * plain {@code volatile} fields updated with field updaters.
  *
  * @param <E> the element type of the queue
  */
-public final class SpscLinkedArrayQueue<E> extends AbstractQueue<E> implements Queue<E> {
+public final class SpscLinkedArrayQueue<E> extends SpscLinkedArrayQueueL3Pad<E> implements Queue<E> {
     private static final int MAX_LOOK_AHEAD_STEP = 4096;
-    private final AtomicLong producerIndex = new AtomicLong();
-
-    private int producerLookAheadStep;
-    private long producerLookAhead;
-
-    private final int producerMask;
-
-    private AtomicReferenceArray<Object> producerBuffer;
-    private final int consumerMask;
-    private AtomicReferenceArray<Object> consumerBuffer;
-    private final AtomicLong consumerIndex = new AtomicLong();
 
     private static final Object HAS_NEXT = new Object();
 
@@ -208,27 +200,19 @@ public final class SpscLinkedArrayQueue<E> extends AbstractQueue<E> implements Q
     }
 
     private long lvProducerIndex() {
-        return producerIndex.get();
+        return producerIndex;
     }
 
     private long lvConsumerIndex() {
-        return consumerIndex.get();
+        return consumerIndex;
     }
 
     private long lpProducerIndex() {
-        return producerIndex.get();
+        return producerIndex;
     }
 
     private long lpConsumerIndex() {
-        return consumerIndex.get();
-    }
-
-    private void soProducerIndex(long v) {
-        producerIndex.lazySet(v);
-    }
-
-    private void soConsumerIndex(long v) {
-        consumerIndex.lazySet(v);
+        return consumerIndex;
     }
 
     private static int calcWrappedOffset(long index, int mask) {
@@ -286,3 +270,66 @@ public final class SpscLinkedArrayQueue<E> extends AbstractQueue<E> implements Q
         return true;
     }
 }
+
+/**
+ * Padding isolating the producer fields from the header of the object.
+ */
+@SuppressWarnings("unused")
+abstract class SpscLinkedArrayQueueL1Pad<E> extends AbstractQueue<E> {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+/**
+ * The fields accessed by the producer.
+ */
+@SuppressWarnings("rawtypes")
+abstract class SpscLinkedArrayQueueProducerFields<E> extends SpscLinkedArrayQueueL1Pad<E> {
+    private static final AtomicLongFieldUpdater<SpscLinkedArrayQueueProducerFields> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(SpscLinkedArrayQueueProducerFields.class, "producerIndex");
+
+    volatile long producerIndex;
+    int producerLookAheadStep;
+    long producerLookAhead;
+    int producerMask;
+    AtomicReferenceArray<Object> producerBuffer;
+
+    final void soProducerIndex(long v) {
+        PRODUCER_INDEX.lazySet(this, v);
+    }
+}
+
+/**
+ * Padding isolating the producer fields from the consumer fields.
+ */
+@SuppressWarnings("unused")
+abstract class SpscLinkedArrayQueueL2Pad<E> extends SpscLinkedArrayQueueProducerFields<E> {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+/**
+ * The fields accessed by the consumer.
+ */
+@SuppressWarnings("rawtypes")
+abstract class SpscLinkedArrayQueueConsumerFields<E> extends SpscLinkedArrayQueueL2Pad<E> {
+    private static final AtomicLongFieldUpdater<SpscLinkedArrayQueueConsumerFields> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(SpscLinkedArrayQueueConsumerFields.class, "consumerIndex");
+
+    volatile long consumerIndex;
+    int consumerMask;
+    AtomicReferenceArray<Object> consumerBuffer;
+
+    final void soConsumerIndex(long v) {
+        CONSUMER_INDEX.lazySet(this, v);
+    }
+}
+
+/**
+ * Padding isolating the consumer fields from the objects allocated next to the queue.
+ */
+@SuppressWarnings("unused")
+abstract class SpscLinkedArrayQueueL3Pad<E> extends SpscLinkedArrayQueueConsumerFields<E> {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
@@ -0,0 +1,624 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import io.smallrye.mutiny.helpers.queues.Queues;
+
+/**
+ * A {@link ScheduledExecutorService} based on a hashed wheel timer, delegating the execution of the tasks to a
+ * configured {@link Executor}.
+ * <p>
+ * The wheel is an array of buckets, each bucket covering one <em>tick</em>. Scheduling a task only offers it to a
+ * lock-free queue, and a single timer thread moves it to the right bucket on the next tick. Cancelling a task only
+ * marks it as cancelled, and the timer thread unlinks it from its bucket. Both operations are O(1), unlike a
+ * binary-heap based {@link ScheduledThreadPoolExecutor}, which matters when lots of timeouts are scheduled and
+ * cancelled before expiring.
+ * <p>
+ * Tasks never run before their deadline, but may run up to one tick after it. The timer thread is a daemon thread
+ * started on the first scheduled task. It stops after being idle for a while, and is restarted when needed.
+ * <p>
+ * {@link #execute(Runnable)} and tasks scheduled with a non-positive delay are passed to the executor directly.
+ * <p>
+ * Like the default policies of {@link ScheduledThreadPoolExecutor}, {@link #shutdown()} lets the delayed tasks run
+ * when they expire but cancels the periodic tasks, and {@link #shutdownNow()} returns the delayed tasks that have
+ * not been run. The scheduler is terminated once the timer thread has handed its last task to the executor, which
+ * may still be running it.
+ */
+public class HashedWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    /**
+     * The default duration of a tick, in milliseconds. Timeouts and delays do not need a finer resolution, and a
+     * shorter tick wakes the timer thread up more often while tasks are scheduled.
+     */
+    public static final long DEFAULT_TICK_DURATION_IN_MS = Math.max(1,
+            longProperty("mutiny.timer.tick-duration", 10));
+
+    /**
+     * The default number of buckets of the wheel.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = (int) Math.max(16,
+            Math.min(1 << 30, longProperty("mutiny.timer.wheel-size", 512)));
+
+    private static final long IDLE_TIMEOUT_IN_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long MAX_DELAY_IN_NANOS = Long.MAX_VALUE >> 1;
+
+    private static final int STATE_IDLE = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_SHUTDOWN = 2;
+    private static final int STATE_STOP = 3;
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final Executor executor;
+    private final long tickInNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long origin = System.nanoTime();
+
+    /**
+     * Tasks scheduled (or re-scheduled) but not yet placed in a bucket.
+     */
+    private final Queue<WheelTask<?>> pending = Queues.createMpscQueue();
+
+    /**
+     * Tasks cancelled while being in a bucket.
+     */
+    private final Queue<WheelTask<?>> cancelled = Queues.createMpscQueue();
+
+    private final AtomicInteger state = new AtomicInteger(STATE_IDLE);
+    private final CountDownLatch termination = new CountDownLatch(1);
+    private volatile Thread worker;
+    private volatile boolean parked;
+
+    /**
+     * The tasks drained by {@link #shutdownNow()}, published before the termination.
+     */
+    private volatile List<Runnable> unexecuted = Collections.emptyList();
+
+    private static long longProperty(String name, long defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[Mutiny] Invalid value for the `" + name + "` system property: `" + value
+                    + "`, using the default value (" + defaultValue + ")");
+            return defaultValue;
+        }
+    }
+
+    public HashedWheelScheduler(Executor executor) {
+        this(executor, DEFAULT_TICK_DURATION_IN_MS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a new {@link HashedWheelScheduler}.
+     *
+     * @param executor the executor running the tasks, must not be {@code null}
+     * @param tickDuration the duration of a tick, must be positive
+     * @param unit the unit of {@code tickDuration}, must not be {@code null}
+     * @param wheelSize the number of buckets, must be positive, rounded up to the next power of 2
+     */
+    public HashedWheelScheduler(Executor executor, long tickDuration, TimeUnit unit, int wheelSize) {
+        this.executor = nonNull(executor, "executor");
+        this.tickInNanos = nonNull(unit, "unit").toNanos(positive(tickDuration, "tickDuration"));
+        int size = 1;
+        while (size < positive(wheelSize, "wheelSize")) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        return schedule(new WheelTask<>(Executors.callable(command), triggerTime(delay, unit), 0L), delay);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        nonNull(callable, "callable");
+        return schedule(new WheelTask<>(callable, triggerTime(delay, unit), 0L), delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        nonNull(command, "command");
+        long p = nonNull(unit, "unit").toNanos(positive(period, "period"));
+        return schedule(new WheelTask<>(Executors.callable(command), triggerTime(initialDelay, unit), p), initialDelay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        long p = nonNull(unit, "unit").toNanos(positive(delay, "delay"));
+        return schedule(new WheelTask<>(Executors.callable(command), triggerTime(initialDelay, unit), -p),
+                initialDelay);
+    }
+
+    private long triggerTime(long delay, TimeUnit unit) {
+        return triggerTime(nonNull(unit, "unit").toNanos(Math.max(0L, delay)));
+    }
+
+    /**
+     * Computes the deadline of a task. Like {@link java.util.concurrent.ScheduledThreadPoolExecutor}, the delay is
+     * clamped so that the deadline does not overflow: a huge delay (such as {@code Long.MAX_VALUE} nanoseconds) is
+     * postponed to about 146 years instead of wrapping to a negative deadline that would fire immediately.
+     *
+     * @param delayInNanos the delay in nanoseconds, positive or zero
+     * @return the deadline, relative to {@link #origin}
+     */
+    private long triggerTime(long delayInNanos) {
+        return now() + Math.min(delayInNanos, MAX_DELAY_IN_NANOS);
+    }
+
+    private <V> ScheduledFuture<V> schedule(WheelTask<V> task, long delay) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("The scheduler has been shut down");
+        }
+        if (delay <= 0) {
+            dispatch(task);
+        } else {
+            enqueue(task);
+        }
+        return task;
+    }
+
+    private void enqueue(WheelTask<?> task) {
+        task.queued = true;
+        pending.offer(task);
+        int current = state.get();
+        if (current == STATE_IDLE && state.compareAndSet(STATE_IDLE, STATE_RUNNING)) {
+            Thread thread = new Thread(this::run, "mutiny-timer-" + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        } else if (current >= STATE_SHUTDOWN && termination.getCount() == 0) {
+            // Raced with the termination, nobody is going to take the task from the queue anymore.
+            task.cancel(false);
+        } else if (parked) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void dispatch(WheelTask<?> task) {
+        try {
+            executor.execute(task);
+        } catch (Throwable failure) {
+            task.fail(failure);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(nonNull(command, "command"));
+    }
+
+    /**
+     * The timer thread loop.
+     */
+    private void run() {
+        long tick = now() / tickInNanos;
+        int scheduled = 0;
+        boolean draining = false;
+        int current;
+        while ((current = state.get()) != STATE_STOP) {
+            if (current == STATE_SHUTDOWN && !draining) {
+                // Periodic tasks are not run after a shutdown, the delayed tasks still are.
+                draining = true;
+                for (Bucket bucket : wheel) {
+                    scheduled -= bucket.cancelPeriodicTasks();
+                }
+            }
+            if (scheduled == 0 && pending.isEmpty()) {
+                if (draining) {
+                    break;
+                }
+                // Nothing to track, wait for a new task.
+                if (!waitForTasks()) {
+                    return;
+                }
+                tick = now() / tickInNanos;
+                continue;
+            }
+
+            long deadline = (tick + 1) * tickInNanos;
+            long sleep = deadline - now();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+
+            scheduled -= removeCancelledTasks();
+            scheduled += transferPendingTasks(tick);
+            scheduled -= wheel[(int) (tick & mask)].expire(this);
+            tick++;
+        }
+        terminate(current == STATE_STOP);
+    }
+
+    /**
+     * Parks the timer thread until a task is scheduled.
+     *
+     * @return {@code true} if the timer thread must continue, {@code false} if it must stop
+     */
+    private boolean waitForTasks() {
+        parked = true;
+        long start = System.nanoTime();
+        try {
+            while (pending.isEmpty()) {
+                if (state.get() != STATE_RUNNING) {
+                    return true; // The main loop handles the shutdown.
+                }
+                long remaining = IDLE_TIMEOUT_IN_NANOS - (System.nanoTime() - start);
+                if (remaining <= 0) {
+                    // Nothing is in the wheel anymore. Only the thread owning the running state consumes the queue
+                    // of cancelled tasks, so drop the stale entries before releasing it.
+                    cancelled.clear();
+                    // Stop the timer thread, unless a task has been scheduled concurrently.
+                    if (!state.compareAndSet(STATE_RUNNING, STATE_IDLE)) {
+                        return true; // Shutdown
+                    }
+                    // If the running state cannot be re-acquired, a new timer thread has been started
+                    return !pending.isEmpty() && state.compareAndSet(STATE_IDLE, STATE_RUNNING);
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            return true;
+        } finally {
+            parked = false;
+        }
+    }
+
+    private int removeCancelledTasks() {
+        int removed = 0;
+        WheelTask<?> task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private int transferPendingTasks(long tick) {
+        int added = 0;
+        // Bound the number of transferred tasks per tick to keep the timer thread responsive.
+        for (int i = 0; i < 100_000; i++) {
+            WheelTask<?> task = pending.poll();
+            if (task == null) {
+                break;
+            }
+            if (task.isCancelled()) {
+                continue;
+            }
+            if (task.isPeriodic() && isShutdown()) {
+                task.queued = false;
+                task.cancel(false);
+                continue;
+            }
+            long target = task.deadline / tickInNanos;
+            task.remainingRounds = (target - tick) / wheel.length;
+            long ticks = Math.max(target, tick);
+            wheel[(int) (ticks & mask)].add(task);
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * Terminates the scheduler. Must only be called by the owner of the queues: the timer thread, or the thread
+     * shutting down an idle scheduler.
+     *
+     * @param stop whether the scheduler has been stopped by {@link #shutdownNow()}
+     */
+    private void terminate(boolean stop) {
+        List<Runnable> tasks = new ArrayList<>();
+        for (Bucket bucket : wheel) {
+            bucket.drainTo(tasks);
+        }
+        WheelTask<?> task;
+        while ((task = pending.poll()) != null) {
+            task.queued = false;
+            if (!task.isCancelled()) {
+                tasks.add(task);
+            }
+        }
+        cancelled.clear();
+        if (stop) {
+            unexecuted = tasks;
+        } else {
+            // Only tasks racing with the shutdown can be there, they are rejected.
+            for (Runnable runnable : tasks) {
+                ((WheelTask<?>) runnable).cancel(false);
+            }
+        }
+        termination.countDown();
+        // Tasks enqueued concurrently with the termination, see enqueue.
+        while ((task = pending.poll()) != null) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Initiates an orderly shutdown: the delayed tasks are still run when they expire, but the periodic tasks are
+     * cancelled and new tasks are rejected.
+     */
+    @Override
+    public void shutdown() {
+        int previous = advance(STATE_SHUTDOWN);
+        if (previous == STATE_IDLE) {
+            terminate(false);
+        } else if (previous == STATE_RUNNING) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Stops the scheduler. The delayed tasks that have not been run are removed from the wheel, but are not
+     * cancelled. The tasks already handed to the executor are not interrupted.
+     *
+     * @return the delayed tasks that have not been run
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        int previous = advance(STATE_STOP);
+        if (previous == STATE_IDLE) {
+            terminate(true);
+        } else if (previous == STATE_STOP || Thread.currentThread() == worker) {
+            // Already stopped, or called from a task running on the timer thread, which cannot wait for itself.
+            return Collections.emptyList();
+        } else {
+            LockSupport.unpark(worker);
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    termination.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Runnable> tasks = unexecuted;
+        unexecuted = Collections.emptyList();
+        return tasks;
+    }
+
+    /**
+     * Moves the state to {@code target}, unless it is already there or further.
+     *
+     * @param target the target state
+     * @return the previous state
+     */
+    private int advance(int target) {
+        while (true) {
+            int current = state.get();
+            if (current >= target || state.compareAndSet(current, target)) {
+                return current;
+            }
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state.get() >= STATE_SHUTDOWN;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown() && termination.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return termination.await(timeout, unit);
+    }
+
+    /**
+     * A bucket of the wheel, as a doubly-linked list of tasks. Only accessed from the timer thread.
+     */
+    private static final class Bucket {
+
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void remove(WheelTask<?> task) {
+            WheelTask<?> next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = task.prev;
+            }
+            if (task == head) {
+                head = next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        /**
+         * Dispatches the expired tasks to the executor.
+         *
+         * @param scheduler the scheduler
+         * @return the number of tasks removed from the bucket
+         */
+        int expire(HashedWheelScheduler scheduler) {
+            int removed = 0;
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (task.remainingRounds <= 0) {
+                    remove(task);
+                    removed++;
+                    task.queued = false;
+                    if (!task.isCancelled()) {
+                        scheduler.dispatch(task);
+                    }
+                } else {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+            return removed;
+        }
+
+        /**
+         * Cancels the periodic tasks.
+         *
+         * @return the number of tasks removed from the bucket
+         */
+        int cancelPeriodicTasks() {
+            int removed = 0;
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (task.isPeriodic()) {
+                    remove(task);
+                    removed++;
+                    task.queued = false;
+                    task.cancel(false);
+                }
+                task = next;
+            }
+            return removed;
+        }
+
+        /**
+         * Empties the bucket.
+         *
+         * @param tasks the list receiving the tasks that have not been cancelled
+         */
+        void drainTo(List<Runnable> tasks) {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                remove(task);
+                task.queued = false;
+                if (!task.isCancelled()) {
+                    tasks.add(task);
+                }
+                task = next;
+            }
+        }
+    }
+
+    /**
+     * A scheduled task.
+     *
+     * @param <V> the type of result
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /**
+         * The deadline, relative to {@link #origin}.
+         */
+        private volatile long deadline;
+
+        /**
+         * The period: positive for fixed-rate, negative for fixed-delay, 0 for one-shot tasks.
+         */
+        private final long period;
+
+        /**
+         * Whether the task has been handed to the timer thread, and so must be unlinked on cancellation.
+         */
+        private volatile boolean queued;
+
+        // Only accessed from the timer thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask<?> prev;
+        private WheelTask<?> next;
+
+        WheelTask(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - now(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                if (isShutdown()) {
+                    cancel(false);
+                } else {
+                    deadline = period > 0 ? deadline + Math.min(period, MAX_DELAY_IN_NANOS) : triggerTime(-period);
+                    enqueue(this);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && queued) {
+                HashedWheelScheduler.this.cancelled.offer(this);
+            }
+            return cancelled;
+        }
+
+        void fail(Throwable failure) {
+            setException(failure);
+        }
+    }
+}
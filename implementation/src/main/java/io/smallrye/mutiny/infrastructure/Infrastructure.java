@@ -3,6 +3,7 @@ package io.smallrye.mutiny.infrastructure;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.ServiceLoader;
 import java.util.concurrent.*;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import org.reactivestreams.Publisher;
@@ -22,7 +24,24 @@ import io.smallrye.mutiny.subscription.UniSubscriber;
 
 public class Infrastructure {
 
+    // Declared before the static initializer, which uses them to compose the interceptors.
+    private static final UniInterceptor NO_UNI_INTERCEPTOR = new UniInterceptor() {
+        // Pass-through
+    };
+    private static final MultiInterceptor NO_MULTI_INTERCEPTOR = new MultiInterceptor() {
+        // Pass-through
+    };
+
     static {
+        ServiceLoader<TimerConfiguration> timerLoader = ServiceLoader.load(TimerConfiguration.class);
+        Iterator<TimerConfiguration> timers = timerLoader.iterator();
+        if (timers.hasNext()) {
+            TimerConfiguration configuration = timers.next();
+            SCHEDULER_FACTORY = executor -> nonNull(configuration.createScheduler(executor), "scheduler");
+        } else {
+            SCHEDULER_FACTORY = HashedWheelScheduler::new;
+        }
+
         ServiceLoader<ExecutorConfiguration> executorLoader = ServiceLoader.load(ExecutorConfiguration.class);
         Iterator<ExecutorConfiguration> iterator = executorLoader.iterator();
         if (iterator.hasNext()) {
@@ -37,13 +56,15 @@ public class Infrastructure {
         List<UniInterceptor> interceptors = new ArrayList<>();
         uniItcp.iterator().forEachRemaining(interceptors::add);
         interceptors.sort(Comparator.comparingInt(UniInterceptor::ordinal));
-        UNI_INTERCEPTORS = interceptors;
+        UNI_INTERCEPTORS = Collections.unmodifiableList(interceptors);
+        UNI_INTERCEPTOR = composeUniInterceptors(interceptors);
 
         ServiceLoader<MultiInterceptor> multiItcp = ServiceLoader.load(MultiInterceptor.class);
         List<MultiInterceptor> interceptors2 = new ArrayList<>();
         multiItcp.iterator().forEachRemaining(interceptors2::add);
         interceptors2.sort(Comparator.comparingInt(MultiInterceptor::ordinal));
-        MULTI_INTERCEPTORS = interceptors2;
+        MULTI_INTERCEPTORS = Collections.unmodifiableList(interceptors2);
+        MULTI_INTERCEPTOR = composeMultiInterceptors(interceptors2);
 
         resetCanCallerThreadBeBlockedSupplier();
     }
@@ -56,10 +77,16 @@ public class Infrastructure {
         setDefaultExecutor(scheduler);
     }
 
+    private static final Function<Executor, ScheduledExecutorService> SCHEDULER_FACTORY;
     private static ScheduledExecutorService DEFAULT_SCHEDULER;
     private static Executor DEFAULT_EXECUTOR;
+    // The interceptors found by the ServiceLoader, composed into a single immutable interceptor.
     private static final List<UniInterceptor> UNI_INTERCEPTORS;
     private static final List<MultiInterceptor> MULTI_INTERCEPTORS;
+    private static final UniInterceptor UNI_INTERCEPTOR;
+    private static final MultiInterceptor MULTI_INTERCEPTOR;
+    // Set once by the testing methods replacing the interceptors at runtime, never reset.
+    private static boolean reconfiguredInterceptors;
     private static UnaryOperator<CompletableFuture<?>> completableFutureWrapper;
     private static Consumer<Throwable> droppedExceptionHandler = Infrastructure::printAndDump;
     private static BooleanSupplier canCallerThreadBeBlockedSupplier;
@@ -73,7 +100,7 @@ public class Infrastructure {
             ((ExecutorService) existing).shutdownNow();
         }
         DEFAULT_EXECUTOR = s;
-        DEFAULT_SCHEDULER = new MutinyScheduler(s);
+        DEFAULT_SCHEDULER = SCHEDULER_FACTORY.apply(s);
     }
 
     public static ScheduledExecutorService getDefaultWorkerPool() {
@@ -85,40 +112,108 @@ public class Infrastructure {
     }
 
     public static <T> Uni<T> onUniCreation(Uni<T> instance) {
-        Uni<T> current = instance;
-        for (UniInterceptor itcp : UNI_INTERCEPTORS) {
-            current = itcp.onUniCreation(current);
+        UniInterceptor interceptor = uniInterceptor();
+        if (interceptor == NO_UNI_INTERCEPTOR) {
+            return instance;
         }
-        return current;
+        return interceptor.onUniCreation(instance);
     }
 
     public static <T> Multi<T> onMultiCreation(Multi<T> instance) {
-        Multi<T> current = instance;
-        for (MultiInterceptor interceptor : MULTI_INTERCEPTORS) {
-            current = interceptor.onMultiCreation(current);
+        MultiInterceptor interceptor = multiInterceptor();
+        if (interceptor == NO_MULTI_INTERCEPTOR) {
+            return instance;
         }
-        return current;
+        return interceptor.onMultiCreation(instance);
     }
 
     public static <T> UniSubscriber<? super T> onUniSubscription(Uni<T> instance, UniSubscriber<? super T> subscriber) {
-        UniSubscriber<? super T> current = subscriber;
-        for (UniInterceptor interceptor : UNI_INTERCEPTORS) {
-            current = interceptor.onSubscription(instance, current);
+        UniInterceptor interceptor = uniInterceptor();
+        if (interceptor == NO_UNI_INTERCEPTOR) {
+            return subscriber;
         }
-        return current;
+        return interceptor.onSubscription(instance, subscriber);
     }
 
     public static <T> Subscriber<? super T> onMultiSubscription(Publisher<? extends T> instance,
             Subscriber<? super T> subscriber) {
-        Subscriber<? super T> current = subscriber;
-        for (MultiInterceptor itcp : MULTI_INTERCEPTORS) {
-            current = itcp.onSubscription(instance, current);
+        MultiInterceptor interceptor = multiInterceptor();
+        if (interceptor == NO_MULTI_INTERCEPTOR) {
+            return subscriber;
+        }
+        return interceptor.onSubscription(instance, subscriber);
+    }
+
+    private static UniInterceptor uniInterceptor() {
+        // Always false in production, where the reconfigurable holder is never loaded.
+        return reconfiguredInterceptors ? Interceptors.current.uni : UNI_INTERCEPTOR;
+    }
+
+    private static MultiInterceptor multiInterceptor() {
+        return reconfiguredInterceptors ? Interceptors.current.multi : MULTI_INTERCEPTOR;
+    }
+
+    private static UniInterceptor composeUniInterceptors(List<UniInterceptor> interceptors) {
+        if (interceptors.isEmpty()) {
+            return NO_UNI_INTERCEPTOR;
+        }
+        if (interceptors.size() == 1) {
+            return interceptors.get(0);
+        }
+        UniInterceptor[] chain = interceptors.toArray(new UniInterceptor[0]);
+        return new UniInterceptor() {
+            @Override
+            public <T> Uni<T> onUniCreation(Uni<T> uni) {
+                Uni<T> current = uni;
+                for (UniInterceptor interceptor : chain) {
+                    current = interceptor.onUniCreation(current);
+                }
+                return current;
+            }
+
+            @Override
+            public <T> UniSubscriber<? super T> onSubscription(Uni<T> instance, UniSubscriber<? super T> subscriber) {
+                UniSubscriber<? super T> current = subscriber;
+                for (UniInterceptor interceptor : chain) {
+                    current = interceptor.onSubscription(instance, current);
+                }
+                return current;
+            }
+        };
+    }
+
+    private static MultiInterceptor composeMultiInterceptors(List<MultiInterceptor> interceptors) {
+        if (interceptors.isEmpty()) {
+            return NO_MULTI_INTERCEPTOR;
+        }
+        if (interceptors.size() == 1) {
+            return interceptors.get(0);
         }
-        return current;
+        MultiInterceptor[] chain = interceptors.toArray(new MultiInterceptor[0]);
+        return new MultiInterceptor() {
+            @Override
+            public <T> Multi<T> onMultiCreation(Multi<T> multi) {
+                Multi<T> current = multi;
+                for (MultiInterceptor interceptor : chain) {
+                    current = interceptor.onMultiCreation(current);
+                }
+                return current;
+            }
+
+            @Override
+            public <T> Subscriber<? super T> onSubscription(Publisher<? extends T> instance,
+                    Subscriber<? super T> subscriber) {
+                Subscriber<? super T> current = subscriber;
+                for (MultiInterceptor interceptor : chain) {
+                    current = interceptor.onSubscription(instance, current);
+                }
+                return current;
+            }
+        };
     }
 
     static List<UniInterceptor> getUniInterceptors() {
-        return UNI_INTERCEPTORS;
+        return reconfiguredInterceptors ? Interceptors.current.uniInterceptors : UNI_INTERCEPTORS;
     }
 
     public static void setCompletableFutureWrapper(UnaryOperator<CompletableFuture<?>> wrapper) {
@@ -145,6 +240,15 @@ public class Infrastructure {
         canCallerThreadBeBlockedSupplier = supplier;
     }
 
+    /**
+     * Checks whether the caller thread can be blocked, using the configured supplier. The default supplier allows
+     * blocking any thread, including virtual threads. A supplier configured with
+     * {@link #setCanCallerThreadBeBlockedSupplier(BooleanSupplier)} decides for virtual threads too, unless it is
+     * wrapped with {@link VirtualThreads#allowingVirtualThreads(BooleanSupplier)}.
+     *
+     * @return {@code true} if the caller thread can be blocked
+     * @see #setCanCallerThreadBeBlockedSupplier(BooleanSupplier)
+     */
     public static boolean canCallerThreadBeBlocked() {
         return canCallerThreadBeBlockedSupplier.getAsBoolean();
     }
@@ -169,32 +273,41 @@ public class Infrastructure {
 
     // For testing purpose only
     static void registerUniInterceptor(UniInterceptor e) {
-        UNI_INTERCEPTORS.add(e);
-        UNI_INTERCEPTORS.sort(Comparator.comparingInt(UniInterceptor::ordinal));
+        synchronized (Interceptors.class) {
+            Interceptors existing = Interceptors.current;
+            List<UniInterceptor> interceptors = new ArrayList<>(existing.uniInterceptors);
+            interceptors.add(e);
+            Interceptors.replace(new Interceptors(interceptors, existing.multiInterceptors));
+        }
     }
 
     // For testing purpose only
     public static void reloadUniInterceptors() {
         ServiceLoader<UniInterceptor> interceptorLoader = ServiceLoader.load(UniInterceptor.class);
-        List<UniInterceptor> interceptors = new ArrayList<>();
-        interceptorLoader.iterator().forEachRemaining(interceptors::add);
-        interceptors.sort(Comparator.comparingInt(UniInterceptor::ordinal));
-        UNI_INTERCEPTORS.addAll(interceptors);
+        synchronized (Interceptors.class) {
+            Interceptors existing = Interceptors.current;
+            List<UniInterceptor> interceptors = new ArrayList<>(existing.uniInterceptors);
+            interceptorLoader.iterator().forEachRemaining(interceptors::add);
+            Interceptors.replace(new Interceptors(interceptors, existing.multiInterceptors));
+        }
     }
 
     // For testing purpose only
     public static void reloadMultiInterceptors() {
         ServiceLoader<MultiInterceptor> interceptorLoader = ServiceLoader.load(MultiInterceptor.class);
-        List<MultiInterceptor> interceptors = new ArrayList<>();
-        interceptorLoader.iterator().forEachRemaining(interceptors::add);
-        interceptors.sort(Comparator.comparingInt(MultiInterceptor::ordinal));
-        MULTI_INTERCEPTORS.addAll(interceptors);
+        synchronized (Interceptors.class) {
+            Interceptors existing = Interceptors.current;
+            List<MultiInterceptor> interceptors = new ArrayList<>(existing.multiInterceptors);
+            interceptorLoader.iterator().forEachRemaining(interceptors::add);
+            Interceptors.replace(new Interceptors(existing.uniInterceptors, interceptors));
+        }
     }
 
     // For testing purpose only
     public static void clearInterceptors() {
-        UNI_INTERCEPTORS.clear();
-        MULTI_INTERCEPTORS.clear();
+        synchronized (Interceptors.class) {
+            Interceptors.replace(new Interceptors(Collections.emptyList(), Collections.emptyList()));
+        }
     }
 
     // For testing purpose only
@@ -207,6 +320,38 @@ public class Infrastructure {
         canCallerThreadBeBlockedSupplier = () -> true;
     }
 
+    /**
+     * The interceptors configured by the testing methods, replacing the ones found by the ServiceLoader. The
+     * snapshots are immutable and published through a volatile field, so interceptors registered from one thread are
+     * visible from the others. This class is only loaded by the testing methods: until then, the interceptors are
+     * read from the final fields.
+     */
+    private static final class Interceptors {
+
+        static volatile Interceptors current = new Interceptors(UNI_INTERCEPTORS, MULTI_INTERCEPTORS);
+
+        final List<UniInterceptor> uniInterceptors;
+        final List<MultiInterceptor> multiInterceptors;
+        final UniInterceptor uni;
+        final MultiInterceptor multi;
+
+        Interceptors(List<UniInterceptor> uniInterceptors, List<MultiInterceptor> multiInterceptors) {
+            List<UniInterceptor> unis = new ArrayList<>(uniInterceptors);
+            unis.sort(Comparator.comparingInt(UniInterceptor::ordinal));
+            List<MultiInterceptor> multis = new ArrayList<>(multiInterceptors);
+            multis.sort(Comparator.comparingInt(MultiInterceptor::ordinal));
+            this.uniInterceptors = Collections.unmodifiableList(unis);
+            this.multiInterceptors = Collections.unmodifiableList(multis);
+            this.uni = composeUniInterceptors(unis);
+            this.multi = composeMultiInterceptors(multis);
+        }
+
+        static void replace(Interceptors interceptors) {
+            current = interceptors;
+            reconfiguredInterceptors = true;
+        }
+    }
+
     private Infrastructure() {
         // Avoid direct instantiation.
     }
@@ -0,0 +1,25 @@
+package io.smallrye.mutiny.infrastructure;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * SPI allowing customizing the scheduler running the delayed and periodic tasks
+ * ({@link Infrastructure#getDefaultWorkerPool()}), used by timeouts, delays, ticks...
+ * Implementors must register their implementation by indicating the fully qualified name of the implementation in the
+ * {@code META-INF/services/io.smallrye.mutiny.infrastructure.TimerConfiguration} file.
+ * <p>
+ * By default, Mutiny uses a {@link HashedWheelScheduler}. Returning a {@link MutinyScheduler} restores the
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} based scheduler.
+ */
+public interface TimerConfiguration {
+
+    /**
+     * Creates the scheduler.
+     *
+     * @param executor the executor on which the scheduled tasks must be executed
+     * @return the scheduler, must not be {@code null}
+     */
+    ScheduledExecutorService createScheduler(Executor executor);
+
+}
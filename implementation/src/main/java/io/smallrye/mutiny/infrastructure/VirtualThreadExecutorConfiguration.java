@@ -0,0 +1,21 @@
+package io.smallrye.mutiny.infrastructure;
+
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link ExecutorConfiguration} using a virtual-thread-per-task executor as default executor.
+ * <p>
+ * To enable it, declare {@code io.smallrye.mutiny.infrastructure.VirtualThreadExecutorConfiguration} in the
+ * {@code META-INF/services/io.smallrye.mutiny.infrastructure.ExecutorConfiguration} file. The running JVM must
+ * support virtual threads.
+ *
+ * @see VirtualThreads
+ */
+public class VirtualThreadExecutorConfiguration implements ExecutorConfiguration {
+
+    @Override
+    public Executor getDefaultWorkerExecutor() {
+        return VirtualThreads.newVirtualThreadPerTaskExecutor();
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Support for virtual threads, when the running JVM provides them.
+ * <p>
+ * Mutiny targets Java 8, so the virtual thread API is accessed reflectively. When it is not available,
+ * {@link #isVirtual(Thread)} always returns {@code false}.
+ * <p>
+ * The blocking operations ({@code Uni.await()}, {@code Multi.subscribe().asIterable()} and
+ * {@code Multi.subscribe().asStream()}) park the waiting thread using {@link java.util.concurrent.locks.LockSupport}
+ * and {@code java.util.concurrent} locks, so they do not pin the virtual threads to their carrier threads. A
+ * caller thread blocking check forbidding some threads can still allow the virtual threads, see
+ * {@link #allowingVirtualThreads(BooleanSupplier)}.
+ */
+public final class VirtualThreads {
+
+    private static final MethodHandle IS_VIRTUAL;
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle isVirtual;
+        MethodHandle factory;
+        try {
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+            factory = lookup.findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            isVirtual = null;
+            factory = null;
+        }
+        IS_VIRTUAL = isVirtual;
+        NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = factory;
+    }
+
+    private VirtualThreads() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * @return {@code true} if the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return IS_VIRTUAL != null && NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Checks whether the given thread is a virtual thread.
+     *
+     * @param thread the thread
+     * @return {@code true} if the thread is a virtual thread, {@code false} otherwise or if the running JVM does not
+     *         support virtual threads
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a caller thread blocking check allowing the virtual threads to be blocked, and delegating to the given
+     * check for the other threads. For example, to forbid blocking the platform threads except the ones allowed by
+     * {@code check}:
+     *
+     * <pre>
+     * {@code Infrastructure.setCanCallerThreadBeBlockedSupplier(VirtualThreads.allowingVirtualThreads(check));}
+     * </pre>
+     *
+     * @param supplier the check for the other threads, must not be {@code null}
+     * @return the check
+     * @see Infrastructure#setCanCallerThreadBeBlockedSupplier(BooleanSupplier)
+     */
+    public static BooleanSupplier allowingVirtualThreads(BooleanSupplier supplier) {
+        nonNull(supplier, "supplier");
+        if (IS_VIRTUAL == null) {
+            return supplier;
+        }
+        return () -> isVirtual(Thread.currentThread()) || supplier.getAsBoolean();
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return the executor
+     * @throws UnsupportedOperationException if the running JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by the running JVM");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -71,6 +71,11 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         return Infrastructure.onMultiCreation(new MultiCacheOp<>(this));
     }
 
+    @Override
+    public MultiMemoize<T> memoize() {
+        return new MultiMemoize<>(this);
+    }
+
     @Override
     public MultiCollect<T> collectItems() {
         return new MultiCollect<>(this);
@@ -91,6 +96,11 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         return Infrastructure.onMultiCreation(new MultiSubscribeOnOp<>(this, executor));
     }
 
+    @Override
+    public MultiParallel<T> parallel(int rails) {
+        return new MultiParallel<>(this, rails);
+    }
+
     @Override
     public MultiOnCompletion<T> onCompletion() {
         return new MultiOnCompletion<>(this);
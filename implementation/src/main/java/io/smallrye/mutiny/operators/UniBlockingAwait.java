@@ -5,12 +5,12 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
 import java.time.Duration;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.EmptyUniSubscription;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -29,58 +29,121 @@ public class UniBlockingAwait {
             throw new IllegalStateException("The current thread cannot be blocked: " + Thread.currentThread().getName());
         }
 
-        CountDownLatch latch = new CountDownLatch(1);
-        AtomicReference<T> reference = new AtomicReference<>();
-        AtomicReference<Throwable> referenceToFailure = new AtomicReference<>();
-        UniSubscriber<T> subscriber = new UniSubscriber<T>() {
-            @Override
-            public void onSubscribe(UniSubscription subscription) {
-                // Do nothing.
+        BlockingSubscriber<T> subscriber = new BlockingSubscriber<>();
+        AbstractUni.subscribe(upstream, subscriber);
+        if (!subscriber.done) {
+            // The upstream did not complete synchronously during the subscription
+            Throwable reason = subscriber.block(duration);
+            if (reason != null) {
+                throw reason instanceof RuntimeException ? (RuntimeException) reason : new CompletionException(reason);
             }
+        }
+        return subscriber.getOrThrow();
+    }
 
-            @Override
-            public void onItem(T item) {
-                reference.set(item);
-                latch.countDown();
+    private static void validate(Duration duration) {
+        if (duration == null) {
+            return;
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("`duration` must be greater than zero");
+        }
+    }
+
+    /**
+     * The single state object of a blocking call: the subscriber receives the outcome, and the calling thread parks
+     * until it is available. The subscription is cancelled if the calling thread stops waiting, including when it
+     * is only received afterwards.
+     */
+    private static final class BlockingSubscriber<T> implements UniSubscriber<T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<BlockingSubscriber, UniSubscription> SUBSCRIPTION = AtomicReferenceFieldUpdater
+                .newUpdater(BlockingSubscriber.class, UniSubscription.class, "subscription");
+
+        // EmptyUniSubscription.CANCELLED once the calling thread stopped waiting
+        private volatile UniSubscription subscription;
+        private volatile Thread waiter;
+        private volatile boolean done;
+
+        // Written before done, read after done
+        private T item;
+        private Throwable failure;
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            if (!SUBSCRIPTION.compareAndSet(this, null, subscription)) {
+                // The calling thread already stopped waiting
+                subscription.cancel();
             }
+        }
 
-            @Override
-            public void onFailure(Throwable failure) {
-                referenceToFailure.compareAndSet(null, failure);
-                latch.countDown();
+        @Override
+        public void onItem(T item) {
+            this.item = item;
+            complete();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            this.failure = failure;
+            complete();
+        }
+
+        private void complete() {
+            done = true;
+            Thread thread = waiter;
+            if (thread != null) {
+                LockSupport.unpark(thread);
             }
-        };
-        AbstractUni.subscribe(upstream, subscriber);
-        try {
-            if (duration != null) {
-                if (!latch.await(duration.toMillis(), TimeUnit.MILLISECONDS)) {
-                    referenceToFailure.compareAndSet(null, new TimeoutException());
+        }
+
+        /**
+         * Parks the calling thread until the outcome is received.
+         *
+         * @param duration the maximum duration, {@code null} to wait indefinitely
+         * @return {@code null} if the outcome has been received, the reason why the calling thread stopped waiting
+         *         otherwise
+         */
+        Throwable block(Duration duration) {
+            waiter = Thread.currentThread();
+            long deadline = duration != null ? System.nanoTime() + duration.toNanos() : 0L;
+            while (!done) {
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    return cancel(new InterruptedException());
+                }
+                if (duration == null) {
+                    LockSupport.park(this);
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return cancel(new TimeoutException());
+                    }
+                    LockSupport.parkNanos(this, remaining);
                 }
-            } else {
-                latch.await();
             }
-        } catch (InterruptedException e) {
-            referenceToFailure.compareAndSet(null, e);
-            Thread.currentThread().interrupt();
+            return null;
         }
 
-        Throwable throwable = referenceToFailure.get();
-        if (throwable != null) {
-            if (throwable instanceof RuntimeException) {
-                throw (RuntimeException) throwable;
+        private Throwable cancel(Throwable reason) {
+            UniSubscription current = SUBSCRIPTION.getAndSet(this, EmptyUniSubscription.CANCELLED);
+            if (current != null && current != EmptyUniSubscription.CANCELLED) {
+                current.cancel();
             }
-            throw new CompletionException(throwable);
-        } else {
-            return reference.get();
+            // The outcome may have been received concurrently
+            return done ? null : reason;
         }
-    }
 
-    private static void validate(Duration duration) {
-        if (duration == null) {
-            return;
-        }
-        if (duration.isZero() || duration.isNegative()) {
-            throw new IllegalArgumentException("`duration` must be greater than zero");
+        T getOrThrow() {
+            Throwable throwable = failure;
+            if (throwable != null) {
+                if (throwable instanceof RuntimeException) {
+                    throw (RuntimeException) throwable;
+                }
+                throw new CompletionException(throwable);
+            }
+            return item;
         }
     }
 }
@@ -1,184 +1,313 @@
 package io.smallrye.mutiny.operators;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
-import static java.util.Collections.synchronizedList;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BooleanSupplier;
 
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
-public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<I> {
+/**
+ * Memoizes the item or failure of the upstream {@link Uni}.
+ * <p>
+ * The operator state is a single field containing either:
+ * <ul>
+ * <li>{@code null} if the upstream has not been subscribed yet,</li>
+ * <li>a {@link Generation} while the upstream subscription is in flight, holding a lock-free stack of waiters,</li>
+ * <li>an immutable {@link Result} once the item or failure has been received.</li>
+ * </ul>
+ * Subscribers arriving once the result is memoized only read that field. Waiters are collected by swapping the
+ * stack once on completion, and cancelling a waiter only marks it as cancelled.
+ * <p>
+ * In <em>refresh-ahead</em> mode, a memoized result older than the refresh duration is still served, but triggers a
+ * single background re-subscription to the upstream. The new outcome replaces the memoized result once received. If
+ * the re-subscription fails while an item is memoized, the stale item is kept (and refreshed again later) or replaced
+ * by the failure, depending on the stale-on-failure policy. A re-subscription that has not terminated after the
+ * refresh duration is cancelled, and replaced by a new one on the next subscription.
+ *
+ * @param <I> the type of item
+ */
+public class UniMemoizeOp<I> extends UniOperator<I, I> {
 
-    private enum State {
-        INIT,
-        SUBSCRIBING,
-        SUBSCRIBED,
-        CACHING
-    }
+    private static final BooleanSupplier NEVER = () -> false;
 
-    private final BooleanSupplier invalidationRequested;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<UniMemoizeOp, Object> STATE = AtomicReferenceFieldUpdater
+            .newUpdater(UniMemoizeOp.class, Object.class, "state");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<UniMemoizeOp, UniMemoizeOp.Refresher> REFRESHER = AtomicReferenceFieldUpdater
+            .newUpdater(UniMemoizeOp.class, UniMemoizeOp.Refresher.class, "refresher");
 
-    private final AtomicReference<State> state = new AtomicReference<>(State.INIT);
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<UniMemoizeOp.Refresher, UniSubscription> REFRESH_SUBSCRIPTION = AtomicReferenceFieldUpdater
+            .newUpdater(UniMemoizeOp.Refresher.class, UniSubscription.class, "subscription");
 
-    private final AtomicInteger wip = new AtomicInteger();
-    private final List<UniSerializedSubscriber<? super I>> awaitingSubscription = synchronizedList(new ArrayList<>());
-    private final List<UniSerializedSubscriber<? super I>> awaitingResult = synchronizedList(new ArrayList<>());
+    private final BooleanSupplier invalidationRequested;
+    private final long refreshAfterNanos;
+    private final boolean staleOnFailure;
 
-    private volatile UniSubscription upstreamSubscription;
-    private volatile I item;
-    private volatile Throwable failure;
+    private volatile Object state;
+    // The re-subscription in flight, if any
+    private volatile Refresher refresher;
 
     public UniMemoizeOp(Uni<? extends I> upstream) {
-        this(upstream, () -> false);
+        this(upstream, NEVER);
     }
 
     public UniMemoizeOp(Uni<? extends I> upstream, BooleanSupplier invalidationRequested) {
         super(nonNull(upstream, "upstream"));
         this.invalidationRequested = invalidationRequested;
+        this.refreshAfterNanos = 0;
+        this.staleOnFailure = false;
+    }
+
+    public UniMemoizeOp(Uni<? extends I> upstream, Duration refreshAfter, boolean staleOnFailure) {
+        super(nonNull(upstream, "upstream"));
+        this.invalidationRequested = NEVER;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.staleOnFailure = staleOnFailure;
     }
 
     @Override
     protected void subscribing(UniSerializedSubscriber<? super I> subscriber) {
-        if (invalidationRequested.getAsBoolean() && state.get() != State.SUBSCRIBING) {
-            state.set(State.INIT);
-            if (upstreamSubscription != null) {
-                upstreamSubscription.cancel();
+        boolean invalidate = invalidationRequested != NEVER && invalidationRequested.getAsBoolean();
+
+        Object current = state;
+        if (current instanceof Result && !invalidate) {
+            // Early exit with cached data
+            Result result = (Result) current;
+            if (refreshAfterNanos > 0 && System.nanoTime() - result.timestamp > refreshAfterNanos) {
+                refresh(result);
             }
+            subscriber.onSubscribe(EmptyUniSubscription.CANCELLED);
+            result.dispatch(subscriber);
+            return;
         }
 
-        // Early exit with cached data
-        if (state.get() == State.CACHING) {
-            subscriber.onSubscribe(EmptyUniSubscription.CANCELLED);
-            if (failure != null) {
-                subscriber.onFailure(failure);
-            } else {
-                subscriber.onItem(item);
-            }
+        Waiter<I> waiter = new Waiter<>(subscriber);
+        subscriber.onSubscribe(waiter);
+        if (waiter.cancelled) {
             return;
         }
 
-        awaitingSubscription.add(subscriber);
-        if (state.compareAndSet(State.INIT, State.SUBSCRIBING)) {
-            // This thread is performing the upstream subscription
-            AbstractUni.subscribe(upstream(), this);
+        for (;;) {
+            current = state;
+            if (current == null || (current instanceof Result && invalidate)) {
+                Generation generation = new Generation(waiter);
+                if (STATE.compareAndSet(this, current, generation)) {
+                    // This thread is performing the upstream subscription
+                    AbstractUni.subscribe(upstream(), generation);
+                    return;
+                }
+            } else if (current instanceof Result) {
+                waiter.dispatch((Result) current);
+                return;
+            } else if (asGeneration(current).add(waiter)) {
+                return;
+            } else {
+                // The generation completed in the meantime, its result is delivered on the next iteration
+                invalidate = false;
+            }
         }
     }
 
-    @Override
-    public void onSubscribe(UniSubscription subscription) {
-        if (state.compareAndSet(State.SUBSCRIBING, State.SUBSCRIBED)) {
-            upstreamSubscription = subscription;
-            drain();
-        }
+    @SuppressWarnings("unchecked")
+    private Generation asGeneration(Object current) {
+        return (Generation) current;
     }
 
-    private void drain() {
-        // Check if another thread is working
-        if (wip.getAndIncrement() != 0) {
+    private void refresh(Result stale) {
+        long now = System.nanoTime();
+        Refresher current = refresher;
+        if (current != null && now - current.startTime <= refreshAfterNanos) {
             return;
         }
+        Refresher next = new Refresher(stale, now);
+        if (!REFRESHER.compareAndSet(this, current, next)) {
+            return;
+        }
+        if (current != null) {
+            // The previous re-subscription is stuck, it must not hold the refresh forever
+            current.cancel();
+        }
+        try {
+            Infrastructure.getDefaultExecutor().execute(() -> AbstractUni.subscribe(upstream(), next));
+        } catch (RejectedExecutionException e) {
+            // Retried by the next subscriber
+            REFRESHER.compareAndSet(this, next, null);
+        }
+    }
 
-        // Big loop
-        int missed = 1;
-        for (;;) {
+    private long now() {
+        return refreshAfterNanos > 0 ? System.nanoTime() : 0L;
+    }
 
-            ArrayList<UniSerializedSubscriber<? super I>> subscribers;
-            I currentItem;
-            Throwable currentFailure;
+    private static final class Result {
+        final Object item;
+        final Throwable failure;
+        final long timestamp;
 
-            if (!awaitingSubscription.isEmpty()) {
-                // Make a safe copy of the subscribers awaiting for a subscription
-                synchronized (awaitingSubscription) {
-                    subscribers = new ArrayList<>(awaitingSubscription);
-                }
+        Result(Object item, Throwable failure, long timestamp) {
+            this.item = item;
+            this.failure = failure;
+            this.timestamp = timestamp;
+        }
 
-                // Handle the subscribers that are awaiting a subscription
-                for (UniSerializedSubscriber<? super I> subscriber : subscribers) {
-                    currentItem = item;
-                    currentFailure = failure;
-                    State state = this.state.get();
-                    switch (state) {
-                        case INIT:
-                        case SUBSCRIBING:
-                            break;
-                        case SUBSCRIBED:
-                            subscriber.onSubscribe(() -> removeFromAwaitingLists(subscriber));
-                            awaitingSubscription.remove(subscriber);
-                            awaitingResult.add(subscriber);
-                            break;
-                        case CACHING:
-                            subscriber.onSubscribe(() -> removeFromAwaitingLists(subscriber));
-                            if (currentFailure != null) {
-                                subscriber.onFailure(currentFailure);
-                            } else {
-                                subscriber.onItem(currentItem);
-                            }
-                            awaitingSubscription.remove(subscriber);
-                            awaitingResult.remove(subscriber);
-                            break;
-                        default:
-                            throw new IllegalStateException("Current state is " + state);
-                    }
-                }
+        @SuppressWarnings("unchecked")
+        <I> void dispatch(UniSubscriber<? super I> subscriber) {
+            if (failure != null) {
+                subscriber.onFailure(failure);
+            } else {
+                subscriber.onItem((I) item);
             }
+        }
+    }
+
+    private static final class Waiter<I> implements UniSubscription {
+        final UniSubscriber<? super I> downstream;
+        volatile boolean cancelled;
+        Waiter<I> next;
 
-            if (!awaitingResult.isEmpty()) {
-                // Make a safe copy of the subscribers awaiting a result
-                synchronized (awaitingResult) {
-                    subscribers = new ArrayList<>(awaitingResult);
+        Waiter(UniSubscriber<? super I> downstream) {
+            this.downstream = downstream;
+        }
+
+        void dispatch(Result result) {
+            if (!cancelled) {
+                result.dispatch(downstream);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final Waiter TERMINATED = new Waiter<>(null);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<UniMemoizeOp.Generation, Waiter> HEAD = AtomicReferenceFieldUpdater
+            .newUpdater(UniMemoizeOp.Generation.class, Waiter.class, "head");
+
+    /**
+     * An upstream subscription and the subscribers waiting for its outcome.
+     */
+    private final class Generation implements UniSubscriber<I> {
+
+        volatile Waiter<I> head;
+
+        Generation(Waiter<I> first) {
+            this.head = first;
+        }
+
+        boolean add(Waiter<I> waiter) {
+            for (;;) {
+                Waiter<I> current = head;
+                if (current == TERMINATED) {
+                    return false;
                 }
-                // Handle the subscribers that are awaiting a result
-                for (UniSerializedSubscriber<? super I> subscriber : subscribers) {
-                    currentItem = item;
-                    currentFailure = failure;
-                    if (state.get() == State.CACHING) {
-                        if (failure != null) {
-                            subscriber.onFailure(currentFailure);
-                        } else {
-                            subscriber.onItem(currentItem);
-                        }
-                        awaitingResult.remove(subscriber);
-                    }
+                waiter.next = current;
+                if (HEAD.compareAndSet(this, current, waiter)) {
+                    return true;
                 }
             }
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            // The upstream subscription is never cancelled, the outcome is memoized for the future subscribers
+        }
+
+        @Override
+        public void onItem(I item) {
+            complete(new Result(item, null, now()));
+        }
 
-            missed = wip.addAndGet(-missed);
-            if (missed == 0) {
-                break;
+        @Override
+        public void onFailure(Throwable failure) {
+            complete(new Result(null, failure, now()));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Result result) {
+            // Publish the result before collecting the waiters, so a waiter that cannot be added sees the result
+            STATE.compareAndSet(UniMemoizeOp.this, this, result);
+            Waiter<I> waiter = HEAD.getAndSet(this, TERMINATED);
+
+            // Restore the subscription order
+            Waiter<I> ordered = null;
+            while (waiter != null) {
+                Waiter<I> next = waiter.next;
+                waiter.next = ordered;
+                ordered = waiter;
+                waiter = next;
+            }
+            while (ordered != null) {
+                ordered.dispatch(result);
+                ordered = ordered.next;
             }
         }
     }
 
-    private void removeFromAwaitingLists(UniSerializedSubscriber<? super I> subscriber) {
-        awaitingSubscription.remove(subscriber);
-        awaitingResult.remove(subscriber);
-        drain();
-    }
+    /**
+     * Replaces the stale result with the outcome of a background re-subscription.
+     */
+    private final class Refresher implements UniSubscriber<I> {
 
-    @Override
-    public void onItem(I item) {
-        if (state.get() == State.SUBSCRIBED) {
-            this.item = item;
-            this.failure = null;
-            state.set(State.CACHING);
-            drain();
+        private final Result stale;
+        private final long startTime;
+
+        // EmptyUniSubscription.CANCELLED once the re-subscription has been abandoned
+        volatile UniSubscription subscription;
+
+        Refresher(Result stale, long startTime) {
+            this.stale = stale;
+            this.startTime = startTime;
         }
-    }
 
-    @Override
-    public void onFailure(Throwable failure) {
-        if (state.get() == State.SUBSCRIBED) {
-            this.item = null;
-            this.failure = failure;
-            state.set(State.CACHING);
-            drain();
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            if (!REFRESH_SUBSCRIPTION.compareAndSet(this, null, subscription)) {
+                subscription.cancel();
+            }
+        }
+
+        void cancel() {
+            UniSubscription current = REFRESH_SUBSCRIPTION.getAndSet(this, EmptyUniSubscription.CANCELLED);
+            if (current != null && current != EmptyUniSubscription.CANCELLED) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(I item) {
+            update(new Result(item, null, now()));
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (staleOnFailure && stale.failure == null) {
+                // Keep serving the stale item until the next refresh
+                update(new Result(stale.item, null, now()));
+            } else {
+                update(new Result(null, failure, now()));
+            }
+        }
+
+        private void update(Result result) {
+            // No-op if this re-subscription has been abandoned, or if the result has been invalidated in the meantime
+            if (REFRESHER.compareAndSet(UniMemoizeOp.this, this, null)) {
+                STATE.compareAndSet(UniMemoizeOp.this, stale, result);
+            }
         }
     }
 }
@@ -0,0 +1,450 @@
+package io.smallrye.mutiny.operators;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * A keyed memoization cache for a function producing {@link Uni} instances.
+ * <p>
+ * For each key, the {@link Uni} produced by the function is memoized (see {@link Uni#memoize()}): concurrent
+ * subscriptions to the {@link Uni} returned by {@link #apply(Object)} for the same key share a single upstream
+ * subscription, and the following subscriptions receive the memoized item. Failures are not memoized: the entry is
+ * removed, and the next subscription calls the function again.
+ * <p>
+ * Entries expire after the configured duration (measured from their creation). The expired entries are removed when
+ * they are looked up, and by the maintenance following the other lookups, so keys that are never requested again do
+ * not stay in the cache. Once the maximum size is reached,
+ * entries are evicted with a W-TinyLFU policy: new entries go through a small admission window, and then only
+ * replace an existing entry if their key has been requested more often. The access frequencies are estimated with a
+ * count-min sketch. Lookups never block: they go through a {@link ConcurrentHashMap}, and only record the accesses
+ * in a lossy buffer. The eviction policy is applied by a single thread at a time, after the misses and
+ * periodically after the hits.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of item
+ * @see Uni#memoizeBy(Function)
+ */
+@Experimental("Memoization is an experimental feature at this stage")
+public class UniMemoizer<K, V> implements Function<K, Uni<V>> {
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    // The policy is applied after 1 out of 32 hits
+    private static final int MAINTENANCE_ON_READ_MASK = 31;
+
+    private final Function<K, Uni<V>> function;
+    private final int maxSize;
+    private final long expireAfterNanos;
+
+    private final ConcurrentHashMap<K, Node> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // Only used when the size is bounded
+    private final AtomicReferenceArray<Node> readBuffer;
+    // Only used when the size is bounded or the entries expire
+    private final Queue<Node> writeBuffer;
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // Only accessed while holding wip
+    // The entries in creation order, and so in expiration order, only used when the entries expire
+    private final ArrayDeque<Node> expirationOrder = new ArrayDeque<>();
+    private final FrequencySketch sketch;
+    private final ArrayDeque<Node> window = new ArrayDeque<>();
+    private final ArrayDeque<Node> probation = new ArrayDeque<>();
+    private final ArrayDeque<Node> protectedSegment = new ArrayDeque<>();
+    private final int windowMaxSize;
+    private final int protectedMaxSize;
+
+    public UniMemoizer(Function<K, Uni<V>> function, int maxSize, Duration expireAfter) {
+        this.function = nonNull(function, "function");
+        this.maxSize = maxSize;
+        this.expireAfterNanos = expireAfter != null ? expireAfter.toNanos() : 0L;
+        this.writeBuffer = isBounded() || expires() ? Queues.createMpscQueue() : null;
+        if (isBounded()) {
+            this.readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+            this.sketch = new FrequencySketch(maxSize);
+            // 1% of the entries are in the admission window, 80% of the others are in the protected segment
+            this.windowMaxSize = Math.max(1, maxSize / 100);
+            this.protectedMaxSize = (maxSize - windowMaxSize) * 4 / 5;
+        } else {
+            this.readBuffer = null;
+            this.sketch = null;
+            this.windowMaxSize = 0;
+            this.protectedMaxSize = 0;
+        }
+    }
+
+    private boolean isBounded() {
+        return maxSize != Integer.MAX_VALUE;
+    }
+
+    private boolean expires() {
+        return expireAfterNanos > 0;
+    }
+
+    private boolean isExpired(Node node, long now) {
+        return now - node.creationTime > expireAfterNanos;
+    }
+
+    /**
+     * Gets a {@link Uni} emitting the memoized item for the given key. The lookup happens at subscription time.
+     *
+     * @param key the key
+     * @return the {@link Uni}
+     */
+    @Override
+    public Uni<V> apply(K key) {
+        return Uni.createFrom().deferred(() -> lookup(key));
+    }
+
+    private Uni<V> lookup(K key) {
+        for (;;) {
+            Node node = entries.get(key);
+            if (node == null) {
+                Node created = new Node(key);
+                node = entries.putIfAbsent(key, created);
+                if (node == null) {
+                    misses.increment();
+                    afterWrite(created);
+                    return created.uni;
+                }
+            }
+            if (expires() && isExpired(node, System.nanoTime())) {
+                if (entries.remove(key, node)) {
+                    evictions.increment();
+                }
+                continue;
+            }
+            hits.increment();
+            afterRead(node);
+            return node.uni;
+        }
+    }
+
+    private void afterRead(Node node) {
+        if (writeBuffer != null) {
+            int random = ThreadLocalRandom.current().nextInt();
+            if (isBounded()) {
+                // Lossy: a concurrent read can overwrite the slot
+                readBuffer.lazySet(random & READ_BUFFER_MASK, node);
+            }
+            if (((random >>> 16) & MAINTENANCE_ON_READ_MASK) == 0) {
+                maintain();
+            }
+        }
+    }
+
+    private void afterWrite(Node node) {
+        if (writeBuffer != null) {
+            writeBuffer.offer(node);
+            maintain();
+        }
+    }
+
+    /**
+     * Applies the recorded accesses and additions to the eviction policy, removes the expired entries, and evicts the
+     * entries exceeding the maximum size. Only one thread runs it at a time, the others only signal that another
+     * round is needed.
+     */
+    private void maintain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            if (isBounded()) {
+                drainReadBuffer();
+            }
+            drainWriteBuffer();
+            if (expires()) {
+                expire();
+            }
+            if (isBounded()) {
+                evict();
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node node = readBuffer.get(i);
+            if (node != null) {
+                readBuffer.lazySet(i, null);
+                sketch.increment(node.key);
+                node.referenced = true;
+            }
+        }
+    }
+
+    private void drainWriteBuffer() {
+        Node node;
+        while ((node = writeBuffer.poll()) != null) {
+            if (isBounded()) {
+                sketch.increment(node.key);
+            }
+            if (isAlive(node)) {
+                if (isBounded()) {
+                    window.addLast(node);
+                }
+                if (expires()) {
+                    expirationOrder.addLast(node);
+                }
+            }
+        }
+    }
+
+    private void expire() {
+        long now = System.nanoTime();
+        Node node;
+        while ((node = expirationOrder.peekFirst()) != null) {
+            if (isAlive(node)) {
+                if (!isExpired(node, now)) {
+                    break;
+                }
+                evict(node);
+            }
+            expirationOrder.pollFirst();
+        }
+    }
+
+    private void evict() {
+        // The entries leaving the admission window compete with the probation victim
+        while (window.size() > windowMaxSize) {
+            Node candidate = window.pollFirst();
+            if (!isAlive(candidate)) {
+                continue;
+            }
+            if (candidate.referenced) {
+                // Second chance, accessed entries stay in the window
+                candidate.referenced = false;
+                window.addLast(candidate);
+                continue;
+            }
+            if (entries.size() <= maxSize) {
+                probation.addLast(candidate);
+                continue;
+            }
+            Node victim = pollVictim();
+            if (victim == null || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                if (victim != null) {
+                    evict(victim);
+                }
+                probation.addLast(candidate);
+            } else {
+                evict(candidate);
+                probation.addFirst(victim);
+            }
+        }
+
+        // The entries added concurrently are handled in the next round, when they go through the window
+        while (entries.size() > maxSize && writeBuffer.isEmpty()) {
+            Node victim = pollVictim();
+            if (victim == null) {
+                victim = pollAlive(window);
+            }
+            if (victim == null) {
+                break;
+            }
+            evict(victim);
+        }
+    }
+
+    /**
+     * Removes the victim from the probation segment, promoting the accessed entries to the protected segment.
+     *
+     * @return the victim, {@code null} if the probation and protected segments are empty
+     */
+    private Node pollVictim() {
+        for (;;) {
+            Node node = probation.pollFirst();
+            if (node == null) {
+                return pollAlive(protectedSegment);
+            }
+            if (!isAlive(node)) {
+                continue;
+            }
+            if (!node.referenced) {
+                return node;
+            }
+            node.referenced = false;
+            protectedSegment.addLast(node);
+            // Demote the overflow of the protected segment, the accessed entries get a second chance
+            while (protectedSegment.size() > protectedMaxSize) {
+                Node demoted = protectedSegment.pollFirst();
+                if (!isAlive(demoted)) {
+                    continue;
+                }
+                if (demoted.referenced) {
+                    demoted.referenced = false;
+                    protectedSegment.addLast(demoted);
+                } else {
+                    probation.addLast(demoted);
+                }
+            }
+        }
+    }
+
+    private Node pollAlive(ArrayDeque<Node> segment) {
+        Node node;
+        while ((node = segment.pollFirst()) != null) {
+            if (isAlive(node)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAlive(Node node) {
+        return entries.get(node.key) == node;
+    }
+
+    private void evict(Node node) {
+        // The subscribers already waiting for the item of this entry still receive it
+        if (entries.remove(node.key, node)) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Removes the entry associated with the given key, if any.
+     * Subscribers already waiting for the item of this entry still receive it.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return the number of entries, including the ones waiting for their item
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups served by an existing entry
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups creating a new entry
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries evicted because of the maximum size or the expiration
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private final class Node {
+        final K key;
+        final long creationTime = System.nanoTime();
+        final Uni<V> uni;
+
+        // Whether the entry has been accessed since the policy last looked at it, only accessed while holding wip
+        boolean referenced;
+
+        Node(K key) {
+            this.key = key;
+            Uni<V> upstream = Uni.createFrom().deferred(() -> function.apply(key))
+                    .onFailure().invoke(failure -> entries.remove(key, this));
+            this.uni = Infrastructure.onUniCreation(new UniMemoizeOp<>(upstream));
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters estimating the access frequency of the keys. The counters are halved
+     * periodically, so the estimations favor the recent accesses.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = { 0x97cb3127, 0xb0a7a5f1, 0x5d6b2c3f, 0x2f1b8e57 };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maxSize) {
+            int size = 64;
+            while (size < maxSize && size < (1 << 24)) {
+                size <<= 1;
+            }
+            this.table = new long[size];
+            this.mask = size - 1;
+            this.sampleSize = 10 * size;
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = 15;
+            for (int seed : SEEDS) {
+                int h = hash * seed;
+                int shift = (h >>> 28) << 2;
+                frequency = Math.min(frequency, (int) ((table[(h >>> 8) & mask] >>> shift) & 0xF));
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int h = hash * seed;
+                int index = (h >>> 8) & mask;
+                int shift = (h >>> 28) << 2;
+                if (((table[index] >>> shift) & 0xF) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & RESET_MASK;
+                }
+                additions /= 2;
+            }
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package io.smallrye.mutiny.operators;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
@@ -12,6 +12,9 @@ import io.smallrye.mutiny.subscription.UniSubscription;
 
 /**
  * An implementation of {@link UniSubscriber} and {@link UniSubscription} making sure event handlers are only called once.
+ * <p>
+ * An instance is created for every subscription to an {@link AbstractUni}, so the state machine and the failure slot
+ * are plain fields updated with field updaters, to avoid allocating additional atomic objects.
  */
 public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscription {
 
@@ -31,39 +34,62 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
      */
     private static final int DONE = 3;
 
-    private final AtomicInteger state = new AtomicInteger(INIT);
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<UniSerializedSubscriber> STATE = AtomicIntegerFieldUpdater
+            .newUpdater(UniSerializedSubscriber.class, "state");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<UniSerializedSubscriber, Throwable> FAILURE = AtomicReferenceFieldUpdater
+            .newUpdater(UniSerializedSubscriber.class, Throwable.class, "failure");
+
     private final AbstractUni<T> upstream;
     private final UniSubscriber<? super T> downstream;
 
+    private volatile int state; // INIT
     private volatile UniSubscription subscription;
-    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile Throwable failure;
 
     UniSerializedSubscriber(AbstractUni<T> upstream, UniSubscriber<? super T> subscriber) {
         this.upstream = ParameterValidation.nonNull(upstream, "source");
         this.downstream = ParameterValidation.nonNull(subscriber, "subscriber` must not be `null`");
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> void subscribe(AbstractUni<T> source, UniSubscriber<? super T> subscriber) {
         UniSubscriber<? super T> actual = Infrastructure.onUniSubscription(source, subscriber);
+        if (actual instanceof UniSerializedSubscriber && ((UniSerializedSubscriber<?>) actual).isForwardable()) {
+            // An operator forwards the serialized subscriber it received: it already enforces the protocol,
+            // so there is no need to wrap it again.
+            source.subscribing((UniSerializedSubscriber<? super T>) actual);
+            return;
+        }
         UniSerializedSubscriber<T> wrapped = new UniSerializedSubscriber<>(source, actual);
         wrapped.subscribe();
     }
 
     private void subscribe() {
-        if (state.compareAndSet(INIT, SUBSCRIBED)) {
+        if (STATE.compareAndSet(this, INIT, SUBSCRIBED)) {
             upstream.subscribing(this);
         }
     }
 
+    /**
+     * @return {@code true} if this subscriber can be passed to another upstream without being wrapped, i.e. it is
+     *         waiting for its subscription and nothing has been received yet
+     */
+    private boolean isForwardable() {
+        return state == SUBSCRIBED && subscription == null;
+    }
+
     @Override
     public void onSubscribe(UniSubscription subscription) {
         ParameterValidation.nonNull(subscription, "subscription");
 
-        if (state.compareAndSet(SUBSCRIBED, HAS_SUBSCRIPTION)) {
+        if (STATE.compareAndSet(this, SUBSCRIBED, HAS_SUBSCRIPTION)) {
             this.subscription = subscription;
             this.downstream.onSubscribe(this);
-        } else if (state.get() == DONE) {
-            Throwable collected = failure.getAndSet(null);
+        } else if (state == DONE) {
+            Throwable collected = FAILURE.getAndSet(this, null);
             if (collected != null) {
                 this.downstream.onSubscribe(this);
                 this.downstream.onFailure(collected);
@@ -77,11 +103,11 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
 
     @Override
     public void onItem(T item) {
-        if (state.compareAndSet(SUBSCRIBED, DONE)) {
-            failure.set(new IllegalStateException(
+        if (STATE.compareAndSet(this, SUBSCRIBED, DONE)) {
+            FAILURE.set(this, new IllegalStateException(
                     "Invalid transition, expected to be in the HAS_SUBSCRIPTION states but was in SUBSCRIBED and received onItem("
                             + item + ")"));
-        } else if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        } else if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             try {
                 downstream.onItem(item);
             } catch (Throwable e) {
@@ -93,9 +119,9 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
 
     @Override
     public void onFailure(Throwable throwable) {
-        if (state.compareAndSet(SUBSCRIBED, DONE)) {
-            failure.set(throwable);
-        } else if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        if (STATE.compareAndSet(this, SUBSCRIBED, DONE)) {
+            FAILURE.set(this, throwable);
+        } else if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             try {
                 downstream.onFailure(throwable);
             } catch (Throwable e) {
@@ -109,7 +135,7 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
 
     @Override
     public void cancel() {
-        if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             while (subscription == null) {
                 // We are in the middle of a race condition with onSubscribe()
             }
@@ -117,11 +143,11 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
                 subscription.cancel();
             }
         } else {
-            state.set(DONE);
+            state = DONE;
         }
     }
 
-    public synchronized boolean isCancelledOrDone() {
-        return state.get() == DONE;
+    public boolean isCancelledOrDone() {
+        return state == DONE;
     }
 }
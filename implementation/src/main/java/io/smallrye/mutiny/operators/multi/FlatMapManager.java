@@ -2,128 +2,134 @@ package io.smallrye.mutiny.operators.multi;
 
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tracks the inner subscribers of the flatMap-like operators, in slots that are reused once their subscriber is
+ * removed.
+ * <p>
+ * {@link #add(Object)} must only be called from one thread at a time (the upstream thread), while
+ * {@link #remove(Object)} and {@link #unsubscribe()} can be called from any thread. None of them takes a lock: the
+ * slots are in an {@link AtomicReferenceArray}, removals clear their own slot with a CAS, and additions scan for a
+ * free slot from the last used one, growing the array when none is left.
+ *
+ * @param <T> the type of inner subscriber
+ */
 abstract class FlatMapManager<T> {
 
-    protected AtomicReference<T[]> inners = new AtomicReference<>(empty());
-
-    private int[] free = FREE_EMPTY;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceArray TERMINATED = new AtomicReferenceArray(0);
 
-    private long producerIndex;
-    private long consumerIndex;
+    protected final AtomicReference<AtomicReferenceArray<T>> inners = new AtomicReference<>(
+            new AtomicReferenceArray<>(4));
 
     private final AtomicInteger size = new AtomicInteger();
 
-    private static final int[] FREE_EMPTY = new int[0];
-
-    abstract T[] empty();
-
-    abstract T[] terminated();
-
-    abstract T[] newArray(int size);
+    // Where the search for a free slot starts, after the last used slot, only accessed from add
+    private int cursor;
 
     abstract void unsubscribeEntry(T entry, boolean fromOnError);
 
     abstract void setIndex(T entry, int index);
 
+    abstract int getIndex(T entry);
+
     final void unsubscribe() {
         unsubscribe(false);
     }
 
+    @SuppressWarnings("unchecked")
     final void unsubscribe(boolean fromOnError) {
-        T[] a;
-        T[] t = terminated();
-        synchronized (this) {
-            a = inners.get();
-            if (a == t) {
-                return;
-            }
-            size.lazySet(0);
-            free = null;
-            inners.set(t);
+        AtomicReferenceArray<T> a = inners.getAndSet(TERMINATED);
+        if (a == TERMINATED) {
+            return;
         }
-        for (T e : a) {
+        size.lazySet(0);
+        for (int i = 0; i < a.length(); i++) {
+            T e = a.get(i);
             if (e != null) {
                 unsubscribeEntry(e, fromOnError);
             }
         }
     }
 
-    final T[] get() {
+    final AtomicReferenceArray<T> get() {
         return inners.get();
     }
 
     final boolean add(T entry) {
-        T[] a = inners.get();
-        if (a == terminated()) {
+        AtomicReferenceArray<T> a = inners.get();
+        if (a == TERMINATED) {
             return false;
         }
-        synchronized (this) {
-            a = inners.get();
-            if (a == terminated()) {
-                return false;
-            }
-
-            int idx = pollFree();
-            if (idx < 0) {
-                int n = a.length;
-                T[] b = n != 0 ? newArray(n << 1) : newArray(4);
-                System.arraycopy(a, 0, b, 0, n);
-
-                inners.set(b);
-                a = b;
 
-                int m = b.length;
-                int[] u = new int[m];
-                for (int i = n + 1; i < m; i++) {
-                    u[i] = i;
+        int n = a.length();
+        int idx = -1;
+        // The removals clear their slot before decrementing the size, so there is a free slot if size < n
+        if (size.get() < n) {
+            int i = cursor < n ? cursor : 0;
+            for (int k = 0; k < n; k++) {
+                if (a.get(i) == null) {
+                    idx = i;
+                    break;
+                }
+                if (++i == n) {
+                    i = 0;
                 }
-                free = u;
-                consumerIndex = n + 1L;
-                producerIndex = m;
-
-                idx = n;
             }
-            setIndex(entry, idx);
-            a[idx] = entry;
-            size.incrementAndGet();
         }
-        return true;
-    }
-
-    final void remove(int index) {
-        synchronized (this) {
-            T[] a = inners.get();
-            if (a != terminated()) {
-                a[index] = null;
-                offerFree(index);
-                size.decrementAndGet();
+        if (idx < 0) {
+            a = grow(a);
+            if (a == null) {
+                return false;
             }
+            idx = n;
         }
+
+        setIndex(entry, idx);
+        a.set(idx, entry);
+        cursor = idx + 1;
+        size.incrementAndGet();
+        // The array only changes in add, or when terminated
+        return inners.get() == a;
     }
 
-    private int pollFree() {
-        int[] a = free;
-        int m = a.length - 1;
-        long ci = consumerIndex;
-        if (producerIndex == ci) {
-            return -1;
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> a) {
+        int n = a.length();
+        AtomicReferenceArray<T> b = new AtomicReferenceArray<>(n << 1);
+        for (int i = 0; i < n; i++) {
+            b.lazySet(i, a.get(i));
         }
-        int offset = (int) ci & m;
-        consumerIndex = ci + 1;
-        return a[offset];
+        if (!inners.compareAndSet(a, b)) {
+            return null; // Terminated
+        }
+        // A removal may have cleared its slot in a after the copy, without seeing b: clear it in b as well.
+        for (int i = 0; i < n; i++) {
+            T copied = b.get(i);
+            if (copied != null && a.get(i) == null) {
+                b.compareAndSet(i, copied, null);
+            }
+        }
+        return b;
     }
 
-    private void offerFree(int index) {
-        int[] a = free;
-        int m = a.length - 1;
-        long pi = producerIndex;
-        int offset = (int) pi & m;
-        a[offset] = index;
-        producerIndex = pi + 1;
+    final void remove(T entry) {
+        int index = getIndex(entry);
+        AtomicReferenceArray<T> a = inners.get();
+        if (a == TERMINATED || !a.compareAndSet(index, entry, null)) {
+            return;
+        }
+        size.decrementAndGet();
+        // The array may have grown concurrently, with a copy of the entry.
+        AtomicReferenceArray<T> b;
+        while ((b = inners.get()) != a && b != TERMINATED) {
+            b.compareAndSet(index, entry, null);
+            a = b;
+        }
     }
 
     final boolean isEmpty() {
-        return size.get() == 0;
+        // A removal racing with unsubscribe can decrement the size after its reset
+        return size.get() <= 0;
     }
 }
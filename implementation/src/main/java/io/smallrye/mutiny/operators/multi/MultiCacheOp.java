@@ -1,10 +1,12 @@
 package io.smallrye.mutiny.operators.multi;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -16,12 +18,26 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
 /**
  * A {@code multi} caching the events emitted from upstreams and replaying it to subscribers.
  * This multi can have several subscribers.
+ * <p>
+ * The items are stored in an append-only linked list of fixed-size segments. The upstream is the only writer: it
+ * fills the tail segment and publishes the new size through a volatile write. Each subscriber keeps its own cursor
+ * (segment, offset and index), so appending an item is O(1) and never copies the already cached items.
+ * <p>
+ * The retained window can be bounded by a number of items and / or by the age of the items. Subscribers arriving
+ * late only replay the retained window. Segments entirely outside of the window are unlinked from the buffer as
+ * soon as the window moves past them, so they can be garbage collected once the subscribers that were already
+ * replaying them have moved on.
  *
  * @param <T> the type of item
  */
 @SuppressWarnings("SubscriberImplementation")
 public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subscriber<T> {
 
+    /**
+     * The number of items stored in each segment of the replay buffer.
+     */
+    static final int SEGMENT_SIZE = 128;
+
     /**
      * Stores whether we already subscribed to the upstream.
      */
@@ -33,7 +49,36 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     private final List<CacheSubscription<T>> subscribers = new CopyOnWriteArrayList<>();
     private volatile boolean terminated;
 
-    private final CopyOnWriteArrayList<Node<T>> history = new CopyOnWriteArrayList<>();
+    /**
+     * The maximum number of items replayed to late subscribers, {@link Integer#MAX_VALUE} if unbounded.
+     */
+    private final int maxSize;
+
+    /**
+     * The maximum age (in nanoseconds) of the items replayed to late subscribers, {@code -1} if unbounded.
+     */
+    private final long maxAgeInNanos;
+
+    /**
+     * The oldest segment still reachable from the buffer. Moves forward when the retained window moves past it.
+     */
+    private final AtomicReference<Segment> head;
+
+    /**
+     * The segment receiving the next item. Only accessed by the upstream (single writer).
+     */
+    private Segment tail;
+
+    /**
+     * The next free slot in the {@link #tail} segment. Only accessed by the upstream (single writer).
+     */
+    private int tailOffset;
+
+    /**
+     * The number of items stored in the replay buffer. Written after the item is stored, so readers observing a
+     * size also observe the items.
+     */
+    private volatile long size;
 
     /**
      * If the upstream has terminated with a failure, this stores the failure.
@@ -46,7 +91,23 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     private volatile boolean done;
 
     public MultiCacheOp(Multi<T> upstream) {
+        this(upstream, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a new {@link MultiCacheOp} retaining a bounded window of items for late subscribers.
+     *
+     * @param upstream the upstream
+     * @param maxSize the maximum number of items replayed to late subscribers, {@link Integer#MAX_VALUE} for no limit
+     * @param maxAge the maximum age of the items replayed to late subscribers, {@code null} for no limit
+     */
+    public MultiCacheOp(Multi<T> upstream, int maxSize, Duration maxAge) {
         super(upstream);
+        this.maxSize = maxSize;
+        this.maxAgeInNanos = maxAge == null ? -1L : maxAge.toNanos();
+        Segment first = new Segment(0L, maxAge != null);
+        this.head = new AtomicReference<>(first);
+        this.tail = first;
     }
 
     @Override
@@ -80,14 +141,107 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     }
 
     @Override
-    public synchronized void onNext(T item) {
-        history.add(new Node<>(item));
+    public void onNext(T item) {
+        long now = maxAgeInNanos == -1L ? 0L : System.nanoTime();
+        int offset = tailOffset;
+        Segment segment = tail;
+        if (offset == SEGMENT_SIZE) {
+            segment = new Segment(segment.firstIndex + SEGMENT_SIZE, maxAgeInNanos != -1L);
+            tail.next = segment;
+            tail = segment;
+            offset = 0;
+        }
+        segment.items[offset] = item;
+        if (segment.timestamps != null) {
+            segment.timestamps[offset] = now;
+        }
+        tailOffset = offset + 1;
+        long newSize = size + 1;
+        size = newSize;
+
+        if (maxSize != Integer.MAX_VALUE || maxAgeInNanos != -1L) {
+            evict(newSize, now);
+        }
+
         for (CacheSubscription<T> consumer : subscribers) {
             // replay
             consumer.replay();
         }
     }
 
+    /**
+     * Unlinks the head segments which are entirely outside of the retained window.
+     *
+     * @param currentSize the current number of items
+     * @param now the current time in nanoseconds, only used if the items have a maximum age
+     */
+    private void evict(long currentSize, long now) {
+        Segment current = head.get();
+        Segment candidate = current;
+        while (candidate.next != null && isOutsideOfWindow(candidate, currentSize, now)) {
+            candidate = candidate.next;
+        }
+        moveHead(current, candidate);
+    }
+
+    private boolean isOutsideOfWindow(Segment segment, long currentSize, long now) {
+        // Only called on full segments (having a successor).
+        if (segment.firstIndex + SEGMENT_SIZE <= currentSize - maxSize) {
+            return true;
+        }
+        return maxAgeInNanos != -1L && isExpired(segment.timestamps[SEGMENT_SIZE - 1], now);
+    }
+
+    private boolean isExpired(long timestamp, long now) {
+        return now - timestamp > maxAgeInNanos;
+    }
+
+    private void moveHead(Segment current, Segment candidate) {
+        while (current != candidate && current.firstIndex < candidate.firstIndex) {
+            if (head.compareAndSet(current, candidate)) {
+                return;
+            }
+            current = head.get();
+        }
+    }
+
+    /**
+     * Positions the cursor of a new subscriber at the beginning of the retained window.
+     *
+     * @param subscription the new subscription
+     */
+    private void seek(CacheSubscription<T> subscription) {
+        Segment current = head.get();
+        if (maxSize == Integer.MAX_VALUE && maxAgeInNanos == -1L) {
+            subscription.segment = current;
+            return;
+        }
+
+        long now = maxAgeInNanos == -1L ? 0L : System.nanoTime();
+        long currentSize = size;
+        long start = Math.max(current.firstIndex, currentSize - maxSize);
+
+        Segment segment = current;
+        while (start - segment.firstIndex > SEGMENT_SIZE) {
+            segment = segment.next;
+        }
+        if (maxAgeInNanos != -1L) {
+            while (segment.next != null && isExpired(segment.timestamps[SEGMENT_SIZE - 1], now)) {
+                segment = segment.next;
+                start = Math.max(start, segment.firstIndex);
+            }
+            while (start < currentSize && start - segment.firstIndex < SEGMENT_SIZE
+                    && isExpired(segment.timestamps[(int) (start - segment.firstIndex)], now)) {
+                start++;
+            }
+        }
+
+        subscription.segment = segment;
+        subscription.offset = (int) (start - segment.firstIndex);
+        subscription.index = start;
+        moveHead(current, segment);
+    }
+
     @Override
     public void onError(Throwable t) {
         if (done) {
@@ -122,32 +276,49 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
         private final MultiCacheOp<T> cache;
         private final AtomicLong requested = new AtomicLong();
         private final AtomicInteger wip = new AtomicInteger();
-        private int lastIndex;
+
+        /**
+         * The segment containing the next item to replay, only accessed from the replay loop.
+         */
+        private Segment segment;
+
+        /**
+         * The position of the next item to replay in {@link #segment}.
+         */
+        private int offset;
+
+        /**
+         * The number of items already replayed.
+         */
+        private long index;
 
         CacheSubscription(MultiSubscriber<? super T> downstream, MultiCacheOp<T> cache) {
             this.downstream = downstream;
             this.cache = cache;
-            this.lastIndex = -1;
+            cache.seek(this);
         }
 
         @Override
         public void request(long n) {
             if (n > 0) {
-                Subscriptions.add(requested, n);
+                Subscriptions.addAndHandledAlreadyCancelled(requested, n);
                 replay();
             }
         }
 
+        @SuppressWarnings("unchecked")
         public void replay() {
             if (wip.getAndIncrement() != 0) {
                 return;
             }
             int missed = 1;
-            CopyOnWriteArrayList<Node<T>> history = cache.history;
 
             for (;;) {
+                // Read done before size: once done is observed, the size is the final one.
+                boolean done = cache.done;
+                long available = cache.size;
 
-                if (cache.done && !hasNext()) {
+                if (done && index == available) {
                     if (cache.failure != null) {
                         downstream.onError(cache.failure);
                     } else {
@@ -161,11 +332,24 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
                     return;
                 }
 
-                if (consumerRequested > 0L && hasNext()) {
-                    lastIndex = lastIndex + 1;
-                    Node<T> node = history.get(lastIndex);
-                    downstream.onItem(node.item);
-                    Subscriptions.subtract(requested, 1);
+                long emitted = 0L;
+                while (emitted != consumerRequested && index != available) {
+                    if (offset == SEGMENT_SIZE) {
+                        segment = segment.next;
+                        offset = 0;
+                    }
+                    T item = (T) segment.items[offset];
+                    offset++;
+                    index++;
+                    downstream.onItem(item);
+                    emitted++;
+                    if (requested.get() == Long.MIN_VALUE) {
+                        return;
+                    }
+                }
+
+                if (emitted != 0L) {
+                    Subscriptions.producedAndHandleAlreadyCancelled(requested, emitted);
                     continue;
                 }
 
@@ -183,23 +367,33 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
                 cache.remove(this);
             }
         }
-
-        boolean hasNext() {
-            return lastIndex < cache.history.size() - 1;
-        }
     }
 
     /**
-     * Node stored in the list.
-     *
-     * @param <T> the type of item.
+     * A segment of the replay buffer.
+     * The slots are written once by the upstream, and are visible to the subscribers once {@link #size} has been
+     * updated.
      */
-    static final class Node<T> {
+    static final class Segment {
+
+        /**
+         * The index (in the whole stream) of the first item of this segment.
+         */
+        final long firstIndex;
+
+        final Object[] items;
+
+        /**
+         * The reception time of each item, {@code null} if the items do not have a maximum age.
+         */
+        final long[] timestamps;
 
-        private final T item;
+        volatile Segment next;
 
-        Node(T item) {
-            this.item = item;
+        Segment(long firstIndex, boolean timed) {
+            this.firstIndex = firstIndex;
+            this.items = new Object[SEGMENT_SIZE];
+            this.timestamps = timed ? new long[SEGMENT_SIZE] : null;
         }
     }
 }
@@ -0,0 +1,414 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
+
+/**
+ * Maps each item from the upstream to a {@link Publisher} and concatenates their items, in the upstream order, while
+ * subscribing to up to {@code concurrency} of them eagerly.
+ * <p>
+ * The items of the inner streams that are not at the head yet are buffered (up to {@code requests} items per inner
+ * stream). The head inner stream is drained in the downstream, and once it completes, the next one, which may have
+ * already produced all its items, becomes the head.
+ *
+ * @param <I> the type of item from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public final class MultiConcatMapEagerOp<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+    private final boolean postponeFailurePropagation;
+    private final int concurrency;
+    private final int requests;
+
+    public MultiConcatMapEagerOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int concurrency,
+            int requests) {
+        super(upstream);
+        this.mapper = ParameterValidation.nonNull(mapper, "mapper");
+        this.postponeFailurePropagation = postponeFailurePropagation;
+        this.concurrency = ParameterValidation.positive(concurrency, "concurrency");
+        this.requests = ParameterValidation.positive(requests, "requests");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> subscriber) {
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        ConcatMapEagerMainSubscriber<I, O> main = new ConcatMapEagerMainSubscriber<>(subscriber, mapper,
+                postponeFailurePropagation, concurrency, requests);
+        upstream.subscribe(Infrastructure.onMultiSubscription(upstream, main));
+    }
+
+    static final class ConcatMapEagerMainSubscriber<I, O> extends FlatMapManager<ConcatMapEagerInner<O>>
+            implements MultiSubscriber<I>, Subscription {
+
+        final MultiSubscriber<? super O> downstream;
+        final Function<? super I, ? extends Publisher<? extends O>> mapper;
+        final boolean delayError;
+        final int concurrency;
+        final int requests;
+
+        // The subscribed inner streams, in the upstream order
+        final Queue<ConcatMapEagerInner<O>> subscribers;
+
+        final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        final AtomicReference<Throwable> failures = new AtomicReference<>();
+        final AtomicLong requested = new AtomicLong();
+        final AtomicInteger wip = new AtomicInteger();
+
+        volatile boolean done;
+        volatile boolean cancelled;
+
+        // Only accessed from the drain loop
+        ConcatMapEagerInner<O> current;
+
+        ConcatMapEagerMainSubscriber(MultiSubscriber<? super O> downstream,
+                Function<? super I, ? extends Publisher<? extends O>> mapper,
+                boolean delayError,
+                int concurrency,
+                int requests) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.delayError = delayError;
+            this.concurrency = concurrency;
+            this.requests = requests;
+            this.subscribers = Queues.<ConcatMapEagerInner<O>> get(concurrency).get();
+        }
+
+        @Override
+        void setIndex(ConcatMapEagerInner<O> entry, int index) {
+            entry.index = index;
+        }
+
+        @Override
+        int getIndex(ConcatMapEagerInner<O> entry) {
+            return entry.index;
+        }
+
+        @Override
+        void unsubscribeEntry(ConcatMapEagerInner<O> entry, boolean fromOnError) {
+            entry.cancel();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (upstream.compareAndSet(null, s)) {
+                downstream.onSubscribe(this);
+                s.request(Subscriptions.unboundedOrRequests(concurrency));
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(I item) {
+            if (done) {
+                return;
+            }
+
+            Publisher<? extends O> publisher;
+            try {
+                publisher = mapper.apply(item);
+                if (publisher == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                Subscriptions.cancel(upstream);
+                onFailure(e);
+                return;
+            }
+
+            ConcatMapEagerInner<O> inner = new ConcatMapEagerInner<>(this, requests);
+            if (add(inner)) {
+                if (!subscribers.offer(inner)) {
+                    // Cannot happen as the upstream is not requested more than `concurrency` items in flight
+                    Subscriptions.cancel(upstream);
+                    onFailure(new BackPressureFailure("Too many inner streams"));
+                    return;
+                }
+                if (publisher instanceof Multi) {
+                    // Subscribe with the inner subscriber directly so it can fuse with the inner stream
+                    ((Multi<? extends O>) publisher).subscribe().withSubscriber(inner);
+                } else {
+                    publisher.subscribe(inner);
+                }
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (done) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            Subscriptions.addFailure(failures, failure);
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onFailure(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                if (wip.getAndIncrement() == 0) {
+                    cleanup();
+                }
+            }
+        }
+
+        void innerFailure(ConcatMapEagerInner<O> inner, Throwable failure) {
+            if (Subscriptions.addFailure(failures, failure)) {
+                inner.done = true;
+                if (!delayError) {
+                    done = true;
+                }
+            } else {
+                Infrastructure.handleDroppedException(failure);
+            }
+            drain();
+        }
+
+        private void cleanup() {
+            Subscriptions.cancel(upstream);
+            unsubscribe();
+            current = null;
+            subscribers.clear();
+        }
+
+        private boolean isCancelledOrFailed() {
+            if (cancelled) {
+                cleanup();
+                return true;
+            }
+            if (!delayError && failures.get() != null) {
+                cleanup();
+                Throwable failure = Subscriptions.terminate(failures);
+                if (failure != Subscriptions.TERMINATED) {
+                    downstream.onFailure(failure);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            for (;;) {
+                if (isCancelledOrFailed()) {
+                    return;
+                }
+
+                ConcatMapEagerInner<O> inner = current;
+                if (inner == null) {
+                    boolean isDone = done;
+                    inner = subscribers.poll();
+                    if (inner == null) {
+                        if (isDone) {
+                            Throwable failure = Subscriptions.terminate(failures);
+                            if (failure == null) {
+                                downstream.onCompletion();
+                            } else if (failure != Subscriptions.TERMINATED) {
+                                downstream.onFailure(failure);
+                            }
+                            return;
+                        }
+                    } else {
+                        current = inner;
+                    }
+                }
+
+                if (inner != null) {
+                    boolean next = false;
+                    Queue<O> queue = inner.queue;
+                    if (queue != null) {
+                        long r = requested.get();
+                        long e = 0L;
+
+                        while (e != r) {
+                            if (isCancelledOrFailed()) {
+                                return;
+                            }
+                            boolean isDone = inner.done;
+                            O item;
+                            try {
+                                item = queue.poll();
+                            } catch (Throwable ex) {
+                                // Failure from a fused inner stream, handled as an inner failure
+                                Subscriptions.addFailure(failures, ex);
+                                if (!delayError) {
+                                    done = true;
+                                    continue;
+                                }
+                                item = null;
+                                isDone = true;
+                            }
+                            boolean empty = item == null;
+                            if (isDone && empty) {
+                                next = true;
+                                break;
+                            }
+                            if (empty) {
+                                break;
+                            }
+                            downstream.onItem(item);
+                            e++;
+                        }
+
+                        if (e == r && !next) {
+                            if (isCancelledOrFailed()) {
+                                return;
+                            }
+                            next = inner.done && queue.isEmpty();
+                        }
+
+                        if (e != 0) {
+                            if (!inner.done) {
+                                inner.request(e);
+                            }
+                            Subscriptions.produced(requested, e);
+                        }
+                    }
+
+                    if (next) {
+                        // The head inner stream is consumed, move to the next one
+                        current = null;
+                        remove(inner);
+                        if (!done) {
+                            upstream.get().request(1);
+                        }
+                        continue;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    static final class ConcatMapEagerInner<O> implements MultiSubscriber<O>, Subscription,
+            QueueSubscription.FusionCapable {
+
+        final ConcatMapEagerMainSubscriber<?, O> parent;
+        final int requests;
+        final int limit;
+        final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        volatile Queue<O> queue;
+        volatile boolean done;
+
+        int index;
+
+        // Only accessed from the drain loop
+        long produced;
+
+        ConcatMapEagerInner(ConcatMapEagerMainSubscriber<?, O> parent, int requests) {
+            this.parent = parent;
+            this.requests = requests;
+            this.limit = Subscriptions.unboundedOrLimit(requests);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription s) {
+            Objects.requireNonNull(s);
+            if (subscription.compareAndSet(null, s)) {
+                if (s instanceof QueueSubscription) {
+                    QueueSubscription<O> fused = (QueueSubscription<O>) s;
+                    if (fused.requestFusion(QueueSubscription.SYNC) == QueueSubscription.SYNC) {
+                        // The items are polled from the inner stream, no need for a queue or for requests
+                        queue = Queues.fromSubscription(fused);
+                        done = true;
+                        parent.drain();
+                        return;
+                    }
+                }
+                queue = Queues.<O> get(requests).get();
+                s.request(Subscriptions.unboundedOrRequests(requests));
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(O item) {
+            if (!queue.offer(item)) {
+                cancel();
+                onFailure(new BackPressureFailure("Buffer full, cannot emit item"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            parent.innerFailure(this, failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void request(long n) {
+            long p = produced + n;
+            if (p >= limit) {
+                produced = 0L;
+                subscription.get().request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        @Override
+        public void cancel() {
+            Subscriptions.cancel(subscription);
+        }
+    }
+}
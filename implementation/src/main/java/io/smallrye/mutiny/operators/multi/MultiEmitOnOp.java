@@ -18,9 +18,13 @@ import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 /**
  * Emits events from upstream on a thread managed by the given scheduler.
+ * <p>
+ * If the upstream provides a {@link QueueSubscription}, the items are polled directly from the upstream instead of
+ * being stored in a queue allocated by this operator.
  *
  * @param <T> the type of item
  */
@@ -40,18 +44,27 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
         upstream.subscribe().withSubscriber(new MultiEmitOnProcessor<>(downstream, executor, queueSupplier));
     }
 
-    static final class MultiEmitOnProcessor<T> extends MultiOperatorProcessor<T, T> implements Runnable {
+    static final class MultiEmitOnProcessor<T> extends MultiOperatorProcessor<T, T>
+            implements Runnable, QueueSubscription.FusionCapable {
 
         private final Executor executor;
 
+        private final Supplier<? extends Queue<T>> queueSupplier;
+
         private final int limit;
 
         // State variables
 
         /**
-         * Store the items
+         * Store the items, or poll them from the upstream when fused.
+         * Set in {@code onSubscribe}.
+         */
+        private Queue<T> queue;
+
+        /**
+         * The fusion mode negotiated with the upstream, {@link QueueSubscription#NONE} if not fused.
          */
-        private final Queue<T> queue;
+        private int sourceMode;
 
         /**
          * {@code true} if the subscription has been cancelled.
@@ -79,12 +92,26 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
             super(downstream);
             this.executor = executor;
             this.limit = 16;
-            this.queue = queueSupplier.get();
+            this.queueSupplier = queueSupplier;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Subscription subscription) {
             if (upstream.compareAndSet(null, subscription)) {
+                if (subscription instanceof QueueSubscription) {
+                    QueueSubscription<T> fused = (QueueSubscription<T>) subscription;
+                    int mode = fused.requestFusion(QueueSubscription.ANY);
+                    if (mode != QueueSubscription.NONE) {
+                        sourceMode = mode;
+                        queue = Queues.fromSubscription(fused);
+                        // In synchronous mode, all the items are already available
+                        done = mode == QueueSubscription.SYNC;
+                        downstream.onSubscribe(this);
+                        return;
+                    }
+                }
+                queue = queueSupplier.get();
                 downstream.onSubscribe(this);
                 subscription.request(16);
             } else {
@@ -94,6 +121,11 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
         @Override
         public void onItem(T t) {
+            if (sourceMode == QueueSubscription.ASYNC) {
+                // Items are available in the upstream
+                schedule();
+                return;
+            }
             if (done) {
                 // we should not receive any items.
                 return;
@@ -182,7 +214,16 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
                 long requests = requested.get();
                 while (emitted != requests) {
                     boolean wasDone = done;
-                    T item = q.poll();
+                    T item;
+                    try {
+                        item = q.poll();
+                    } catch (Throwable failure) {
+                        // Failure reported by a fused upstream
+                        cancelled = true;
+                        Subscriptions.cancel(upstream);
+                        downstream.onFailure(failure);
+                        return;
+                    }
 
                     boolean empty = item == null;
                     if (isDoneOrCancelled(wasDone, empty)) {
@@ -200,7 +241,7 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
                     // updating the number of emitted items.
                     emitted++;
-                    if (emitted == limit) {
+                    if (emitted == limit && sourceMode == QueueSubscription.NONE) {
                         if (requests != Long.MAX_VALUE) {
                             requests = requested.addAndGet(-emitted);
                         }
@@ -237,7 +278,9 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
             }
 
             Throwable maybeFailure = failure.get();
-            if (upstreamDone && maybeFailure != null) {
+            // A fused upstream reports the failure once all its items have been enqueued, so the failure is only
+            // propagated once the queue is drained, after the items
+            if (upstreamDone && maybeFailure != null && (queueEmpty || sourceMode == QueueSubscription.NONE)) {
                 // failing
                 downstream.onFailure(maybeFailure);
                 return true;
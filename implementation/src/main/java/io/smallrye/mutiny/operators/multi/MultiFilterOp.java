@@ -24,6 +24,10 @@ public class MultiFilterOp<T> extends AbstractMultiOperator<T, T> {
         this.predicate = ParameterValidation.nonNull(predicate, "predicate");
     }
 
+    Predicate<? super T> predicate() {
+        return predicate;
+    }
+
     @Override
     public void subscribe(MultiSubscriber<? super T> downstream) {
         if (downstream == null) {
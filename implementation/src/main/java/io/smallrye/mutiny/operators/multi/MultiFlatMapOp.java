@@ -5,6 +5,7 @@ import java.util.Queue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -16,10 +17,11 @@ import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.builders.EmptyMulti;
+import io.smallrye.mutiny.operators.multi.builders.KnownItemMulti;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
-import io.smallrye.mutiny.subscription.SafeSubscriber;
-import io.smallrye.mutiny.subscription.SerializedSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
     private final Function<? super I, ? extends Publisher<? extends O>> mapper;
@@ -55,8 +57,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 mainQueueSupplier,
                 requests);
 
-        upstream.subscribe(
-                Infrastructure.onMultiSubscription(upstream, new SafeSubscriber<>(new SerializedSubscriber<>(sub))));
+        upstream.subscribe(Infrastructure.onMultiSubscription(upstream, sub));
     }
 
     public static final class FlatMapMainSubscriber<I, O> extends FlatMapManager<FlatMapInner<O>>
@@ -84,12 +85,6 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         AtomicInteger wip = new AtomicInteger();
 
-        @SuppressWarnings("rawtypes")
-        static final FlatMapInner[] EMPTY_INNER_ARRAY = new FlatMapInner[0];
-
-        @SuppressWarnings("rawtypes")
-        static final FlatMapInner[] TERMINATED_INNER_ARRAY = new FlatMapInner[0];
-
         int lastIndex;
 
         public FlatMapMainSubscriber(MultiSubscriber<? super O> downstream,
@@ -108,27 +103,14 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             this.limit = Subscriptions.unboundedOrLimit(concurrency);
         }
 
-        @SuppressWarnings("unchecked")
-        @Override
-        FlatMapInner<O>[] empty() {
-            return EMPTY_INNER_ARRAY;
-        }
-
-        @SuppressWarnings("unchecked")
-        @Override
-        FlatMapInner<O>[] terminated() {
-            return TERMINATED_INNER_ARRAY;
-        }
-
-        @SuppressWarnings("unchecked")
         @Override
-        FlatMapInner<O>[] newArray(int size) {
-            return new FlatMapInner[size];
+        void setIndex(FlatMapInner<O> entry, int index) {
+            entry.index = index;
         }
 
         @Override
-        void setIndex(FlatMapInner<O> entry, int index) {
-            entry.index = index;
+        int getIndex(FlatMapInner<O> entry) {
+            return entry.index;
         }
 
         @Override
@@ -164,6 +146,8 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             if (upstream.compareAndSet(null, s)) {
                 downstream.onSubscribe(this);
                 s.request(Subscriptions.unboundedOrRequests(maxConcurrency));
+            } else {
+                s.cancel();
             }
         }
 
@@ -189,9 +173,23 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 return;
             }
 
+            if (p instanceof KnownItemMulti) {
+                // No need for an inner subscriber, the item is known
+                tryEmitScalar(((KnownItemMulti<? extends O>) p).item());
+                return;
+            }
+            if (p == EmptyMulti.empty() && tryCompleteEmpty()) {
+                return;
+            }
+
             FlatMapInner<O> inner = new FlatMapInner<>(this, requests);
             if (add(inner)) {
-                p.subscribe(inner);
+                if (p instanceof Multi) {
+                    // Subscribe with the inner subscriber directly so it can fuse with the inner stream
+                    ((Multi<? extends O>) p).subscribe().withSubscriber(inner);
+                } else {
+                    p.subscribe(inner);
+                }
             }
         }
 
@@ -204,11 +202,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             Subscriptions.addFailure(failures, failure);
             done = true;
             if (!delayError) {
-                for (FlatMapInner<O> inner : inners.getAndSet(terminated())) {
-                    if (inner != null) {
-                        inner.cancel(false);
-                    }
-                }
+                unsubscribe();
             }
             drain();
         }
@@ -223,6 +217,62 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             drain();
         }
 
+        void tryEmitScalar(O item) {
+            if (wip.compareAndSet(0, 1)) {
+                long req = requested.get();
+                Queue<O> q = queue;
+                if (req != 0 && (q == null || q.isEmpty())) {
+                    downstream.onItem(item);
+
+                    if (req != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+
+                    replenishScalar();
+                } else {
+                    if (q == null) {
+                        q = getOrCreateScalarQueue();
+                    }
+
+                    if (!q.offer(item)) {
+                        failOverflow();
+                        done = true;
+                    }
+                }
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+
+                drainLoop();
+            } else {
+                Queue<O> q = getOrCreateScalarQueue();
+                if (!q.offer(item)) {
+                    failOverflow();
+                    done = true;
+                }
+                drain();
+            }
+        }
+
+        boolean tryCompleteEmpty() {
+            // The upstream can only be requested while holding wip, otherwise the empty stream is subscribed
+            if (wip.compareAndSet(0, 1)) {
+                replenishScalar();
+                if (wip.decrementAndGet() != 0) {
+                    drainLoop();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private void replenishScalar() {
+            // Like a completed inner stream, a scalar or empty one frees its slot right away
+            if (maxConcurrency != Integer.MAX_VALUE && !done && !cancelled) {
+                upstream.get().request(1);
+            }
+        }
+
         void tryEmit(FlatMapInner<O> inner, O item) {
             if (wip.compareAndSet(0, 1)) {
                 long req = requested.get();
@@ -278,9 +328,9 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
                 boolean d;
 
-                FlatMapInner<O>[] as = get();
+                AtomicReferenceArray<FlatMapInner<O>> as = get();
 
-                int n = as.length;
+                int n = as.length();
 
                 Queue<O> sq = queue;
 
@@ -299,17 +349,13 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 if (r != 0L && sq != null) {
 
                     while (e != r) {
-                        d = done;
-
-                        O v = sq.poll();
-
-                        boolean empty = v == null;
-
                         if (ifDoneOrCancelled()) {
                             return;
                         }
 
-                        if (empty) {
+                        O v = sq.poll();
+
+                        if (v == null) {
                             break;
                         }
 
@@ -336,12 +382,12 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                             return;
                         }
 
-                        FlatMapInner<O> inner = as[j];
+                        FlatMapInner<O> inner = as.get(j);
                         if (inner != null) {
                             d = inner.done;
                             Queue<O> q = inner.queue;
                             if (d && q == null) {
-                                remove(inner.index);
+                                remove(inner);
                                 again = true;
                                 replenishMain++;
                             } else if (q != null) {
@@ -353,7 +399,12 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     try {
                                         v = q.poll();
                                     } catch (Throwable ex) {
-                                        Subscriptions.addFailure(failures, ex);
+                                        // Failure from a fused inner stream, handled as an inner failure
+                                        if (Subscriptions.addFailure(failures, ex) && !delayError) {
+                                            cancelUpstream(true);
+                                            a.onFailure(ex);
+                                            return;
+                                        }
                                         v = null;
                                         d = true;
                                     }
@@ -365,7 +416,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     }
 
                                     if (d && empty) {
-                                        remove(inner.index);
+                                        remove(inner);
                                         again = true;
                                         replenishMain++;
                                         break;
@@ -384,7 +435,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     d = inner.done;
                                     boolean empty = q.isEmpty();
                                     if (d && empty) {
-                                        remove(inner.index);
+                                        remove(inner);
                                         again = true;
                                         replenishMain++;
                                     }
@@ -419,7 +470,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
                 if (r == 0L && !noSources) {
                     as = get();
-                    n = as.length;
+                    n = as.length();
 
                     for (int i = 0; i < n; i++) {
                         if (cancelled) {
@@ -427,7 +478,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                             return;
                         }
 
-                        FlatMapInner<O> inner = as[i];
+                        FlatMapInner<O> inner = as.get(i);
                         if (inner == null) {
                             continue;
                         }
@@ -442,7 +493,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         }
 
                         if (d && empty) {
-                            remove(inner.index);
+                            remove(inner);
                             again = true;
                             replenishMain++;
                         }
@@ -550,6 +601,16 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             drainLoop();
         }
 
+        Queue<O> getOrCreateScalarQueue() {
+            // Only called from the upstream thread
+            Queue<O> q = queue;
+            if (q == null) {
+                q = mainQueueSupplier.get();
+                queue = q;
+            }
+            return q;
+        }
+
         Queue<O> getOrCreateInnerQueue(FlatMapInner<O> inner) {
             Queue<O> q = inner.queue;
             if (q == null) {
@@ -561,7 +622,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
     }
 
-    static final class FlatMapInner<O> implements Subscription, MultiSubscriber<O> {
+    static final class FlatMapInner<O> implements Subscription, MultiSubscriber<O>, QueueSubscription.FusionCapable {
 
         final FlatMapMainSubscriber<?, O> parent;
 
@@ -585,10 +646,21 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             this.limit = Subscriptions.unboundedOrLimit(requests);
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Subscription s) {
             Objects.requireNonNull(s);
             if (subscription.compareAndSet(null, s)) {
+                if (s instanceof QueueSubscription) {
+                    QueueSubscription<O> fused = (QueueSubscription<O>) s;
+                    if (fused.requestFusion(QueueSubscription.SYNC) == QueueSubscription.SYNC) {
+                        // The items are polled from the inner stream, no need for a queue or for requests
+                        queue = Queues.fromSubscription(fused);
+                        done = true;
+                        parent.drain();
+                        return;
+                    }
+                }
                 s.request(Subscriptions.unboundedOrRequests(requests));
             }
         }
@@ -0,0 +1,362 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.EmptyUniSubscription.CANCELLED;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Maps each item from the upstream to a {@link Uni} and merges their items, with at most {@code concurrency}
+ * {@link Uni} subscribed at the same time.
+ * <p>
+ * Unlike {@link MultiFlatMapOp}, the {@link Uni Unis} are not adapted into {@link Multi}: they are subscribed
+ * directly, and their items are emitted downstream right away when possible, or enqueued in a single queue shared by
+ * all the {@link Uni Unis}. {@code null} items are ignored.
+ *
+ * @param <I> the type of item from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public final class MultiFlatMapUniOp<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Function<? super I, ? extends Uni<? extends O>> mapper;
+    private final boolean postponeFailurePropagation;
+    private final int concurrency;
+
+    public MultiFlatMapUniOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Uni<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int concurrency) {
+        super(upstream);
+        this.mapper = ParameterValidation.nonNull(mapper, "mapper");
+        this.postponeFailurePropagation = postponeFailurePropagation;
+        this.concurrency = ParameterValidation.positive(concurrency, "concurrency");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> subscriber) {
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        FlatMapUniMainSubscriber<I, O> main = new FlatMapUniMainSubscriber<>(subscriber, mapper,
+                postponeFailurePropagation, concurrency);
+        upstream.subscribe(Infrastructure.onMultiSubscription(upstream, main));
+    }
+
+    static final class FlatMapUniMainSubscriber<I, O> extends FlatMapManager<FlatMapUniInner<O>>
+            implements MultiSubscriber<I>, Subscription {
+
+        final MultiSubscriber<? super O> downstream;
+        final Function<? super I, ? extends Uni<? extends O>> mapper;
+        final boolean delayError;
+        final int concurrency;
+
+        // The items that could not be emitted right away, from all the Unis
+        final Queue<O> queue = Queues.createMpscQueue();
+
+        final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        final AtomicReference<Throwable> failures = new AtomicReference<>();
+        final AtomicLong requested = new AtomicLong();
+        final AtomicInteger wip = new AtomicInteger();
+        // The number of subscribed Unis that have not terminated yet
+        final AtomicInteger active = new AtomicInteger();
+        // The number of Unis terminated without item, for which the upstream has not been requested yet
+        final AtomicLong completedWithoutItem = new AtomicLong();
+
+        volatile boolean done;
+        volatile boolean cancelled;
+
+        FlatMapUniMainSubscriber(MultiSubscriber<? super O> downstream,
+                Function<? super I, ? extends Uni<? extends O>> mapper,
+                boolean delayError,
+                int concurrency) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.delayError = delayError;
+            this.concurrency = concurrency;
+        }
+
+        @Override
+        void setIndex(FlatMapUniInner<O> entry, int index) {
+            entry.index = index;
+        }
+
+        @Override
+        int getIndex(FlatMapUniInner<O> entry) {
+            return entry.index;
+        }
+
+        @Override
+        void unsubscribeEntry(FlatMapUniInner<O> entry, boolean fromOnError) {
+            entry.cancel();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (upstream.compareAndSet(null, s)) {
+                downstream.onSubscribe(this);
+                s.request(Subscriptions.unboundedOrRequests(concurrency));
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(I item) {
+            if (done) {
+                return;
+            }
+
+            Uni<? extends O> uni;
+            try {
+                uni = mapper.apply(item);
+                if (uni == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                Subscriptions.cancel(upstream);
+                onFailure(e);
+                return;
+            }
+
+            FlatMapUniInner<O> inner = new FlatMapUniInner<>(this);
+            if (add(inner)) {
+                active.incrementAndGet();
+                uni.subscribe().withSubscriber(inner);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (done) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            Subscriptions.addFailure(failures, failure);
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onFailure(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                if (wip.getAndIncrement() == 0) {
+                    cleanup();
+                }
+            }
+        }
+
+        void innerItem(FlatMapUniInner<O> inner, O item) {
+            remove(inner);
+            if (cancelled) {
+                return;
+            }
+            if (item == null) {
+                completedWithoutItem.incrementAndGet();
+                active.decrementAndGet();
+                drain();
+                return;
+            }
+
+            if (wip.compareAndSet(0, 1)) {
+                if (requested.get() != 0L && queue.isEmpty() && (delayError || failures.get() == null)) {
+                    downstream.onItem(item);
+                    Subscriptions.produced(requested, 1);
+                    replenish(1);
+                } else {
+                    queue.offer(item);
+                }
+                // Decremented once the item is emitted or enqueued, so the completion cannot skip it
+                active.decrementAndGet();
+                drainLoop();
+            } else {
+                queue.offer(item);
+                active.decrementAndGet();
+                drain();
+            }
+        }
+
+        void innerFailure(FlatMapUniInner<O> inner, Throwable failure) {
+            remove(inner);
+            if (!Subscriptions.addFailure(failures, failure)) {
+                Infrastructure.handleDroppedException(failure);
+            }
+            completedWithoutItem.incrementAndGet();
+            active.decrementAndGet();
+            drain();
+        }
+
+        private void replenish(long n) {
+            // Only called while holding wip
+            if (concurrency != Integer.MAX_VALUE && !done && !cancelled) {
+                upstream.get().request(n);
+            }
+        }
+
+        private void cleanup() {
+            Subscriptions.cancel(upstream);
+            unsubscribe();
+            queue.clear();
+        }
+
+        private boolean isCancelledOrFailed() {
+            if (cancelled) {
+                cleanup();
+                return true;
+            }
+            if (!delayError && failures.get() != null) {
+                cleanup();
+                Throwable failure = Subscriptions.terminate(failures);
+                if (failure != Subscriptions.TERMINATED) {
+                    downstream.onFailure(failure);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isDone() {
+            // done must be read first, as the upstream items increment active before done is set
+            return done && active.get() == 0;
+        }
+
+        private void terminate() {
+            Throwable failure = Subscriptions.terminate(failures);
+            if (failure == null) {
+                downstream.onCompletion();
+            } else if (failure != Subscriptions.TERMINATED) {
+                downstream.onFailure(failure);
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            drainLoop();
+        }
+
+        void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+
+                while (e != r) {
+                    if (isCancelledOrFailed()) {
+                        return;
+                    }
+                    boolean isDone = isDone();
+                    O item = queue.poll();
+                    if (item == null) {
+                        if (isDone) {
+                            terminate();
+                            return;
+                        }
+                        break;
+                    }
+                    downstream.onItem(item);
+                    e++;
+                }
+
+                if (e == r) {
+                    if (isCancelledOrFailed()) {
+                        return;
+                    }
+                    if (isDone() && queue.isEmpty()) {
+                        terminate();
+                        return;
+                    }
+                }
+
+                if (e != 0L) {
+                    Subscriptions.produced(requested, e);
+                }
+                long n = e + completedWithoutItem.getAndSet(0L);
+                if (n != 0L) {
+                    replenish(n);
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    static final class FlatMapUniInner<O> implements UniSubscriber<O> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<FlatMapUniInner, UniSubscription> SUBSCRIPTION = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapUniInner.class, UniSubscription.class, "subscription");
+
+        final FlatMapUniMainSubscriber<?, O> parent;
+
+        volatile UniSubscription subscription;
+
+        int index;
+
+        FlatMapUniInner(FlatMapUniMainSubscriber<?, O> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription s) {
+            if (!SUBSCRIPTION.compareAndSet(this, null, s)) {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(O item) {
+            parent.innerItem(this, item);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            parent.innerFailure(this, failure);
+        }
+
+        void cancel() {
+            UniSubscription s = SUBSCRIPTION.getAndSet(this, CANCELLED);
+            if (s != null && s != CANCELLED) {
+                s.cancel();
+            }
+        }
+    }
+}
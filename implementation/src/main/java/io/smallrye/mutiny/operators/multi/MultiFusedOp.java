@@ -0,0 +1,248 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Runs a sequence of synchronous item stages ({@code map}, {@code filter} and {@code onItem().invoke}) in a single
+ * processor.
+ * <p>
+ * Chaining these operators normally creates one processor per operator, each of them with its own upstream
+ * subscription, request accounting and {@code onItem} hop. When one of these operators is applied on top of another
+ * one, the factory methods ({@link #map(Multi, Function)}, {@link #filter(Multi, Predicate)} and
+ * {@link #invoke(Multi, Consumer)}) collapse them at assembly time into a single {@link MultiFusedOp} subscribing
+ * to the upstream of the first operator and running the composed stages.
+ * <p>
+ * The observable behavior is the same as the non-fused operators: a {@code null} mapped item is a failure, the
+ * items not passing a filter are replaced by a new request, a failure thrown by a stage cancels the upstream and is
+ * propagated downstream, and a cancellation from a stage stops the processing of the current item.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public final class MultiFusedOp<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Stage[] stages;
+
+    private MultiFusedOp(Multi<? extends I> upstream, Stage[] stages) {
+        super(upstream);
+        this.stages = stages;
+    }
+
+    /**
+     * Creates a {@link Multi} mapping the items from the upstream, fusing with the upstream operator if possible.
+     *
+     * @param upstream the upstream
+     * @param mapper the mapper, must not be {@code null}
+     * @param <T> the type of item from the upstream
+     * @param <R> the type of produced item
+     * @return the new {@link Multi}
+     */
+    public static <T, R> Multi<R> map(Multi<T> upstream, Function<? super T, ? extends R> mapper) {
+        Multi<R> fused = fuse(upstream, new MapStage(mapper));
+        return fused != null ? fused : new MultiMapOp<>(upstream, mapper);
+    }
+
+    /**
+     * Creates a {@link Multi} filtering the items from the upstream, fusing with the upstream operator if possible.
+     *
+     * @param upstream the upstream
+     * @param predicate the predicate, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    public static <T> Multi<T> filter(Multi<T> upstream, Predicate<? super T> predicate) {
+        Multi<T> fused = fuse(upstream, new FilterStage(predicate));
+        return fused != null ? fused : new MultiFilterOp<>(upstream, predicate);
+    }
+
+    /**
+     * Creates a {@link Multi} invoking the callback for each item from the upstream, fusing with the upstream operator
+     * if possible.
+     *
+     * @param upstream the upstream
+     * @param callback the callback, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    public static <T> Multi<T> invoke(Multi<T> upstream, Consumer<? super T> callback) {
+        Multi<T> fused = fuse(upstream, new InvokeStage(callback));
+        return fused != null ? fused : new MultiOnItemInvoke<>(upstream, callback);
+    }
+
+    /**
+     * Appends the given stage to the stages of the upstream, if the upstream can be fused.
+     * <p>
+     * Only the exact operator classes are fused: subclasses and upstreams decorated by a
+     * {@link io.smallrye.mutiny.infrastructure.MultiInterceptor} keep their own processor.
+     *
+     * @param upstream the upstream
+     * @param stage the stage to append
+     * @param <R> the type of item produced by the new stage
+     * @return the fused {@link Multi}, {@code null} if the upstream cannot be fused
+     */
+    private static <R> Multi<R> fuse(Multi<?> upstream, Stage stage) {
+        if (upstream == null || stage.function == null) {
+            return null; // Let the regular operator validate the parameters
+        }
+        if (upstream.getClass() == MultiFusedOp.class) {
+            MultiFusedOp<?, ?> op = (MultiFusedOp<?, ?>) upstream;
+            Stage[] stages = Arrays.copyOf(op.stages, op.stages.length + 1);
+            stages[op.stages.length] = stage;
+            return new MultiFusedOp<>(op.upstream, stages);
+        }
+        Stage previous;
+        Multi<?> root;
+        if (upstream.getClass() == MultiMapOp.class) {
+            MultiMapOp<?, ?> op = (MultiMapOp<?, ?>) upstream;
+            previous = new MapStage(op.mapper());
+            root = op.upstream;
+        } else if (upstream.getClass() == MultiFilterOp.class) {
+            MultiFilterOp<?> op = (MultiFilterOp<?>) upstream;
+            previous = new FilterStage(op.predicate());
+            root = op.upstream;
+        } else if (upstream.getClass() == MultiOnItemInvoke.class) {
+            MultiOnItemInvoke<?> op = (MultiOnItemInvoke<?>) upstream;
+            previous = new InvokeStage(op.callback());
+            root = op.upstream;
+        } else {
+            return null;
+        }
+        return new MultiFusedOp<>(root, new Stage[] { previous, stage });
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> downstream) {
+        if (downstream == null) {
+            throw new NullPointerException("Subscriber is `null`");
+        }
+        upstream.subscribe().withSubscriber(new FusedProcessor<>(downstream, stages));
+    }
+
+    static final class FusedProcessor<I, O> extends MultiOperatorProcessor<I, O> {
+
+        private final Stage[] stages;
+        private volatile boolean requestedMax = false;
+
+        FusedProcessor(MultiSubscriber<? super O> downstream, Stage[] stages) {
+            super(downstream);
+            this.stages = stages;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onItem(I item) {
+            Object current = item;
+            for (Stage stage : stages) {
+                if (isDone()) {
+                    return;
+                }
+                try {
+                    current = stage.apply(current);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                if (current == null) {
+                    // Filtered out
+                    request(1);
+                    return;
+                }
+            }
+            if (!isDone()) {
+                downstream.onItem((O) current);
+            }
+        }
+
+        @Override
+        public void request(long numberOfItems) {
+            if (requestedMax) {
+                return;
+            }
+            Subscription subscription = upstream.get();
+            if (subscription != CANCELLED) {
+                if (numberOfItems <= 0) {
+                    onFailure(new IllegalArgumentException("Invalid number of request, must be greater than 0"));
+                }
+                if (numberOfItems == Long.MAX_VALUE) {
+                    requestedMax = true;
+                }
+                subscription.request(numberOfItems);
+            }
+        }
+    }
+
+    /**
+     * A fused stage.
+     */
+    private abstract static class Stage {
+
+        final Object function;
+
+        Stage(Object function) {
+            this.function = function;
+        }
+
+        /**
+         * Applies the stage on the given item.
+         *
+         * @param item the item, not {@code null}
+         * @return the item to pass to the next stage, {@code null} to drop the item
+         */
+        abstract Object apply(Object item);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final class MapStage extends Stage {
+
+        MapStage(Function<?, ?> mapper) {
+            super(mapper);
+        }
+
+        @Override
+        Object apply(Object item) {
+            Object result = ((Function) function).apply(item);
+            if (result == null) {
+                throw new NullPointerException(MAPPER_RETURNED_NULL);
+            }
+            return result;
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final class FilterStage extends Stage {
+
+        FilterStage(Predicate<?> predicate) {
+            super(predicate);
+        }
+
+        @Override
+        Object apply(Object item) {
+            return ((Predicate) function).test(item) ? item : null;
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final class InvokeStage extends Stage {
+
+        InvokeStage(Consumer<?> callback) {
+            super(callback);
+        }
+
+        @Override
+        Object apply(Object item) {
+            ((Consumer) function).accept(item);
+            return item;
+        }
+    }
+}
@@ -2,10 +2,17 @@ package io.smallrye.mutiny.operators.multi;
 
 import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -24,24 +31,61 @@ import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
+/**
+ * Splits the upstream items into groups, emitted as {@link GroupedMulti}, according to the key computed for each
+ * item.
+ * <p>
+ * By default, a group lives until the upstream terminates or until it is cancelled. When a maximum number of groups
+ * or an idle duration is configured, the least recently used group, or the groups that have not received items for
+ * the idle duration, are completed and removed. A later item with the same key creates a new group.
+ *
+ * @param <T> the type of item from the upstream
+ * @param <K> the type of key
+ * @param <V> the type of item emitted by the groups
+ */
 public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, GroupedMulti<K, V>> {
+
+    /**
+     * The default number of items requested upstream.
+     */
+    public static final int DEFAULT_REQUESTS = 128;
+
     private final Function<? super T, ? extends K> keySelector;
     private final Function<? super T, ? extends V> valueSelector;
+    private final int requests;
+    private final int maxGroups;
+    private final Duration evictIdleAfter;
 
     public MultiGroupByOp(Multi<T> upstream,
             Function<? super T, ? extends K> keySelector,
             Function<? super T, ? extends V> valueSelector) {
+        this(upstream, keySelector, valueSelector, DEFAULT_REQUESTS, Integer.MAX_VALUE, null);
+    }
+
+    public MultiGroupByOp(Multi<T> upstream,
+            Function<? super T, ? extends K> keySelector,
+            Function<? super T, ? extends V> valueSelector,
+            int requests, int maxGroups, Duration evictIdleAfter) {
         super(upstream);
         this.keySelector = keySelector;
         this.valueSelector = valueSelector;
+        this.requests = requests;
+        this.maxGroups = maxGroups;
+        this.evictIdleAfter = evictIdleAfter;
     }
 
     @Override
     public void subscribe(MultiSubscriber<? super GroupedMulti<K, V>> downstream) {
         Objects.requireNonNull(downstream, "The subscriber must not be `null`");
-        final Map<Object, GroupedUnicast<K, V>> groups = new ConcurrentHashMap<>();
+        final Map<Object, GroupedUnicast<K, V>> groups;
+        if (maxGroups == Integer.MAX_VALUE && evictIdleAfter == null) {
+            groups = new ConcurrentHashMap<>();
+        } else {
+            // Access-ordered, so the eldest entry is the least recently used group
+            groups = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+        }
         MultiGroupByProcessor<T, K, V> processor = new MultiGroupByProcessor<>(downstream, keySelector, valueSelector,
-                groups);
+                groups, requests, maxGroups, evictIdleAfter);
         upstream.subscribe().withSubscriber(processor);
     }
 
@@ -50,6 +94,11 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         private final Function<? super T, ? extends V> valueSelector;
         private final Map<Object, GroupedUnicast<K, V>> groups;
         private final Queue<GroupedMulti<K, V>> queue;
+        private final int requests;
+        private final int maxGroups;
+        private final long evictIdleAfterNanos;
+        // Whether groups can be evicted, in which case the item emissions and the evictions are coordinated
+        private final boolean evictable;
 
         private static final Object NO_KEY = new Object();
 
@@ -64,15 +113,29 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         volatile boolean finished;
         boolean done;
 
+        private volatile Future<?> evictionTask;
+
         public MultiGroupByProcessor(MultiSubscriber<? super GroupedMulti<K, V>> downstream,
                 Function<? super T, ? extends K> keySelector,
                 Function<? super T, ? extends V> valueSelector,
                 Map<Object, GroupedUnicast<K, V>> groups) {
+            this(downstream, keySelector, valueSelector, groups, DEFAULT_REQUESTS, Integer.MAX_VALUE, null);
+        }
+
+        public MultiGroupByProcessor(MultiSubscriber<? super GroupedMulti<K, V>> downstream,
+                Function<? super T, ? extends K> keySelector,
+                Function<? super T, ? extends V> valueSelector,
+                Map<Object, GroupedUnicast<K, V>> groups,
+                int requests, int maxGroups, Duration evictIdleAfter) {
             super(downstream);
             this.keySelector = keySelector;
             this.valueSelector = valueSelector;
             this.groups = groups;
             this.queue = Queues.<GroupedMulti<K, V>> unbounded(Queues.BUFFER_S).get();
+            this.requests = requests;
+            this.maxGroups = maxGroups;
+            this.evictIdleAfterNanos = evictIdleAfter != null ? evictIdleAfter.toNanos() : 0L;
+            this.evictable = maxGroups != Integer.MAX_VALUE || evictIdleAfter != null;
         }
 
         @Override
@@ -80,12 +143,76 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             if (upstream.compareAndSet(null, subscription)) {
                 // Propagate subscription to downstream.
                 downstream.onSubscribe(this);
-                subscription.request(128);
+                if (evictIdleAfterNanos > 0) {
+                    startEvictionTask();
+                }
+                subscription.request(requests);
             } else {
                 subscription.cancel();
             }
         }
 
+        private void startEvictionTask() {
+            try {
+                evictionTask = Infrastructure.getDefaultWorkerPool().scheduleAtFixedRate(this::evictIdleGroups,
+                        evictIdleAfterNanos, evictIdleAfterNanos, TimeUnit.NANOSECONDS);
+            } catch (Throwable e) {
+                Subscriptions.cancel(upstream);
+                onFailure(e);
+                return;
+            }
+            if (isDone()) {
+                // Terminated or cancelled in the meantime
+                stopEvictionTask();
+            }
+        }
+
+        private void stopEvictionTask() {
+            Future<?> task = evictionTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
+        private void evictIdleGroups() {
+            long now = System.nanoTime();
+            List<GroupedUnicast<K, V>> idle = new ArrayList<>();
+            synchronized (groups) {
+                for (GroupedUnicast<K, V> group : groups.values()) {
+                    if (now - group.state.lastItemTime >= evictIdleAfterNanos && group.state.tryEvict()) {
+                        idle.add(group);
+                    }
+                }
+            }
+            for (GroupedUnicast<K, V> group : idle) {
+                evict(group);
+            }
+        }
+
+        private void evictLeastRecentlyUsedGroup() {
+            GroupedUnicast<K, V> eldest = null;
+            synchronized (groups) {
+                for (GroupedUnicast<K, V> group : groups.values()) {
+                    if (group.state.tryEvict()) {
+                        eldest = group;
+                        break;
+                    }
+                }
+            }
+            if (eldest != null) {
+                evict(eldest);
+            }
+        }
+
+        private void evict(GroupedUnicast<K, V> group) {
+            release(group);
+            try {
+                group.onComplete();
+            } catch (Throwable e) {
+                Infrastructure.handleDroppedException(e);
+            }
+        }
+
         @Override
         public void onItem(T item) {
             if (isDone()) {
@@ -104,12 +231,23 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             boolean newGroup = false;
             Object mapKey = key != null ? key : NO_KEY;
             GroupedUnicast<K, V> group = groups.get(mapKey);
+            if (group != null && evictable && !group.state.tryEnter()) {
+                // The group has been evicted or cancelled, a new one is created
+                groups.remove(mapKey, group);
+                group = null;
+            }
             if (group == null) {
                 if (isCancelled()) {
                     return;
                 }
 
+                if (maxGroups != Integer.MAX_VALUE && groups.size() >= maxGroups) {
+                    evictLeastRecentlyUsedGroup();
+                }
                 group = GroupedUnicast.createWith(key, this);
+                if (evictable) {
+                    group.state.tryEnter();
+                }
                 groups.put(mapKey, group);
                 groupCount.getAndIncrement();
                 newGroup = true;
@@ -128,6 +266,9 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             }
 
             group.onItem(value);
+            if (evictable) {
+                group.state.exit(evictIdleAfterNanos > 0 ? System.nanoTime() : 0L);
+            }
             if (newGroup) {
                 this.queue.offer(group);
                 drain();
@@ -139,8 +280,8 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             Subscription subscription = upstream.getAndSet(CANCELLED);
             if (subscription != CANCELLED) {
                 done = true;
-                groups.values().forEach(group -> group.onFailure(throwable));
-                groups.clear();
+                stopEvictionTask();
+                terminateGroups().forEach(group -> group.onFailure(throwable));
                 failure = throwable;
                 finished = true;
                 drain();
@@ -154,13 +295,23 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             Subscription subscription = upstream.getAndSet(CANCELLED);
             if (subscription != CANCELLED) {
                 done = true;
-                groups.values().forEach(GroupedUnicast::onComplete);
-                groups.clear();
+                stopEvictionTask();
+                terminateGroups().forEach(GroupedUnicast::onComplete);
                 finished = true;
                 drain();
             }
         }
 
+        private List<GroupedUnicast<K, V>> terminateGroups() {
+            // Copy the groups, as their subscribers may cancel them (and so remove them) while being terminated
+            List<GroupedUnicast<K, V>> list;
+            synchronized (groups) {
+                list = new ArrayList<>(groups.values());
+                groups.clear();
+            }
+            return list;
+        }
+
         @Override
         public void request(long n) {
             if (n > 0) {
@@ -175,15 +326,24 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             // but running groups still require new values
             if (cancelled.compareAndSet(false, true)) {
                 if (groupCount.decrementAndGet() == 0) {
+                    stopEvictionTask();
                     Subscriptions.cancel(upstream);
                 }
             }
         }
 
-        public void cancel(K key) {
+        void cancel(GroupedUnicast<K, V> group) {
+            if (group.state.tryCancel()) {
+                release(group);
+            }
+        }
+
+        private void release(GroupedUnicast<K, V> group) {
+            K key = group.key();
             Object mapKey = key != null ? key : NO_KEY;
-            groups.remove(mapKey);
+            groups.remove(mapKey, group);
             if (groupCount.decrementAndGet() == 0) {
+                stopEvictionTask();
                 Subscriptions.cancel(upstream);
 
                 if (wip.getAndIncrement() == 0) {
@@ -263,35 +423,37 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
 
     static final class GroupedUnicast<K, T> extends AbstractMulti<T> implements GroupedMulti<K, T> {
 
-        private final State<T, K> downstream;
+        private final State<T, K> state;
         private final K key;
 
         public static <T, K> GroupedUnicast<K, T> createWith(K key,
                 MultiGroupByProcessor<?, K, T> parent) {
             State<T, K> state = new State<>(parent, key);
-            return new GroupedUnicast<>(key, state);
+            GroupedUnicast<K, T> group = new GroupedUnicast<>(key, state);
+            state.group = group;
+            return group;
         }
 
-        protected GroupedUnicast(K key, State<T, K> downstream) {
+        protected GroupedUnicast(K key, State<T, K> state) {
             this.key = key;
-            this.downstream = downstream;
+            this.state = state;
         }
 
         @Override
         public void subscribe(MultiSubscriber<? super T> s) {
-            downstream.subscribe(s);
+            state.subscribe(s);
         }
 
         public void onItem(T t) {
-            downstream.onItem(t);
+            state.onItem(t);
         }
 
         public void onFailure(Throwable e) {
-            downstream.onFailure(e);
+            state.onFailure(e);
         }
 
         public void onComplete() {
-            downstream.onCompletion();
+            state.onCompletion();
         }
 
         @Override
@@ -303,23 +465,55 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
     @SuppressWarnings({ "ReactiveStreamsPublisherImplementation" })
     private static final class State<T, K> implements Subscription, Publisher<T> {
 
+        // The group is receiving items, or can be evicted
+        private static final int IDLE = 0;
+        // The group is receiving an item from the upstream, and cannot be evicted
+        private static final int EMITTING = 1;
+        // The group has been evicted or cancelled, and does not receive items anymore
+        private static final int RELEASED = 2;
+
         private final AtomicReference<Subscriber<? super T>> downstream = new AtomicReference<>();
         private final AtomicBoolean cancelled = new AtomicBoolean();
         private final AtomicLong requested = new AtomicLong();
         private final AtomicBoolean done = new AtomicBoolean();
         private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicInteger status = new AtomicInteger(IDLE);
 
-        private final K key;
         private final Queue<T> queue;
         private final MultiGroupByProcessor<?, K, T> parent;
 
         private Throwable failure;
+        private GroupedUnicast<K, T> group;
+
+        // The time of the last item, only set when idle groups are evicted
+        volatile long lastItemTime;
 
         @SuppressWarnings("unchecked")
         State(MultiGroupByProcessor<?, K, T> parent, K key) {
             this.parent = parent;
-            this.queue = (Queue<T>) Queues.unbounded(Queues.BUFFER_S).get();
-            this.key = key;
+            // Small chunks, as there may be many groups, the items buffered by all the groups are bounded by the
+            // upstream requests
+            this.queue = (Queue<T>) Queues.unbounded(Queues.BUFFER_XS).get();
+            this.lastItemTime = System.nanoTime();
+        }
+
+        boolean tryEnter() {
+            return status.compareAndSet(IDLE, EMITTING);
+        }
+
+        void exit(long now) {
+            if (now != 0L) {
+                lastItemTime = now;
+            }
+            status.compareAndSet(EMITTING, IDLE);
+        }
+
+        boolean tryEvict() {
+            return status.compareAndSet(IDLE, RELEASED);
+        }
+
+        boolean tryCancel() {
+            return status.getAndSet(RELEASED) != RELEASED;
         }
 
         @Override
@@ -333,7 +527,7 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         @Override
         public void cancel() {
             if (cancelled.compareAndSet(false, true)) {
-                parent.cancel(key);
+                parent.cancel(group);
                 drain();
             }
         }
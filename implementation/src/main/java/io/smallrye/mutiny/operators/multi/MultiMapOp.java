@@ -16,6 +16,10 @@ public final class MultiMapOp<T, U> extends AbstractMultiOperator<T, U> {
         this.mapper = ParameterValidation.nonNull(mapper, "mapper");
     }
 
+    Function<? super T, ? extends U> mapper() {
+        return mapper;
+    }
+
     @Override
     public void subscribe(MultiSubscriber<? super U> downstream) {
         if (downstream == null) {
@@ -17,6 +17,10 @@ public class MultiOnItemInvoke<T> extends AbstractMultiOperator<T, T> {
         this.callback = nonNull(callback, "callback");
     }
 
+    Consumer<? super T> callback() {
+        return callback;
+    }
+
     @Override
     public void subscribe(MultiSubscriber<? super T> downstream) {
         upstream.subscribe().withSubscriber(new MultiOnItemInvokeProcessor(nonNull(downstream, "downstream")));
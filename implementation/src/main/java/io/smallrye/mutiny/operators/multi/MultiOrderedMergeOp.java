@@ -0,0 +1,249 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Merges the rails produced by a {@link MultiRailDispatcher} back into a single stream, preserving the upstream
+ * order.
+ * <p>
+ * The rails are consumed in round-robin order, like they have been fed. To keep the rails aligned, the items
+ * filtered out on a rail must be replaced by the {@link #SKIPPED} marker, which is consumed without being emitted
+ * downstream. The merge completes when the next expected rail completes without items, and fails as soon as a rail
+ * fails.
+ *
+ * @param <T> the type of item
+ */
+public class MultiOrderedMergeOp<T> extends AbstractMulti<T> {
+
+    /**
+     * Marker replacing the items filtered out on a rail.
+     */
+    public static final Object SKIPPED = new Object();
+
+    private final List<? extends Publisher<?>> rails;
+    private final int prefetch;
+
+    public MultiOrderedMergeOp(List<? extends Publisher<?>> rails, int prefetch) {
+        this.rails = nonNull(rails, "rails");
+        this.prefetch = positive(prefetch, "prefetch");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        OrderedMergeMainSubscriber<T> main = new OrderedMergeMainSubscriber<>(subscriber, rails.size(), prefetch);
+        subscriber.onSubscribe(main);
+        main.subscribe(rails);
+    }
+
+    static final class OrderedMergeMainSubscriber<T> implements Subscription {
+
+        private final MultiSubscriber<? super T> downstream;
+        private final OrderedMergeInner[] inners;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean cancelled;
+
+        // Only accessed from the drain loop
+        private int current;
+
+        OrderedMergeMainSubscriber(MultiSubscriber<? super T> downstream, int count, int prefetch) {
+            this.downstream = downstream;
+            this.inners = new OrderedMergeInner[count];
+            for (int i = 0; i < count; i++) {
+                inners[i] = new OrderedMergeInner(this, prefetch);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void subscribe(List<? extends Publisher<?>> rails) {
+            for (int i = 0; i < inners.length; i++) {
+                if (cancelled) {
+                    return;
+                }
+                ((Publisher<Object>) rails.get(i)).subscribe(inners[i]);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onFailure(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelAll();
+                if (wip.getAndIncrement() == 0) {
+                    clearAll();
+                }
+            }
+        }
+
+        void onFailure(Throwable throwable) {
+            if (failure.compareAndSet(null, throwable)) {
+                drain();
+            }
+        }
+
+        private void cancelAll() {
+            for (OrderedMergeInner inner : inners) {
+                inner.cancel();
+            }
+        }
+
+        private void clearAll() {
+            for (OrderedMergeInner inner : inners) {
+                inner.queue.clear();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+
+                for (;;) {
+                    if (cancelled) {
+                        clearAll();
+                        return;
+                    }
+                    Throwable throwable = failure.get();
+                    if (throwable != null) {
+                        cancelled = true;
+                        cancelAll();
+                        clearAll();
+                        downstream.onFailure(throwable);
+                        return;
+                    }
+
+                    OrderedMergeInner inner = inners[current];
+                    boolean isDone = inner.done;
+                    Object item = inner.queue.peek();
+                    if (item == null) {
+                        if (isDone) {
+                            // The upstream has no more items
+                            cancelled = true;
+                            cancelAll();
+                            clearAll();
+                            downstream.onCompletion();
+                            return;
+                        }
+                        break;
+                    }
+                    if (item != SKIPPED) {
+                        if (e == r) {
+                            break;
+                        }
+                        downstream.onItem((T) item);
+                        e++;
+                    }
+                    inner.queue.poll();
+                    inner.consumed();
+                    current = current + 1 == inners.length ? 0 : current + 1;
+                }
+
+                if (e != 0) {
+                    Subscriptions.produced(requested, e);
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    static final class OrderedMergeInner implements MultiSubscriber<Object> {
+
+        private final OrderedMergeMainSubscriber<?> parent;
+        private final int prefetch;
+        private final int limit;
+        final Queue<Object> queue;
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        volatile boolean done;
+
+        // Only accessed from the drain loop
+        private int consumed;
+
+        OrderedMergeInner(OrderedMergeMainSubscriber<?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = Queues.get(prefetch).get();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription.compareAndSet(null, s)) {
+                s.request(prefetch);
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(Object item) {
+            if (!queue.offer(item)) {
+                cancel();
+                onFailure(new BackPressureFailure("Buffer is full, cannot deliver the item"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            parent.onFailure(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            done = true;
+            parent.drain();
+        }
+
+        void consumed() {
+            if (++consumed == limit) {
+                consumed = 0;
+                subscription.get().request(limit);
+            }
+        }
+
+        void cancel() {
+            Subscriptions.cancel(subscription);
+        }
+    }
+}
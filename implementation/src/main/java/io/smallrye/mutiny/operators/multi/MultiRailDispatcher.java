@@ -0,0 +1,289 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Subscribes once to the upstream and dispatches its items onto {@code n} <em>rails</em>, in round-robin order: the
+ * item {@code k} is always dispatched on the rail {@code k % n}.
+ * <p>
+ * Each rail is a {@link Multi} accepting a single subscriber. The upstream is subscribed once all the rails have been
+ * subscribed. The upstream is requested {@code prefetch} items per rail, and is only replenished from the slowest
+ * rail's consumption, so each rail buffers at most about {@code prefetch} items: a rail whose subscriber stops
+ * requesting eventually stops the other rails. A failure is propagated to every rail right away, and cancelling any
+ * rail cancels the upstream.
+ *
+ * @param <T> the type of item
+ */
+public class MultiRailDispatcher<T> implements MultiSubscriber<T> {
+
+    private final Multi<? extends T> upstream;
+    private final List<Rail> rails;
+    private final int prefetch;
+
+    private final AtomicInteger subscribedRails = new AtomicInteger();
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final AtomicLong pendingRequests = new AtomicLong();
+    // The total number of items requested from the upstream
+    private final AtomicLong upstreamRequested = new AtomicLong();
+
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    // Written before done
+    private Throwable failure;
+
+    // Only accessed from the upstream signals
+    private int index;
+
+    public MultiRailDispatcher(Multi<? extends T> upstream, int rails, int prefetch) {
+        this.upstream = nonNull(upstream, "upstream");
+        this.prefetch = positive(prefetch, "prefetch");
+        positive(rails, "rails");
+        List<Rail> list = new ArrayList<>(rails);
+        for (int i = 0; i < rails; i++) {
+            list.add(new Rail());
+        }
+        this.rails = list;
+    }
+
+    /**
+     * @return the rails, all of them must be subscribed for the upstream to be subscribed
+     */
+    public List<Multi<T>> rails() {
+        return Collections.unmodifiableList(rails);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (subscription.compareAndSet(null, s)) {
+            long initial = (long) prefetch * rails.size();
+            upstreamRequested.set(initial);
+            requestUpstream(initial);
+        } else {
+            s.cancel();
+        }
+    }
+
+    @Override
+    public void onItem(T item) {
+        if (done || cancelled) {
+            return;
+        }
+        Rail rail = rails.get(index);
+        index = index + 1 == rails.size() ? 0 : index + 1;
+        rail.queue.offer(item);
+        rail.drain();
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        if (done) {
+            return;
+        }
+        this.failure = failure;
+        this.done = true;
+        drainAll();
+    }
+
+    @Override
+    public void onCompletion() {
+        if (done) {
+            return;
+        }
+        this.done = true;
+        drainAll();
+    }
+
+    private void drainAll() {
+        for (Rail rail : rails) {
+            rail.drain();
+        }
+    }
+
+    /**
+     * Requests the items allowing the slowest rail to have {@code prefetch} items in flight. As the items are
+     * dispatched in round-robin order, requesting more would only grow the queue of the slowest rail.
+     */
+    private void replenish() {
+        long slowest = Long.MAX_VALUE;
+        for (Rail rail : rails) {
+            slowest = Math.min(slowest, rail.consumed);
+        }
+        long target = (slowest + prefetch) * rails.size();
+        for (;;) {
+            long current = upstreamRequested.get();
+            if (target <= current) {
+                return;
+            }
+            if (upstreamRequested.compareAndSet(current, target)) {
+                requestUpstream(target - current);
+                return;
+            }
+        }
+    }
+
+    private void requestUpstream(long n) {
+        // The requests come from the different rails, they must be serialized
+        if (pendingRequests.getAndAdd(n) != 0) {
+            return;
+        }
+        long requests = n;
+        for (;;) {
+            Subscription current = subscription.get();
+            if (current != null && current != Subscriptions.CANCELLED) {
+                current.request(requests);
+            }
+            requests = pendingRequests.addAndGet(-requests);
+            if (requests == 0) {
+                return;
+            }
+        }
+    }
+
+    private void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            Subscriptions.cancel(subscription);
+            drainAll();
+        }
+    }
+
+    private final class Rail extends AbstractMulti<T> implements Subscription {
+
+        final Queue<T> queue = Queues.<T> unbounded(prefetch).get();
+        final AtomicLong requested = new AtomicLong();
+        final AtomicInteger wip = new AtomicInteger();
+        final AtomicBoolean subscribed = new AtomicBoolean();
+        final int limit = prefetch - (prefetch >> 2);
+
+        volatile MultiSubscriber<? super T> downstream;
+
+        // The number of items consumed by the rail, only written from the drain loop
+        volatile long consumed;
+        // Only accessed from the drain loop
+        int sinceReplenish;
+
+        @Override
+        public void subscribe(MultiSubscriber<? super T> subscriber) {
+            ParameterValidation.nonNullNpe(subscriber, "subscriber");
+            if (!subscribed.compareAndSet(false, true)) {
+                Subscriptions.fail(subscriber, new IllegalStateException("A rail only accepts a single subscriber"));
+                return;
+            }
+            subscriber.onSubscribe(this);
+            downstream = subscriber;
+            if (subscribedRails.incrementAndGet() == rails.size()) {
+                upstream.subscribe().withSubscriber(MultiRailDispatcher.this);
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                MultiSubscriber<? super T> subscriber = downstream;
+                cancel();
+                if (subscriber != null) {
+                    subscriber.onFailure(Subscriptions.getInvalidRequestException());
+                }
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            MultiRailDispatcher.this.cancel();
+        }
+
+        void drain() {
+            MultiSubscriber<? super T> subscriber = downstream;
+            if (subscriber == null || wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+
+                while (e != r) {
+                    boolean isDone = done;
+                    if (isTerminated(subscriber, isDone)) {
+                        return;
+                    }
+                    T item = queue.poll();
+                    if (item == null) {
+                        if (isDone) {
+                            subscriber.onCompletion();
+                            return;
+                        }
+                        break;
+                    }
+
+                    subscriber.onItem(item);
+                    e++;
+
+                    consumed++;
+                    if (++sinceReplenish == limit) {
+                        sinceReplenish = 0;
+                        replenish();
+                    }
+                }
+
+                if (e == r) {
+                    boolean isDone = done;
+                    if (isTerminated(subscriber, isDone)) {
+                        return;
+                    }
+                    if (isDone && queue.isEmpty()) {
+                        subscriber.onCompletion();
+                        return;
+                    }
+                }
+
+                if (e != 0) {
+                    Subscriptions.produced(requested, e);
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean isTerminated(MultiSubscriber<? super T> subscriber, boolean isDone) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (isDone && failure != null) {
+                queue.clear();
+                subscriber.onFailure(failure);
+                return true;
+            }
+            return false;
+        }
+    }
+}
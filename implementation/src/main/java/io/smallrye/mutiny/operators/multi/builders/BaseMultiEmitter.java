@@ -2,9 +2,11 @@ package io.smallrye.mutiny.operators.multi.builders;
 
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.helpers.MultiEmitterRequests;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -16,6 +18,7 @@ abstract class BaseMultiEmitter<T>
     protected final MultiSubscriber<? super T> downstream;
 
     private final AtomicReference<Runnable> onTermination;
+    private final MultiEmitterRequests requests = new MultiEmitterRequests(this, this::addRequests);
 
     private static final Runnable CLEARED = () -> {
     };
@@ -53,6 +56,7 @@ abstract class BaseMultiEmitter<T>
     }
 
     private void cleanup() {
+        requests.clear();
         Runnable action = onTermination.getAndSet(CLEARED);
         if (action != null && action != CLEARED) {
             action.run();
@@ -91,11 +95,16 @@ abstract class BaseMultiEmitter<T>
     @Override
     public final void request(long n) {
         if (n > 0) {
-            Subscriptions.add(requested, n);
-            onRequested();
+            requests.request(n);
         }
     }
 
+    private long addRequests(long n) {
+        Subscriptions.add(requested, n);
+        onRequested();
+        return n;
+    }
+
     void onRequested() {
         // default is no-op
     }
@@ -109,6 +118,12 @@ abstract class BaseMultiEmitter<T>
         return this;
     }
 
+    @Override
+    public MultiEmitter<T> onRequest(LongConsumer onRequest) {
+        requests.onRequest(onRequest);
+        return this;
+    }
+
     public MultiEmitter<T> serialize() {
         return new SerializedMultiEmitter<>(this);
     }
@@ -3,6 +3,7 @@ package io.smallrye.mutiny.operators.multi.builders;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.subscription.MultiEmitter;
@@ -35,6 +36,25 @@ public class BufferItemMultiEmitter<T> extends BaseMultiEmitter<T> {
         return this;
     }
 
+    @Override
+    public MultiEmitter<T> emitAll(Iterable<? extends T> items) {
+        ParameterValidation.nonNull(items, "items");
+        if (done || isCancelled()) {
+            return this;
+        }
+
+        for (T t : items) {
+            if (t == null) {
+                // The items enqueued so far are drained before the failure
+                fail(new NullPointerException("`emitAll` called with a `null` item."));
+                return this;
+            }
+            queue.offer(t);
+        }
+        drain();
+        return this;
+    }
+
     @Override
     public void failed(Throwable failure) {
         if (done || isCancelled()) {
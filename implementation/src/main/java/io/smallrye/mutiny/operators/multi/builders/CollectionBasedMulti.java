@@ -8,12 +8,11 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
-import org.reactivestreams.Subscription;
-
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public class CollectionBasedMulti<T> extends AbstractMulti<T> {
 
@@ -42,10 +41,11 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         actual.onSubscribe(new CollectionSubscription<>(actual, collection));
     }
 
-    public static final class CollectionSubscription<T> implements Subscription {
+    public static final class CollectionSubscription<T> implements QueueSubscription<T> {
 
         private final MultiSubscriber<? super T> downstream;
         private final List<T> collection; // Immutable
+        private final boolean fusable;
         private int index;
 
         AtomicBoolean cancelled = new AtomicBoolean();
@@ -54,6 +54,7 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         public CollectionSubscription(MultiSubscriber<? super T> downstream, Collection<T> collection) {
             this.downstream = downstream;
             this.collection = new ArrayList<>(collection);
+            this.fusable = downstream instanceof QueueSubscription.FusionCapable;
         }
 
         @Override
@@ -130,6 +131,32 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         public void cancel() {
             cancelled.set(true);
         }
+
+        @Override
+        public int requestFusion(int mode) {
+            if (fusable && (mode & SYNC) != 0) {
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            if (index == collection.size()) {
+                return null;
+            }
+            return collection.get(index++);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return index == collection.size();
+        }
+
+        @Override
+        public void clear() {
+            index = collection.size();
+        }
     }
 
 }
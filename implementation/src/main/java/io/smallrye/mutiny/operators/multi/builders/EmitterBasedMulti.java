@@ -1,9 +1,11 @@
 package io.smallrye.mutiny.operators.multi.builders;
 
+import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
@@ -83,6 +85,33 @@ public final class EmitterBasedMulti<T> extends AbstractMulti<T> {
             }
         }
 
+        @Override
+        public MultiEmitter<T> emitAll(Iterable<? extends T> items) {
+            ParameterValidation.nonNull(items, "items");
+            long emitted = 0L;
+            for (T item : items) {
+                if (isCancelled()) {
+                    break;
+                }
+                if (item == null) {
+                    fail(new NullPointerException("`emitAll` called with a `null` item."));
+                    break;
+                }
+                downstream.onItem(item);
+                emitted++;
+            }
+
+            if (emitted != 0L) {
+                for (;;) {
+                    long r = requested.get();
+                    if (r == 0L || requested.compareAndSet(r, Subscriptions.subOrZero(r, emitted))) {
+                        break;
+                    }
+                }
+            }
+            return this;
+        }
+
     }
 
     abstract static class NoOverflowBaseMultiEmitter<T> extends BaseMultiEmitter<T> {
@@ -112,6 +141,37 @@ public final class EmitterBasedMulti<T> extends AbstractMulti<T> {
             return this;
         }
 
+        @Override
+        public final MultiEmitter<T> emitAll(Iterable<? extends T> items) {
+            Iterator<? extends T> iterator = ParameterValidation.nonNull(items, "items").iterator();
+            long r = requested.get();
+            long e = 0L;
+            while (!isCancelled() && iterator.hasNext()) {
+                T t = iterator.next();
+                if (t == null) {
+                    fail(new NullPointerException("`emitAll` called with a `null` item."));
+                    break;
+                }
+
+                if (e == r) {
+                    // The demand read for the batch is consumed, record the emissions and read the new demand
+                    r = Subscriptions.produced(requested, e);
+                    e = 0L;
+                    if (r == 0L) {
+                        onOverflow();
+                        continue;
+                    }
+                }
+                downstream.onItem(t);
+                e++;
+            }
+
+            if (e != 0L) {
+                Subscriptions.produced(requested, e);
+            }
+            return this;
+        }
+
         abstract void onOverflow();
     }
 
@@ -167,6 +227,27 @@ public final class EmitterBasedMulti<T> extends AbstractMulti<T> {
             return this;
         }
 
+        @Override
+        public MultiEmitter<T> emitAll(Iterable<? extends T> items) {
+            ParameterValidation.nonNull(items, "items");
+            for (T t : items) {
+                if (done || isCancelled()) {
+                    return this;
+                }
+                if (t == null) {
+                    failed(new NullPointerException("`emitAll` called with a `null` item."));
+                    return this;
+                }
+                queue.set(t);
+                // Without requests, the items just replace each other, only the last one needs to be drained
+                if (requested.get() != 0L) {
+                    drain();
+                }
+            }
+            drain();
+            return this;
+        }
+
         @Override
         public void failed(Throwable e) {
             if (done || isCancelled()) {
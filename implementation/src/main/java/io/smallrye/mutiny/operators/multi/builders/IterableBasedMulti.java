@@ -3,12 +3,11 @@ package io.smallrye.mutiny.operators.multi.builders;
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicLong;
 
-import org.reactivestreams.Subscription;
-
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public class IterableBasedMulti<T> extends AbstractMulti<T> {
 
@@ -48,7 +47,7 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
         downstream.onSubscribe(new IteratorSubscription<T>(downstream, it));
     }
 
-    abstract static class BaseRangeSubscription<T> implements Subscription {
+    abstract static class BaseRangeSubscription<T> implements QueueSubscription<T> {
         protected final Iterator<? extends T> iterator;
         protected final MultiSubscriber<? super T> downstream;
         protected volatile boolean cancelled;
@@ -87,8 +86,62 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
 
     static final class IteratorSubscription<T> extends BaseRangeSubscription<T> {
 
+        private final boolean fusable;
+
+        /**
+         * {@code true} once the first item has been polled, the first {@code hasNext} call is done at subscription
+         * time.
+         */
+        private boolean polled;
+
         IteratorSubscription(MultiSubscriber<? super T> actual, Iterator<? extends T> it) {
             super(actual, it);
+            this.fusable = actual instanceof QueueSubscription.FusionCapable;
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            if (fusable && (mode & SYNC) != 0) {
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            if (cancelled) {
+                return null;
+            }
+            if (polled) {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+            } else {
+                polled = true;
+            }
+            T t = iterator.next();
+            if (t == null) {
+                throw new NullPointerException("Iterator.next() returned a null value");
+            }
+            return t;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            if (cancelled) {
+                return true;
+            }
+            try {
+                return polled && !iterator.hasNext();
+            } catch (Throwable ignored) {
+                // Report the failure on the next poll
+                return false;
+            }
+        }
+
+        @Override
+        public void clear() {
+            cancelled = true;
         }
 
         @Override
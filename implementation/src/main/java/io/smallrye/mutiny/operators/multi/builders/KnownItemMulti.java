@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.operators.multi.builders;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.StrictMultiSubscriber;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.SafeSubscriber;
+
+/**
+ * Specialized {@link io.smallrye.mutiny.Multi} implementation emitting a single known item, and then completing.
+ * <p>
+ * Operators can read the item using {@link #item()} instead of subscribing, for example to flatten it without
+ * creating an inner subscriber.
+ *
+ * @param <T> the type of the item
+ */
+public final class KnownItemMulti<T> extends AbstractMulti<T> {
+
+    private final T item;
+
+    public KnownItemMulti(T item) {
+        this.item = ParameterValidation.nonNull(item, "item");
+    }
+
+    /**
+     * @return the item, not {@code null}
+     */
+    public T item() {
+        return item;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        subscriber.onSubscribe(new KnownItemSubscription<>(subscriber, item));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        // NOTE The Reactive Streams TCK mandates throwing an NPE.
+        Objects.requireNonNull(subscriber, "Subscriber is `null`");
+        // A subscriber throwing from onNext receives the failure
+        subscribe(new StrictMultiSubscriber<>(new SafeSubscriber<>(subscriber)));
+    }
+
+    private static final class KnownItemSubscription<T> implements Subscription {
+
+        private final MultiSubscriber<? super T> downstream;
+        private final T item;
+
+        // Set once the item has been emitted, or on cancellation
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        KnownItemSubscription(MultiSubscriber<? super T> downstream, T item) {
+            this.downstream = downstream;
+            this.item = item;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done.compareAndSet(false, true)) {
+                if (n <= 0) {
+                    downstream.onFailure(Subscriptions.getInvalidRequestException());
+                    return;
+                }
+                downstream.onItem(item);
+                downstream.onCompletion();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+        }
+    }
+}
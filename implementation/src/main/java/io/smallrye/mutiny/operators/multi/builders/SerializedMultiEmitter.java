@@ -5,9 +5,11 @@ import static io.smallrye.mutiny.helpers.Subscriptions.TERMINATED;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.MultiEmitter;
@@ -51,10 +53,8 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
                 return;
             }
         } else {
-            Queue<T> q = queue;
-            synchronized (q) {
-                q.offer(item);
-            }
+            // The queue supports concurrent producers, the emitters losing the race do not need to synchronize
+            queue.offer(item);
             if (wip.getAndIncrement() != 0) {
                 return;
             }
@@ -62,6 +62,37 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
         drainLoop();
     }
 
+    /**
+     * Emits the items in a single serialization pass: the first caller emits the whole batch downstream directly,
+     * while the concurrent callers enqueue theirs.
+     */
+    @Override
+    public MultiEmitter<T> emitAll(Iterable<? extends T> items) {
+        ParameterValidation.nonNull(items, "items");
+        if (downstream.isCancelled() || done) {
+            return this;
+        }
+        if (wip.compareAndSet(0, 1)) {
+            downstream.emitAll(items);
+            if (wip.decrementAndGet() == 0) {
+                return this;
+            }
+        } else {
+            for (T item : items) {
+                if (item == null) {
+                    onFailure(new NullPointerException("`emitAll` called with a `null` item."));
+                    return this;
+                }
+                queue.offer(item);
+            }
+            if (wip.getAndIncrement() != 0) {
+                return this;
+            }
+        }
+        drainLoop();
+        return this;
+    }
+
     @Override
     public void onFailure(Throwable failure) {
         if (downstream.isCancelled() || done) {
@@ -153,6 +184,12 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
         return this;
     }
 
+    @Override
+    public MultiEmitter<T> onRequest(LongConsumer onRequest) {
+        downstream.onRequest(onRequest);
+        return this;
+    }
+
     @Override
     public boolean isCancelled() {
         return downstream.isCancelled();
@@ -0,0 +1,121 @@
+package io.smallrye.mutiny.operators.multi.builders;
+
+import static io.smallrye.mutiny.helpers.EmptyUniSubscription.CANCELLED;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.StrictMultiSubscriber;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.SafeSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * A {@link io.smallrye.mutiny.Multi} emitting the item of a {@link Uni}, or completing empty if the item is
+ * {@code null}, or propagating its failure.
+ * <p>
+ * The {@link Uni} is subscribed on the first request. A single object acts both as the downstream subscription and
+ * as the {@link Uni} subscriber.
+ *
+ * @param <T> the type of the item
+ */
+public final class UniBasedMulti<T> extends AbstractMulti<T> {
+
+    private final Uni<T> uni;
+
+    public UniBasedMulti(Uni<T> uni) {
+        this.uni = ParameterValidation.nonNull(uni, "uni");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        subscriber.onSubscribe(new UniBasedSubscription<>(uni, subscriber));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        // NOTE The Reactive Streams TCK mandates throwing an NPE.
+        Objects.requireNonNull(subscriber, "Subscriber is `null`");
+        // A subscriber throwing from onNext cancels the uni and receives the failure
+        subscribe(new StrictMultiSubscriber<>(new SafeSubscriber<>(subscriber)));
+    }
+
+    private static final class UniBasedSubscription<T> implements Subscription, UniSubscriber<T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<UniBasedSubscription, UniSubscription> UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(UniBasedSubscription.class, UniSubscription.class, "upstream");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<UniBasedSubscription> REQUESTED = AtomicIntegerFieldUpdater
+                .newUpdater(UniBasedSubscription.class, "requested");
+
+        private final Uni<T> uni;
+        private final MultiSubscriber<? super T> downstream;
+
+        // CANCELLED once cancelled or terminated
+        private volatile UniSubscription upstream;
+        private volatile int requested;
+
+        UniBasedSubscription(Uni<T> uni, MultiSubscriber<? super T> downstream) {
+            this.uni = uni;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (UPSTREAM.getAndSet(this, CANCELLED) != CANCELLED) {
+                    downstream.onFailure(Subscriptions.getInvalidRequestException());
+                }
+                return;
+            }
+            // The uni is subscribed on the first request, unless cancelled before
+            if (REQUESTED.compareAndSet(this, 0, 1) && upstream != CANCELLED) {
+                uni.subscribe().withSubscriber(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            UniSubscription subscription = UPSTREAM.getAndSet(this, CANCELLED);
+            if (subscription != null && subscription != CANCELLED) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            if (!UPSTREAM.compareAndSet(this, null, subscription)) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (UPSTREAM.getAndSet(this, CANCELLED) != CANCELLED) {
+                if (item != null) {
+                    downstream.onItem(item);
+                }
+                downstream.onCompletion();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (UPSTREAM.getAndSet(this, CANCELLED) != CANCELLED) {
+                downstream.onFailure(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import io.smallrye.mutiny.DoubleMulti;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public abstract class AbstractDoubleMulti implements DoubleMulti {
+
+    @Override
+    public DoubleMulti map(DoubleUnaryOperator mapper) {
+        return new DoubleMultiOperators.MapOp(this, ParameterValidation.nonNull(mapper, "mapper"));
+    }
+
+    @Override
+    public DoubleMulti filter(DoublePredicate predicate) {
+        return new DoubleMultiOperators.FilterOp(this, ParameterValidation.nonNull(predicate, "predicate"));
+    }
+
+    @Override
+    public DoubleMulti scan(DoubleBinaryOperator accumulator) {
+        return new DoubleMultiOperators.ScanOp(this, ParameterValidation.nonNull(accumulator, "accumulator"));
+    }
+
+    @Override
+    public <T> Multi<T> mapToObj(DoubleFunction<? extends T> mapper) {
+        return Infrastructure.onMultiCreation(
+                new DoubleMultiOperators.ToMultiOp<>(this, ParameterValidation.nonNull(mapper, "mapper")));
+    }
+
+    @Override
+    public Multi<Double> boxed() {
+        return Infrastructure.onMultiCreation(new DoubleMultiOperators.ToMultiOp<>(this, Double::valueOf));
+    }
+
+    @Override
+    public Uni<Double> sum() {
+        return DoubleMultiCollectors.collect(this, emitter -> new DoubleMultiCollectors.SumCollector(emitter));
+    }
+
+    @Override
+    public Uni<Long> count() {
+        return DoubleMultiCollectors.collect(this, emitter -> new DoubleMultiCollectors.CountCollector(emitter));
+    }
+
+    @Override
+    public Uni<Double> min() {
+        return DoubleMultiCollectors.collect(this, emitter -> new DoubleMultiCollectors.ExtremumCollector(emitter, false));
+    }
+
+    @Override
+    public Uni<Double> max() {
+        return DoubleMultiCollectors.collect(this, emitter -> new DoubleMultiCollectors.ExtremumCollector(emitter, true));
+    }
+
+    @Override
+    public Uni<Double> average() {
+        return DoubleMultiCollectors.collect(this, emitter -> new DoubleMultiCollectors.AverageCollector(emitter));
+    }
+
+    @Override
+    public Uni<double[]> toArray() {
+        return DoubleMultiCollectors.collect(this, emitter -> new DoubleMultiCollectors.ArrayCollector(emitter));
+    }
+}
@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import io.smallrye.mutiny.DoubleMulti;
+import io.smallrye.mutiny.IntMulti;
+import io.smallrye.mutiny.LongMulti;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public abstract class AbstractIntMulti implements IntMulti {
+
+    @Override
+    public IntMulti map(IntUnaryOperator mapper) {
+        return new IntMultiOperators.MapOp(this, ParameterValidation.nonNull(mapper, "mapper"));
+    }
+
+    @Override
+    public IntMulti filter(IntPredicate predicate) {
+        return new IntMultiOperators.FilterOp(this, ParameterValidation.nonNull(predicate, "predicate"));
+    }
+
+    @Override
+    public IntMulti scan(IntBinaryOperator accumulator) {
+        return new IntMultiOperators.ScanOp(this, ParameterValidation.nonNull(accumulator, "accumulator"));
+    }
+
+    @Override
+    public LongMulti asLongMulti() {
+        return new IntMultiOperators.AsLongOp(this);
+    }
+
+    @Override
+    public DoubleMulti asDoubleMulti() {
+        return new IntMultiOperators.AsDoubleOp(this);
+    }
+
+    @Override
+    public <T> Multi<T> mapToObj(IntFunction<? extends T> mapper) {
+        return Infrastructure.onMultiCreation(
+                new IntMultiOperators.ToMultiOp<>(this, ParameterValidation.nonNull(mapper, "mapper")));
+    }
+
+    @Override
+    public Multi<Integer> boxed() {
+        return Infrastructure.onMultiCreation(new IntMultiOperators.ToMultiOp<>(this, Integer::valueOf));
+    }
+
+    @Override
+    public Uni<Integer> sum() {
+        return IntMultiCollectors.collect(this, emitter -> new IntMultiCollectors.SumCollector(emitter));
+    }
+
+    @Override
+    public Uni<Long> count() {
+        return IntMultiCollectors.collect(this, emitter -> new IntMultiCollectors.CountCollector(emitter));
+    }
+
+    @Override
+    public Uni<Integer> min() {
+        return IntMultiCollectors.collect(this, emitter -> new IntMultiCollectors.ExtremumCollector(emitter, false));
+    }
+
+    @Override
+    public Uni<Integer> max() {
+        return IntMultiCollectors.collect(this, emitter -> new IntMultiCollectors.ExtremumCollector(emitter, true));
+    }
+
+    @Override
+    public Uni<Double> average() {
+        return IntMultiCollectors.collect(this, emitter -> new IntMultiCollectors.AverageCollector(emitter));
+    }
+
+    @Override
+    public Uni<int[]> toArray() {
+        return IntMultiCollectors.collect(this, emitter -> new IntMultiCollectors.ArrayCollector(emitter));
+    }
+}
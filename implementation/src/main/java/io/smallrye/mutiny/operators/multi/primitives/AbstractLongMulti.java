@@ -0,0 +1,77 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import io.smallrye.mutiny.DoubleMulti;
+import io.smallrye.mutiny.LongMulti;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public abstract class AbstractLongMulti implements LongMulti {
+
+    @Override
+    public LongMulti map(LongUnaryOperator mapper) {
+        return new LongMultiOperators.MapOp(this, ParameterValidation.nonNull(mapper, "mapper"));
+    }
+
+    @Override
+    public LongMulti filter(LongPredicate predicate) {
+        return new LongMultiOperators.FilterOp(this, ParameterValidation.nonNull(predicate, "predicate"));
+    }
+
+    @Override
+    public LongMulti scan(LongBinaryOperator accumulator) {
+        return new LongMultiOperators.ScanOp(this, ParameterValidation.nonNull(accumulator, "accumulator"));
+    }
+
+    @Override
+    public DoubleMulti asDoubleMulti() {
+        return new LongMultiOperators.AsDoubleOp(this);
+    }
+
+    @Override
+    public <T> Multi<T> mapToObj(LongFunction<? extends T> mapper) {
+        return Infrastructure.onMultiCreation(
+                new LongMultiOperators.ToMultiOp<>(this, ParameterValidation.nonNull(mapper, "mapper")));
+    }
+
+    @Override
+    public Multi<Long> boxed() {
+        return Infrastructure.onMultiCreation(new LongMultiOperators.ToMultiOp<>(this, Long::valueOf));
+    }
+
+    @Override
+    public Uni<Long> sum() {
+        return LongMultiCollectors.collect(this, emitter -> new LongMultiCollectors.SumCollector(emitter));
+    }
+
+    @Override
+    public Uni<Long> count() {
+        return LongMultiCollectors.collect(this, emitter -> new LongMultiCollectors.CountCollector(emitter));
+    }
+
+    @Override
+    public Uni<Long> min() {
+        return LongMultiCollectors.collect(this, emitter -> new LongMultiCollectors.ExtremumCollector(emitter, false));
+    }
+
+    @Override
+    public Uni<Long> max() {
+        return LongMultiCollectors.collect(this, emitter -> new LongMultiCollectors.ExtremumCollector(emitter, true));
+    }
+
+    @Override
+    public Uni<Double> average() {
+        return LongMultiCollectors.collect(this, emitter -> new LongMultiCollectors.AverageCollector(emitter));
+    }
+
+    @Override
+    public Uni<long[]> toArray() {
+        return LongMultiCollectors.collect(this, emitter -> new LongMultiCollectors.ArrayCollector(emitter));
+    }
+}
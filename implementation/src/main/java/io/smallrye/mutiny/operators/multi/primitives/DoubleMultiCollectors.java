@@ -0,0 +1,163 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.DoubleMulti;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.DoubleSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * The collectors of {@link DoubleMulti}, reducing the items to a single result emitted by a {@link Uni}.
+ * <p>
+ * The collectors request all the items and accumulate them in primitive fields, so only the result is boxed.
+ */
+public final class DoubleMultiCollectors {
+
+    private DoubleMultiCollectors() {
+        // Avoid direct instantiation
+    }
+
+    static <R> Uni<R> collect(DoubleMulti upstream, Function<UniEmitter<? super R>, Collector<R>> factory) {
+        return Uni.createFrom().emitter(emitter -> upstream.subscribe(factory.apply(emitter)));
+    }
+
+    abstract static class Collector<R> implements DoubleSubscriber {
+
+        private final UniEmitter<? super R> emitter;
+
+        Collector(UniEmitter<? super R> emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            emitter.onTermination(subscription::cancel);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            emitter.fail(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            emitter.complete(result());
+        }
+
+        abstract R result();
+    }
+
+    static final class SumCollector extends Collector<Double> {
+
+        private double sum;
+
+        SumCollector(UniEmitter<? super Double> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(double item) {
+            sum += item;
+        }
+
+        @Override
+        Double result() {
+            return sum;
+        }
+    }
+
+    static final class CountCollector extends Collector<Long> {
+
+        private long count;
+
+        CountCollector(UniEmitter<? super Long> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(double item) {
+            count++;
+        }
+
+        @Override
+        Long result() {
+            return count;
+        }
+    }
+
+    static final class ExtremumCollector extends Collector<Double> {
+
+        private final boolean max;
+        private boolean hasValue;
+        private double value;
+
+        ExtremumCollector(UniEmitter<? super Double> emitter, boolean max) {
+            super(emitter);
+            this.max = max;
+        }
+
+        @Override
+        public void onItem(double item) {
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+            } else {
+                value = max ? Math.max(value, item) : Math.min(value, item);
+            }
+        }
+
+        @Override
+        Double result() {
+            return hasValue ? Double.valueOf(value) : null;
+        }
+    }
+
+    static final class AverageCollector extends Collector<Double> {
+
+        private double sum;
+        private long count;
+
+        AverageCollector(UniEmitter<? super Double> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(double item) {
+            sum += item;
+            count++;
+        }
+
+        @Override
+        Double result() {
+            return count == 0 ? null : Double.valueOf(sum / count);
+        }
+    }
+
+    static final class ArrayCollector extends Collector<double[]> {
+
+        private double[] items = new double[16];
+        private int size;
+
+        ArrayCollector(UniEmitter<? super double[]> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(double item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size << 1);
+            }
+            items[size++] = item;
+        }
+
+        @Override
+        double[] result() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.IntMulti;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.IntSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * The collectors of {@link IntMulti}, reducing the items to a single result emitted by a {@link Uni}.
+ * <p>
+ * The collectors request all the items and accumulate them in primitive fields, so only the result is boxed.
+ */
+public final class IntMultiCollectors {
+
+    private IntMultiCollectors() {
+        // Avoid direct instantiation
+    }
+
+    static <R> Uni<R> collect(IntMulti upstream, Function<UniEmitter<? super R>, Collector<R>> factory) {
+        return Uni.createFrom().emitter(emitter -> upstream.subscribe(factory.apply(emitter)));
+    }
+
+    abstract static class Collector<R> implements IntSubscriber {
+
+        private final UniEmitter<? super R> emitter;
+
+        Collector(UniEmitter<? super R> emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            emitter.onTermination(subscription::cancel);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            emitter.fail(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            emitter.complete(result());
+        }
+
+        abstract R result();
+    }
+
+    static final class SumCollector extends Collector<Integer> {
+
+        private int sum;
+
+        SumCollector(UniEmitter<? super Integer> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(int item) {
+            sum += item;
+        }
+
+        @Override
+        Integer result() {
+            return sum;
+        }
+    }
+
+    static final class CountCollector extends Collector<Long> {
+
+        private long count;
+
+        CountCollector(UniEmitter<? super Long> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(int item) {
+            count++;
+        }
+
+        @Override
+        Long result() {
+            return count;
+        }
+    }
+
+    static final class ExtremumCollector extends Collector<Integer> {
+
+        private final boolean max;
+        private boolean hasValue;
+        private int value;
+
+        ExtremumCollector(UniEmitter<? super Integer> emitter, boolean max) {
+            super(emitter);
+            this.max = max;
+        }
+
+        @Override
+        public void onItem(int item) {
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+            } else {
+                value = max ? Math.max(value, item) : Math.min(value, item);
+            }
+        }
+
+        @Override
+        Integer result() {
+            return hasValue ? Integer.valueOf(value) : null;
+        }
+    }
+
+    static final class AverageCollector extends Collector<Double> {
+
+        // Like the JDK primitive streams, the integral items are summed using a long
+        private long sum;
+        private long count;
+
+        AverageCollector(UniEmitter<? super Double> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(int item) {
+            sum += item;
+            count++;
+        }
+
+        @Override
+        Double result() {
+            return count == 0 ? null : Double.valueOf((double) sum / count);
+        }
+    }
+
+    static final class ArrayCollector extends Collector<int[]> {
+
+        private int[] items = new int[16];
+        private int size;
+
+        ArrayCollector(UniEmitter<? super int[]> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(int item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size << 1);
+            }
+            items[size++] = item;
+        }
+
+        @Override
+        int[] result() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.IntMulti;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.IntSubscriber;
+
+/**
+ * The sources of {@link IntMulti}.
+ */
+public final class IntMultiSources {
+
+    private IntMultiSources() {
+        // Avoid direct instantiation
+    }
+
+    public static IntMulti range(int startInclusive, int endExclusive) {
+        if (endExclusive <= startInclusive) {
+            throw new IllegalArgumentException("end must be greater than start");
+        }
+        return new RangeMulti(startInclusive, endExclusive);
+    }
+
+    public static IntMulti items(int... items) {
+        return new ArrayMulti(ParameterValidation.nonNull(items, "items").clone());
+    }
+
+    public static IntMulti from(Publisher<? extends Number> publisher) {
+        return new PublisherMulti(ParameterValidation.nonNull(publisher, "publisher"));
+    }
+
+    static final class RangeMulti extends AbstractIntMulti {
+
+        private final int start;
+        private final int end;
+
+        RangeMulti(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void subscribe(IntSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            downstream.onSubscribe(new RangeSubscription(downstream, start, end));
+        }
+    }
+
+    static final class RangeSubscription extends IndexedSubscription {
+
+        RangeSubscription(IntSubscriber downstream, int start, int end) {
+            super(downstream, start, end);
+        }
+
+        @Override
+        void emit(long index) {
+            downstream.onItem((int) index);
+        }
+    }
+
+    static final class ArrayMulti extends AbstractIntMulti {
+
+        private final int[] items;
+
+        ArrayMulti(int[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(IntSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            if (items.length == 0) {
+                downstream.onSubscribe(Subscriptions.empty());
+                downstream.onCompletion();
+                return;
+            }
+            downstream.onSubscribe(new ArraySubscription(downstream, items));
+        }
+    }
+
+    static final class ArraySubscription extends IndexedSubscription {
+
+        private final int[] items;
+
+        ArraySubscription(IntSubscriber downstream, int[] items) {
+            super(downstream, 0, items.length);
+            this.items = items;
+        }
+
+        @Override
+        void emit(long index) {
+            downstream.onItem(items[(int) index]);
+        }
+    }
+
+    /**
+     * Emits the items from {@code start} to {@code end} (excluded), following the requests the same way as the
+     * collection based {@code Multi}.
+     */
+    abstract static class IndexedSubscription implements Subscription {
+
+        final IntSubscriber downstream;
+        private final long end;
+        private long index;
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicLong requested = new AtomicLong();
+
+        IndexedSubscription(IntSubscriber downstream, long start, long end) {
+            this.downstream = downstream;
+            this.index = start;
+            this.end = end;
+        }
+
+        abstract void emit(long index);
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                if (Subscriptions.add(requested, n) == 0) {
+                    if (n == Long.MAX_VALUE) {
+                        produceWithoutBackPressure();
+                    } else {
+                        followRequests(n);
+                    }
+                }
+            } else {
+                downstream.onFailure(Subscriptions.getInvalidRequestException());
+            }
+        }
+
+        void followRequests(long n) {
+            long current = index;
+            long emitted = 0;
+
+            for (;;) {
+                if (cancelled.get()) {
+                    return;
+                }
+
+                while (current != end && emitted != n) {
+                    emit(current);
+
+                    if (cancelled.get()) {
+                        return;
+                    }
+
+                    current++;
+                    emitted++;
+                }
+
+                if (current == end) {
+                    downstream.onCompletion();
+                    return;
+                }
+
+                n = requested.get();
+
+                if (n == emitted) {
+                    index = current;
+                    n = requested.addAndGet(-emitted);
+                    if (n == 0) {
+                        return;
+                    }
+                    emitted = 0;
+                }
+            }
+        }
+
+        void produceWithoutBackPressure() {
+            for (long current = index; current != end; current++) {
+                if (cancelled.get()) {
+                    return;
+                }
+                emit(current);
+            }
+
+            if (cancelled.get()) {
+                return;
+            }
+            downstream.onCompletion();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+        }
+    }
+
+    static final class PublisherMulti extends AbstractIntMulti {
+
+        private final Publisher<? extends Number> publisher;
+
+        PublisherMulti(Publisher<? extends Number> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void subscribe(IntSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            publisher.subscribe(new Subscriber<Number>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    downstream.onSubscribe(subscription);
+                }
+
+                @Override
+                public void onNext(Number item) {
+                    downstream.onItem(item.intValue());
+                }
+
+                @Override
+                public void onError(Throwable failure) {
+                    downstream.onFailure(failure);
+                }
+
+                @Override
+                public void onComplete() {
+                    downstream.onCompletion();
+                }
+            });
+        }
+    }
+}
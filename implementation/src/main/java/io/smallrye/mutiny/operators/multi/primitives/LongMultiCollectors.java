@@ -0,0 +1,164 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.LongMulti;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.LongSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * The collectors of {@link LongMulti}, reducing the items to a single result emitted by a {@link Uni}.
+ * <p>
+ * The collectors request all the items and accumulate them in primitive fields, so only the result is boxed.
+ */
+public final class LongMultiCollectors {
+
+    private LongMultiCollectors() {
+        // Avoid direct instantiation
+    }
+
+    static <R> Uni<R> collect(LongMulti upstream, Function<UniEmitter<? super R>, Collector<R>> factory) {
+        return Uni.createFrom().emitter(emitter -> upstream.subscribe(factory.apply(emitter)));
+    }
+
+    abstract static class Collector<R> implements LongSubscriber {
+
+        private final UniEmitter<? super R> emitter;
+
+        Collector(UniEmitter<? super R> emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            emitter.onTermination(subscription::cancel);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            emitter.fail(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            emitter.complete(result());
+        }
+
+        abstract R result();
+    }
+
+    static final class SumCollector extends Collector<Long> {
+
+        private long sum;
+
+        SumCollector(UniEmitter<? super Long> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(long item) {
+            sum += item;
+        }
+
+        @Override
+        Long result() {
+            return sum;
+        }
+    }
+
+    static final class CountCollector extends Collector<Long> {
+
+        private long count;
+
+        CountCollector(UniEmitter<? super Long> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(long item) {
+            count++;
+        }
+
+        @Override
+        Long result() {
+            return count;
+        }
+    }
+
+    static final class ExtremumCollector extends Collector<Long> {
+
+        private final boolean max;
+        private boolean hasValue;
+        private long value;
+
+        ExtremumCollector(UniEmitter<? super Long> emitter, boolean max) {
+            super(emitter);
+            this.max = max;
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+            } else {
+                value = max ? Math.max(value, item) : Math.min(value, item);
+            }
+        }
+
+        @Override
+        Long result() {
+            return hasValue ? Long.valueOf(value) : null;
+        }
+    }
+
+    static final class AverageCollector extends Collector<Double> {
+
+        // Like the JDK primitive streams, the integral items are summed using a long
+        private long sum;
+        private long count;
+
+        AverageCollector(UniEmitter<? super Double> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(long item) {
+            sum += item;
+            count++;
+        }
+
+        @Override
+        Double result() {
+            return count == 0 ? null : Double.valueOf((double) sum / count);
+        }
+    }
+
+    static final class ArrayCollector extends Collector<long[]> {
+
+        private long[] items = new long[16];
+        private int size;
+
+        ArrayCollector(UniEmitter<? super long[]> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size << 1);
+            }
+            items[size++] = item;
+        }
+
+        @Override
+        long[] result() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.LongMulti;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.DoubleSubscriber;
+import io.smallrye.mutiny.subscription.LongSubscriber;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * The operators of {@link LongMulti}.
+ * <p>
+ * The processors pass the upstream subscription through, so the requests and cancellation reach the upstream
+ * directly, and process each item synchronously, without queue. The primitive streams have no operator switching
+ * threads or emitting items ahead of the requests, so there is no primitive-array queue: such operators are used on the
+ * {@link io.smallrye.mutiny.Multi} returned by {@code boxed()}.
+ */
+public final class LongMultiOperators {
+
+    private LongMultiOperators() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Base class of the processors, tracking the upstream subscription and whether the stream is terminated.
+     */
+    abstract static class Processor implements LongSubscriber, Subscription {
+
+        Subscription upstream;
+        boolean done;
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failAndCancel(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+
+        /**
+         * Cancels the upstream and fails the downstream, when a callback fails.
+         *
+         * @param failure the failure
+         */
+        void failAndCancel(Throwable failure) {
+            upstream.cancel();
+            onFailure(failure);
+        }
+    }
+
+    static final class MapOp extends AbstractLongMulti {
+
+        private final LongMulti upstream;
+        private final LongUnaryOperator mapper;
+
+        MapOp(LongMulti upstream, LongUnaryOperator mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void subscribe(LongSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            upstream.subscribe(new MapProcessor(downstream, mapper));
+        }
+    }
+
+    static final class MapProcessor extends Processor {
+
+        private final LongSubscriber downstream;
+        private final LongUnaryOperator mapper;
+
+        MapProcessor(LongSubscriber downstream, LongUnaryOperator mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (done) {
+                return;
+            }
+            long result;
+            try {
+                result = mapper.applyAsLong(item);
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            downstream.onItem(result);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (!done) {
+                done = true;
+                downstream.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void onCompletion() {
+            if (!done) {
+                done = true;
+                downstream.onCompletion();
+            }
+        }
+    }
+
+    static final class FilterOp extends AbstractLongMulti {
+
+        private final LongMulti upstream;
+        private final LongPredicate predicate;
+
+        FilterOp(LongMulti upstream, LongPredicate predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void subscribe(LongSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            upstream.subscribe(new FilterProcessor(downstream, predicate));
+        }
+    }
+
+    static final class FilterProcessor extends Processor {
+
+        private final LongSubscriber downstream;
+        private final LongPredicate predicate;
+        // Once the downstream requested Long.MAX_VALUE, dropped items do not need to be replenished
+        private volatile boolean unbounded;
+
+        FilterProcessor(LongSubscriber downstream, LongPredicate predicate) {
+            this.downstream = downstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n == Long.MAX_VALUE) {
+                unbounded = true;
+            }
+            super.request(n);
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (done) {
+                return;
+            }
+            boolean passed;
+            try {
+                passed = predicate.test(item);
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            if (passed) {
+                downstream.onItem(item);
+            } else if (!unbounded) {
+                upstream.request(1);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (!done) {
+                done = true;
+                downstream.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void onCompletion() {
+            if (!done) {
+                done = true;
+                downstream.onCompletion();
+            }
+        }
+    }
+
+    static final class ScanOp extends AbstractLongMulti {
+
+        private final LongMulti upstream;
+        private final LongBinaryOperator accumulator;
+
+        ScanOp(LongMulti upstream, LongBinaryOperator accumulator) {
+            this.upstream = upstream;
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        public void subscribe(LongSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            upstream.subscribe(new ScanProcessor(downstream, accumulator));
+        }
+    }
+
+    static final class ScanProcessor extends Processor {
+
+        private final LongSubscriber downstream;
+        private final LongBinaryOperator accumulator;
+        private boolean hasCurrent;
+        private long current;
+
+        ScanProcessor(LongSubscriber downstream, LongBinaryOperator accumulator) {
+            this.downstream = downstream;
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (done) {
+                return;
+            }
+            if (!hasCurrent) {
+                hasCurrent = true;
+                current = item;
+            } else {
+                try {
+                    current = accumulator.applyAsLong(current, item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+            }
+            downstream.onItem(current);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (!done) {
+                done = true;
+                downstream.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void onCompletion() {
+            if (!done) {
+                done = true;
+                downstream.onCompletion();
+            }
+        }
+    }
+
+    static final class AsDoubleOp extends AbstractDoubleMulti {
+
+        private final LongMulti upstream;
+
+        AsDoubleOp(LongMulti upstream) {
+            this.upstream = upstream;
+        }
+
+        @Override
+        public void subscribe(DoubleSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            upstream.subscribe(new AsDoubleProcessor(downstream));
+        }
+    }
+
+    static final class AsDoubleProcessor extends Processor {
+
+        private final DoubleSubscriber downstream;
+
+        AsDoubleProcessor(DoubleSubscriber downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onItem(long item) {
+            downstream.onItem(item);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            downstream.onFailure(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            downstream.onCompletion();
+        }
+    }
+
+    /**
+     * Converts a {@link LongMulti} into a {@link io.smallrye.mutiny.Multi}, boxing the items or mapping them to
+     * objects.
+     *
+     * @param <T> the type of item
+     */
+    static final class ToMultiOp<T> extends AbstractMulti<T> {
+
+        private final LongMulti upstream;
+        private final LongFunction<? extends T> mapper;
+
+        ToMultiOp(LongMulti upstream, LongFunction<? extends T> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void subscribe(MultiSubscriber<? super T> downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            upstream.subscribe(new ToMultiProcessor<>(downstream, mapper));
+        }
+    }
+
+    static final class ToMultiProcessor<T> extends Processor {
+
+        private final MultiSubscriber<? super T> downstream;
+        private final LongFunction<? extends T> mapper;
+
+        ToMultiProcessor(MultiSubscriber<? super T> downstream, LongFunction<? extends T> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (done) {
+                return;
+            }
+            T result;
+            try {
+                result = mapper.apply(item);
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            if (result == null) {
+                failAndCancel(new NullPointerException(MAPPER_RETURNED_NULL));
+                return;
+            }
+            downstream.onItem(result);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (!done) {
+                done = true;
+                downstream.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void onCompletion() {
+            if (!done) {
+                done = true;
+                downstream.onCompletion();
+            }
+        }
+    }
+}
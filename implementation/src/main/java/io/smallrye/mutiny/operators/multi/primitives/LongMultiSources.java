@@ -0,0 +1,331 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.LongMulti;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.LongSubscriber;
+
+/**
+ * The sources of {@link LongMulti}.
+ */
+public final class LongMultiSources {
+
+    private LongMultiSources() {
+        // Avoid direct instantiation
+    }
+
+    public static LongMulti range(long startInclusive, long endExclusive) {
+        if (endExclusive <= startInclusive) {
+            throw new IllegalArgumentException("end must be greater than start");
+        }
+        return new RangeMulti(startInclusive, endExclusive);
+    }
+
+    public static LongMulti items(long... items) {
+        return new ArrayMulti(ParameterValidation.nonNull(items, "items").clone());
+    }
+
+    public static LongMulti from(Publisher<? extends Number> publisher) {
+        return new PublisherMulti(ParameterValidation.nonNull(publisher, "publisher"));
+    }
+
+    public static LongMulti ticks(Duration period, ScheduledExecutorService executor) {
+        return new TicksMulti(ParameterValidation.validate(period, "period"),
+                ParameterValidation.nonNull(executor, "executor"));
+    }
+
+    static final class RangeMulti extends AbstractLongMulti {
+
+        private final long start;
+        private final long end;
+
+        RangeMulti(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void subscribe(LongSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            downstream.onSubscribe(new RangeSubscription(downstream, start, end));
+        }
+    }
+
+    static final class RangeSubscription extends IndexedSubscription {
+
+        RangeSubscription(LongSubscriber downstream, long start, long end) {
+            super(downstream, start, end);
+        }
+
+        @Override
+        void emit(long index) {
+            downstream.onItem(index);
+        }
+    }
+
+    static final class ArrayMulti extends AbstractLongMulti {
+
+        private final long[] items;
+
+        ArrayMulti(long[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(LongSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            if (items.length == 0) {
+                downstream.onSubscribe(Subscriptions.empty());
+                downstream.onCompletion();
+                return;
+            }
+            downstream.onSubscribe(new ArraySubscription(downstream, items));
+        }
+    }
+
+    static final class ArraySubscription extends IndexedSubscription {
+
+        private final long[] items;
+
+        ArraySubscription(LongSubscriber downstream, long[] items) {
+            super(downstream, 0, items.length);
+            this.items = items;
+        }
+
+        @Override
+        void emit(long index) {
+            downstream.onItem(items[(int) index]);
+        }
+    }
+
+    /**
+     * Emits the items from {@code start} to {@code end} (excluded), following the requests the same way as the
+     * collection based {@code Multi}.
+     */
+    abstract static class IndexedSubscription implements Subscription {
+
+        final LongSubscriber downstream;
+        private final long end;
+        private long index;
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicLong requested = new AtomicLong();
+
+        IndexedSubscription(LongSubscriber downstream, long start, long end) {
+            this.downstream = downstream;
+            this.index = start;
+            this.end = end;
+        }
+
+        abstract void emit(long index);
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                if (Subscriptions.add(requested, n) == 0) {
+                    if (n == Long.MAX_VALUE) {
+                        produceWithoutBackPressure();
+                    } else {
+                        followRequests(n);
+                    }
+                }
+            } else {
+                downstream.onFailure(Subscriptions.getInvalidRequestException());
+            }
+        }
+
+        void followRequests(long n) {
+            long current = index;
+            long emitted = 0;
+
+            for (;;) {
+                if (cancelled.get()) {
+                    return;
+                }
+
+                while (current != end && emitted != n) {
+                    emit(current);
+
+                    if (cancelled.get()) {
+                        return;
+                    }
+
+                    current++;
+                    emitted++;
+                }
+
+                if (current == end) {
+                    downstream.onCompletion();
+                    return;
+                }
+
+                n = requested.get();
+
+                if (n == emitted) {
+                    index = current;
+                    n = requested.addAndGet(-emitted);
+                    if (n == 0) {
+                        return;
+                    }
+                    emitted = 0;
+                }
+            }
+        }
+
+        void produceWithoutBackPressure() {
+            for (long current = index; current != end; current++) {
+                if (cancelled.get()) {
+                    return;
+                }
+                emit(current);
+            }
+
+            if (cancelled.get()) {
+                return;
+            }
+            downstream.onCompletion();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+        }
+    }
+
+    static final class PublisherMulti extends AbstractLongMulti {
+
+        private final Publisher<? extends Number> publisher;
+
+        PublisherMulti(Publisher<? extends Number> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void subscribe(LongSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            publisher.subscribe(new Subscriber<Number>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    downstream.onSubscribe(subscription);
+                }
+
+                @Override
+                public void onNext(Number item) {
+                    downstream.onItem(item.longValue());
+                }
+
+                @Override
+                public void onError(Throwable failure) {
+                    downstream.onFailure(failure);
+                }
+
+                @Override
+                public void onComplete() {
+                    downstream.onCompletion();
+                }
+            });
+        }
+    }
+
+    static final class TicksMulti extends AbstractLongMulti {
+
+        private final Duration period;
+        private final ScheduledExecutorService executor;
+
+        TicksMulti(Duration period, ScheduledExecutorService executor) {
+            this.period = period;
+            this.executor = executor;
+        }
+
+        @Override
+        public void subscribe(LongSubscriber downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            TicksSubscription subscription = new TicksSubscription(downstream);
+            downstream.onSubscribe(subscription);
+            try {
+                subscription.setFuture(
+                        executor.scheduleAtFixedRate(subscription, 0, period.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (RejectedExecutionException ree) {
+                if (!subscription.cancelled.get()) {
+                    downstream.onFailure(new RejectedExecutionException(ree));
+                }
+            }
+        }
+    }
+
+    /**
+     * Emits a tick each time it runs, as {@code Multi.createFrom().ticks()} does, but without boxing the ticks.
+     * The cancellation also cancels the periodic task.
+     */
+    static final class TicksSubscription implements Runnable, Subscription {
+
+        private final LongSubscriber downstream;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private volatile ScheduledFuture<?> future;
+
+        // Only accessed by the periodic task, whose runs happen one after the other
+        private long count;
+
+        TicksSubscription(LongSubscriber downstream) {
+            this.downstream = downstream;
+        }
+
+        void setFuture(ScheduledFuture<?> future) {
+            this.future = future;
+            if (cancelled.get()) {
+                future.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cancelled.get()) {
+                return;
+            }
+            if (requested.get() != 0L) {
+                downstream.onItem(count++);
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+            } else {
+                cancel();
+                downstream.onFailure(
+                        new BackPressureFailure("Could not emit tick " + count + " due to lack of requests"));
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscriptions.add(requested, n);
+            } else {
+                cancel();
+                downstream.onFailure(Subscriptions.getInvalidRequestException());
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                ScheduledFuture<?> f = future;
+                if (f != null) {
+                    f.cancel(false);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.smallrye.mutiny.operators.uni.builders;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniSerializedSubscriber;
@@ -24,4 +25,14 @@ public class KnownItemUni<T> extends AbstractUni<T> {
         subscriber.onSubscribe(EmptyUniSubscription.CANCELLED);
         subscriber.onItem(item);
     }
+
+    @Override
+    public Multi<T> toMulti() {
+        if (item == null) {
+            // The completion must wait for a request
+            return super.toMulti();
+        }
+        // Flattening operators read the known item without subscribing
+        return Multi.createFrom().item(item);
+    }
 }
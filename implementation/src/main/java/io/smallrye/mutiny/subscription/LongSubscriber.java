@@ -0,0 +1,43 @@
+package io.smallrye.mutiny.subscription;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.LongMulti;
+
+/**
+ * A subscriber receiving the {@code long} items emitted by a {@link LongMulti}, without boxing them.
+ * <p>
+ * It follows the Reactive Streams protocol: items are only emitted once requested using the {@link Subscription}
+ * received in {@link #onSubscribe(Subscription)}, and a {@code failure} or {@code completion} event terminates the
+ * stream.
+ */
+@Experimental("Primitive streams are an experimental feature at this stage")
+public interface LongSubscriber {
+
+    /**
+     * Event called once the subscription has been established.
+     *
+     * @param subscription the subscription, used to request items or cancel the stream
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Event called for each requested item.
+     *
+     * @param item the item
+     */
+    void onItem(long item);
+
+    /**
+     * Event called when the stream fails. No other event is called after this one.
+     *
+     * @param failure the failure, not {@code null}
+     */
+    void onFailure(Throwable failure);
+
+    /**
+     * Event called when the stream completes. No other event is called after this one.
+     */
+    void onCompletion();
+}
@@ -1,5 +1,11 @@
 package io.smallrye.mutiny.subscription;
 
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Multi;
@@ -25,6 +31,45 @@ public interface MultiEmitter<T> {
      */
     MultiEmitter<T> emit(T item);
 
+    /**
+     * Emits the given items downstream, in order.
+     * <p>
+     * This is equivalent to calling {@link #emit(Object)} for each item, but the emitters provided by Mutiny check
+     * the downstream requests and serialize the emissions once for the whole batch, instead of once per item.
+     * If one of the items is {@code null}, the preceding items are emitted, and then a failure is propagated.
+     * <p>
+     * Calling this method after a failure or a completion events has no effect.
+     *
+     * @param items the items, must not be {@code null}
+     * @return this emitter, so firing item events can be chained.
+     */
+    default MultiEmitter<T> emitAll(Iterable<? extends T> items) {
+        for (T item : nonNull(items, "items")) {
+            emit(item);
+        }
+        return this;
+    }
+
+    /**
+     * Emits {@code length} items from the given array, starting at {@code offset}, downstream, in order.
+     * <p>
+     * See {@link #emitAll(Iterable)} for the details.
+     *
+     * @param items the array of items, must not be {@code null}
+     * @param offset the index of the first item to emit, must be positive or zero
+     * @param length the number of items to emit, must be positive or zero
+     * @return this emitter, so firing item events can be chained.
+     */
+    default MultiEmitter<T> emitAll(T[] items, int offset, int length) {
+        nonNull(items, "items");
+        positiveOrZero(offset, "offset");
+        positiveOrZero(length, "length");
+        if (offset + length > items.length || offset + length < 0) {
+            throw new IllegalArgumentException("`offset` + `length` must not exceed the length of `items`");
+        }
+        return emitAll(Arrays.asList(items).subList(offset, offset + length));
+    }
+
     /**
      * Emits a {@code failure} event downstream with the given exception.
      * <p>
@@ -52,6 +97,41 @@ public interface MultiEmitter<T> {
      */
     MultiEmitter<T> onTermination(Runnable onTermination);
 
+    /**
+     * Attaches a {@code request} event handler invoked with the number of items requested by the downstream, every
+     * time it requests items.
+     * <p>
+     * This method allows producing items only when they are requested, instead of pushing them and relying on the
+     * back-pressure strategy. If there is outstanding demand when the handler is attached, it is invoked right away
+     * with {@link #requested()}.
+     * <p>
+     * The handler is invoked on a thread requesting items, one notification at a time, and may be invoked
+     * concurrently with the code emitting the items. The amount is a notification of new demand, each requested item
+     * is notified once: use {@link #requested()} to get the current outstanding request amount. The handler is not
+     * invoked anymore once the emitter is cancelled or terminated. If the handler throws an exception, the exception
+     * is propagated downstream as a {@code failure} event.
+     * <p>
+     * The emitters provided by Mutiny support this method. The default implementation, used by emitters implemented
+     * outside of Mutiny, only invokes the handler once, with the outstanding demand when it is attached. With such
+     * emitters, the handler is not notified of the later requests: producers must poll {@link #requested()} to
+     * emit the items requested afterwards.
+     *
+     * @param onRequest the action to run on requests, must not be {@code null}
+     * @return this emitter
+     */
+    default MultiEmitter<T> onRequest(LongConsumer onRequest) {
+        nonNull(onRequest, "onRequest");
+        long requested = requested();
+        if (requested > 0 && !isCancelled()) {
+            try {
+                onRequest.accept(requested);
+            } catch (Throwable e) {
+                fail(e);
+            }
+        }
+        return this;
+    }
+
     /**
      * @return {@code true} if the downstream cancelled the stream or the emitter was terminated (with a completion
      *         or failure events).
@@ -0,0 +1,82 @@
+package io.smallrye.mutiny.subscription;
+
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Subscription} giving direct access to the items held by the upstream.
+ * <p>
+ * Some sources already store their items in a queue-like structure (collections, iterators, processors buffering
+ * items). When such a source is directly followed by an operator storing the items in its own queue (like an
+ * asynchronous boundary), the operator can <em>fuse</em> with the source and poll the items from the source
+ * instead of receiving them in {@code onItem} and storing them again. This removes a queue hop and an allocation per
+ * item.
+ * <p>
+ * The fusion is negotiated in {@code onSubscribe}, before any request, using {@link #requestFusion(int)}:
+ * <ul>
+ * <li>{@link #SYNC}: all the items are available immediately. The consumer polls the items when it needs them and
+ * never calls {@link #request(long)}. {@link #poll()} returning {@code null} means the end of the stream, and a
+ * failure thrown by {@link #poll()} is a failure of the stream.</li>
+ * <li>{@link #ASYNC}: the items become available over time. The upstream calls {@code onItem(null)} to indicate
+ * that items can be polled, and signals the termination with the regular {@code onFailure} and {@code onCompletion}
+ * events. {@link #poll()} returns {@code null} when no item is available.</li>
+ * </ul>
+ * <p>
+ * Because the items bypass the {@code onItem} method of the subscribers placed between the source and the consumer,
+ * sources only accept the fusion if the subscriber they have been given implements {@link FusionCapable}.
+ *
+ * @param <T> the type of item
+ */
+public interface QueueSubscription<T> extends Subscription {
+
+    /**
+     * No fusion, the regular request protocol is used.
+     */
+    int NONE = 0;
+
+    /**
+     * Synchronous fusion, the items are polled and the stream ends when {@link #poll()} returns {@code null}.
+     */
+    int SYNC = 1;
+
+    /**
+     * Asynchronous fusion, the upstream signals the availability of items with {@code onItem(null)}.
+     */
+    int ASYNC = 2;
+
+    /**
+     * Either synchronous or asynchronous fusion.
+     */
+    int ANY = SYNC | ASYNC;
+
+    /**
+     * Requests the fusion with the upstream.
+     * Must be called at most once, from {@code onSubscribe}, before any request.
+     *
+     * @param mode the accepted fusion modes, {@link #SYNC}, {@link #ASYNC} or {@link #ANY}
+     * @return the granted mode, {@link #NONE} if the fusion is rejected
+     */
+    int requestFusion(int mode);
+
+    /**
+     * Retrieves the next item.
+     *
+     * @return the next item, {@code null} if none is available
+     */
+    T poll();
+
+    /**
+     * @return {@code true} if no item is available
+     */
+    boolean isEmpty();
+
+    /**
+     * Drops the items still held by the upstream.
+     */
+    void clear();
+
+    /**
+     * Marker interface implemented by the subscribers able to consume the items from a {@link QueueSubscription}.
+     */
+    interface FusionCapable {
+    }
+}
@@ -15,6 +15,7 @@ module io.smallrye.mutiny {
     exports io.smallrye.mutiny.operators.multi.builders;
     exports io.smallrye.mutiny.operators.multi.multicast;
     exports io.smallrye.mutiny.operators.multi.overflow;
+    exports io.smallrye.mutiny.operators.multi.primitives;
     exports io.smallrye.mutiny.operators.multi.processors;
     exports io.smallrye.mutiny.operators.uni.builders;
 
@@ -23,5 +24,6 @@ module io.smallrye.mutiny {
 
     uses io.smallrye.mutiny.infrastructure.MultiInterceptor;
     uses io.smallrye.mutiny.infrastructure.ExecutorConfiguration;
+    uses io.smallrye.mutiny.infrastructure.TimerConfiguration;
     uses io.smallrye.mutiny.infrastructure.UniInterceptor;
 }
\ No newline at end of file
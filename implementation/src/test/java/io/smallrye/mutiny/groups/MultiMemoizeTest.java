@@ -0,0 +1,130 @@
+package io.smallrye.mutiny.groups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+@DisplayName("Tests for the multi.memoize() group")
+class MultiMemoizeTest {
+
+    @Test
+    @DisplayName("Memoize indefinitely replays all the items")
+    void indefinitely() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Multi<Integer> multi = Multi.createFrom().range(0, 1000)
+                .onSubscribe().invoke(subscriptions::incrementAndGet)
+                .memoize().indefinitely();
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertCompleted();
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(1000);
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Memoize at most n items replays the last n items to late subscribers")
+    void atMost() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 1000).memoize().atMost(10);
+
+        AssertSubscriber<Integer> first = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+        assertThat(first.getItems()).hasSize(1000);
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(990, 991, 992, 993, 994, 995, 996, 997, 998, 999);
+    }
+
+    @Test
+    @DisplayName("Memoize at most n items does not affect the subscribers already replaying the stream")
+    void atMostWithSlowSubscriber() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        Multi<Integer> multi = processor.memoize().atMost(2);
+
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(1));
+        for (int i = 0; i < 500; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(498, 499);
+
+        slow.assertItems(0).assertNotTerminated();
+        slow.request(Long.MAX_VALUE).assertCompleted();
+        assertThat(slow.getItems()).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("Memoize at most n items replays the failure")
+    void atMostWithFailure() {
+        Multi<Integer> multi = Multi.createFrom().<Integer> emitter(e -> e.emit(1).emit(2).emit(3)
+                .fail(new IOException("boom")))
+                .memoize().atMost(2);
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(1, 2, 3)
+                .assertFailedWith(IOException.class, "boom");
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(2, 3)
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    @DisplayName("Memoize for a duration only replays the recent items to late subscribers")
+    void forDuration() throws InterruptedException {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        Multi<Integer> multi = processor.memoize().forDuration(Duration.ofMillis(200));
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 0; i < 500; i++) {
+            processor.onNext(i);
+        }
+        Thread.sleep(300);
+        processor.onNext(500);
+        processor.onNext(501);
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(500, 501)
+                .assertNotTerminated();
+
+        Thread.sleep(300);
+        processor.onComplete();
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    @DisplayName("Memoize with a size and a duration applies both bounds")
+    void atMostWithDuration() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 100).memoize().atMost(5, Duration.ofMinutes(1));
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertCompleted();
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(95, 96, 97, 98, 99);
+    }
+
+    @Test
+    @DisplayName("Invalid parameters are rejected")
+    void invalidParameters() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10);
+        assertThrows(IllegalArgumentException.class, () -> multi.memoize().atMost(0));
+        assertThrows(IllegalArgumentException.class, () -> multi.memoize().forDuration(null));
+        assertThrows(IllegalArgumentException.class, () -> multi.memoize().forDuration(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> multi.memoize().atMost(1, Duration.ofSeconds(-1)));
+    }
+}
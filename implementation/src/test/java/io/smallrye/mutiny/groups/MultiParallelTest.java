@@ -0,0 +1,180 @@
+package io.smallrye.mutiny.groups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.MultiRailDispatcher;
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+@DisplayName("Tests for the multi.parallel(n) group")
+class MultiParallelTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("The number of rails must be strictly positive")
+    void invalidRails() {
+        assertThrows(IllegalArgumentException.class, () -> Multi.createFrom().items(1, 2, 3).parallel(0));
+        assertThat(Multi.createFrom().items(1, 2, 3).parallel(4).rails()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Unordered merge emits all the items")
+    void sequential() {
+        List<Integer> list = Multi.createFrom().range(0, 10_000)
+                .parallel(4)
+                .runOn(executor)
+                .map(i -> i * 2)
+                .sequential()
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(list).hasSize(10_000)
+                .containsExactlyInAnyOrderElementsOf(
+                        IntStream.range(0, 10_000).map(i -> i * 2).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Ordered merge preserves the upstream order, including when items are filtered out")
+    void sequentialOrdered() {
+        List<Integer> list = Multi.createFrom().range(0, 10_000)
+                .parallel(4)
+                .runOn(executor)
+                .filter(i -> i % 3 != 0)
+                .map(i -> i * 2)
+                .sequentialOrdered()
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(list).containsExactlyElementsOf(
+                IntStream.range(0, 10_000).filter(i -> i % 3 != 0).map(i -> i * 2).boxed()
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("The rails run on the executor threads")
+    void runOn() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Multi.createFrom().range(0, 1000)
+                .parallel(4)
+                .runOn(executor)
+                .invoke(i -> threads.add(Thread.currentThread().getName()))
+                .sequential()
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(threads).isNotEmpty().allSatisfy(name -> assertThat(name).startsWith("pool-"));
+    }
+
+    @Test
+    @DisplayName("More rails than items")
+    void moreRailsThanItems() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 3)
+                .parallel(8)
+                .sequentialOrdered()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("The downstream requests are honoured")
+    void backPressure() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .parallel(4)
+                .sequentialOrdered()
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2, 3, 4);
+        subscriber.assertNotTerminated();
+        subscriber.request(3);
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        subscriber.cancel();
+    }
+
+    @Test
+    @DisplayName("A rail that stops requesting stops the upstream requests")
+    void slowestRailDrivesTheUpstreamRequests() {
+        AtomicLong requested = new AtomicLong();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 1000)
+                .onRequest().invoke(requested::addAndGet);
+        MultiRailDispatcher<Integer> dispatcher = new MultiRailDispatcher<>(upstream, 3, 16);
+        List<Multi<Integer>> rails = dispatcher.rails();
+
+        AssertSubscriber<Integer> slow = rails.get(0).subscribe().withSubscriber(AssertSubscriber.create(2));
+        AssertSubscriber<Integer> fast1 = rails.get(1).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> fast2 = rails.get(2).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // The slow rail consumed 2 items, so the upstream is only requested 16 more items per rail
+        assertThat(requested).hasValue((2 + 16) * 3);
+        assertThat(fast1.getItems()).hasSize(18);
+        assertThat(fast2.getItems()).hasSize(18);
+        assertThat(slow.getItems()).containsExactly(0, 3);
+
+        slow.request(Long.MAX_VALUE);
+        slow.assertCompleted();
+        fast1.assertCompleted();
+        fast2.assertCompleted();
+        assertThat(slow.getItems().size() + fast1.getItems().size() + fast2.getItems().size()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("A failure on a rail fails the merged stream and cancels the upstream")
+    void failure() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Multi<Integer> multi = Multi.createFrom().range(0, 1000)
+                .onCancellation().invoke(() -> cancelled.set(true))
+                .parallel(3)
+                .map(i -> {
+                    if (i == 50) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .sequential();
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(cancelled).isTrue();
+
+        Multi.createFrom().<Integer> failure(new IOException("upstream"))
+                .parallel(3)
+                .sequentialOrdered()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "upstream");
+    }
+
+    @Test
+    @DisplayName("Each subscription dispatches the upstream again")
+    void resubscription() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10).parallel(2).sequentialOrdered();
+
+        assertThat(multi.collectItems().asList().await().indefinitely()).hasSize(10);
+        assertThat(multi.collectItems().asList().await().indefinitely()).hasSize(10);
+    }
+}
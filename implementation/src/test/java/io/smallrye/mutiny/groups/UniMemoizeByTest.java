@@ -0,0 +1,235 @@
+package io.smallrye.mutiny.groups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.UniAssertSubscriber;
+import io.smallrye.mutiny.operators.UniMemoizer;
+
+@DisplayName("Tests for Uni.memoizeBy(function)")
+class UniMemoizeByTest {
+
+    @Test
+    @DisplayName("The function cannot be null")
+    void testThatFunctionCannotBeNull() {
+        assertThrows(IllegalArgumentException.class, () -> Uni.memoizeBy(null));
+    }
+
+    @Test
+    @DisplayName("The configuration is validated")
+    void testInvalidConfiguration() {
+        UniMemoizeBy<String, String> memoizeBy = Uni.memoizeBy(k -> Uni.createFrom().item(k));
+        assertThrows(IllegalArgumentException.class, () -> memoizeBy.withMaxSize(0));
+        assertThrows(IllegalArgumentException.class, () -> memoizeBy.expireAfter(null));
+        assertThrows(IllegalArgumentException.class, () -> memoizeBy.expireAfter(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Test that the items are memoized per key")
+    void testMemoizationPerKey() {
+        AtomicInteger calls = new AtomicInteger();
+        UniMemoizer<String, String> memoizer = Uni.memoizeBy((String key) -> {
+            calls.incrementAndGet();
+            return Uni.createFrom().item(key + "-" + calls.get());
+        }).create();
+
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(memoizer.apply("b").await().indefinitely()).isEqualTo("b-2");
+
+        assertThat(calls).hasValue(2);
+        assertThat(memoizer.size()).isEqualTo(2);
+        assertThat(memoizer.hitCount()).isEqualTo(1);
+        assertThat(memoizer.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test that concurrent misses on the same key are coalesced")
+    void testRequestCoalescing() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        UniMemoizer<String, String> memoizer = Uni.memoizeBy((String key) -> {
+            calls.incrementAndGet();
+            return Uni.createFrom().completionStage(future);
+        }).create();
+
+        UniAssertSubscriber<String> sub1 = memoizer.apply("a").subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> sub2 = memoizer.apply("a").subscribe().withSubscriber(UniAssertSubscriber.create());
+        sub1.assertNotTerminated();
+        sub2.assertNotTerminated();
+
+        future.complete("hello");
+        sub1.assertCompleted().assertItem("hello");
+        sub2.assertCompleted().assertItem("hello");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test that failures are not memoized")
+    void testThatFailuresAreNotMemoized() {
+        AtomicInteger calls = new AtomicInteger();
+        UniMemoizer<String, String> memoizer = Uni.memoizeBy((String key) -> {
+            if (calls.incrementAndGet() == 1) {
+                return Uni.createFrom().failure(new IOException("boom"));
+            }
+            return Uni.createFrom().item(key);
+        }).create();
+
+        memoizer.apply("a").subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(memoizer.size()).isEqualTo(0);
+
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo("a");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Test that the least frequently and recently used entry is evicted")
+    void testMaxSize() {
+        AtomicInteger calls = new AtomicInteger();
+        UniMemoizer<String, String> memoizer = Uni.memoizeBy((String key) -> {
+            calls.incrementAndGet();
+            return Uni.createFrom().item(key);
+        }).withMaxSize(2).create();
+
+        memoizer.apply("a").await().indefinitely();
+        memoizer.apply("b").await().indefinitely();
+        memoizer.apply("a").await().indefinitely();
+        memoizer.apply("c").await().indefinitely(); // evicts b
+
+        assertThat(memoizer.size()).isEqualTo(2);
+        assertThat(memoizer.evictionCount()).isEqualTo(1);
+
+        memoizer.apply("a").await().indefinitely();
+        assertThat(calls).hasValue(3);
+        memoizer.apply("b").await().indefinitely();
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Test that frequently used entries are not evicted by a scan of new keys")
+    void testScanResistance() {
+        AtomicInteger calls = new AtomicInteger();
+        UniMemoizer<String, String> memoizer = Uni.memoizeBy((String key) -> {
+            calls.incrementAndGet();
+            return Uni.createFrom().item(key);
+        }).withMaxSize(10).create();
+
+        for (int i = 0; i < 10; i++) {
+            memoizer.apply("hot").await().indefinitely();
+        }
+        for (int i = 0; i < 100; i++) {
+            memoizer.apply("key-" + i).await().indefinitely();
+        }
+
+        assertThat(memoizer.size()).isEqualTo(10);
+        assertThat(calls).hasValue(101);
+        memoizer.apply("hot").await().indefinitely();
+        assertThat(calls).hasValue(101);
+    }
+
+    @Test
+    @DisplayName("Test that the size stays bounded under concurrent lookups")
+    void testConcurrentLookups() throws InterruptedException {
+        UniMemoizer<Integer, Integer> memoizer = Uni.memoizeBy((Integer key) -> Uni.createFrom().item(key))
+                .withMaxSize(100).create();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    int key = ThreadLocalRandom.current().nextInt(1_000);
+                    assertThat(memoizer.apply(key).await().indefinitely()).isEqualTo(key);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // A last miss applies the policy to the entries added concurrently
+        memoizer.apply(-1).await().indefinitely();
+        assertThat(memoizer.size()).isLessThanOrEqualTo(100);
+        assertThat(memoizer.hitCount() + memoizer.missCount()).isEqualTo(40_001);
+    }
+
+    @Test
+    @DisplayName("Test that the entries expire")
+    void testExpiration() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        UniMemoizer<String, Integer> memoizer = Uni.memoizeBy((String key) -> Uni.createFrom()
+                .item(calls.incrementAndGet()))
+                .expireAfter(Duration.ofMillis(100))
+                .create();
+
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo(1);
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo(1);
+        Thread.sleep(200);
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo(2);
+        assertThat(memoizer.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test that the expired entries are removed even if their key is not requested again")
+    void testThatExpiredEntriesAreRemovedWithoutLookup() throws InterruptedException {
+        UniMemoizer<String, String> memoizer = Uni.memoizeBy((String key) -> Uni.createFrom().item(key))
+                .expireAfter(Duration.ofMillis(100))
+                .create();
+        for (int i = 0; i < 100; i++) {
+            memoizer.apply("old-" + i).await().indefinitely();
+        }
+        assertThat(memoizer.size()).isEqualTo(100);
+
+        Thread.sleep(200);
+        memoizer.apply("new").await().indefinitely();
+        assertThat(memoizer.size()).isEqualTo(1);
+        assertThat(memoizer.evictionCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Test that the expired entries are removed when the size is bounded")
+    void testThatExpiredEntriesAreRemovedWhenBounded() throws InterruptedException {
+        UniMemoizer<String, String> memoizer = Uni.memoizeBy((String key) -> Uni.createFrom().item(key))
+                .withMaxSize(1000)
+                .expireAfter(Duration.ofMillis(100))
+                .create();
+        for (int i = 0; i < 100; i++) {
+            memoizer.apply("old-" + i).await().indefinitely();
+        }
+        memoizer.apply("hot").await().indefinitely();
+
+        Thread.sleep(200);
+        memoizer.apply("new").await().indefinitely();
+        assertThat(memoizer.size()).isEqualTo(1);
+        assertThat(memoizer.evictionCount()).isEqualTo(101);
+        assertThat(memoizer.missCount()).isEqualTo(102);
+    }
+
+    @Test
+    @DisplayName("Test invalidation")
+    void testInvalidation() {
+        AtomicInteger calls = new AtomicInteger();
+        UniMemoizer<String, Integer> memoizer = Uni.memoizeBy((String key) -> Uni.createFrom()
+                .item(calls.incrementAndGet()))
+                .create();
+
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo(1);
+        memoizer.invalidate("a");
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo(2);
+        memoizer.invalidateAll();
+        assertThat(memoizer.size()).isEqualTo(0);
+        assertThat(memoizer.apply("a").await().indefinitely()).isEqualTo(3);
+    }
+}
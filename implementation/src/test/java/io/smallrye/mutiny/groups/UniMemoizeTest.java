@@ -1,6 +1,7 @@
 package io.smallrye.mutiny.groups;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Duration;
@@ -430,6 +431,138 @@ class UniMemoizeTest {
         }
     }
 
+    @Test
+    @DisplayName("memoize().refreshAfter(null) is forbidden")
+    void testRefreshAfterNull() {
+        assertThrows(IllegalArgumentException.class, () -> Uni.createFrom().item(1).memoize().refreshAfter(null));
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize().refreshAfter(duration) serves the stale item while refreshing")
+    void testRefreshAfter() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(1);
+        Uni<Integer> cached = Uni.createFrom().item(() -> {
+            int value = counter.incrementAndGet();
+            if (value == 2) {
+                refreshed.countDown();
+            }
+            return value;
+        }).memoize().refreshAfter(Duration.ofSeconds(1));
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+
+        Thread.sleep(1100);
+
+        // Stale item, triggers the refresh
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        assertThat(refreshed.await(5, TimeUnit.SECONDS)).isTrue();
+        // The refreshed item is fresh for another second, much longer than the polling
+        await().pollInterval(Duration.ofMillis(10)).until(() -> cached.await().indefinitely() == 2);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize().refreshAfter(duration) keeps the stale item when the refresh fails")
+    void testRefreshAfterKeepsTheStaleItemOnFailure() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        AtomicBoolean fail = new AtomicBoolean();
+        Uni<Integer> cached = Uni.createFrom().item(() -> {
+            if (fail.get()) {
+                throw new IllegalStateException("boom");
+            }
+            return counter.incrementAndGet();
+        }).memoize().refreshAfter(Duration.ofMillis(100));
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        fail.set(true);
+        Thread.sleep(200);
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        Thread.sleep(50);
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize().refreshAfter(duration) retries a refresh that never terminates")
+    void testRefreshAfterRetriesAStuckRefresh() throws InterruptedException {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicInteger cancellations = new AtomicInteger();
+        Uni<Integer> cached = Uni.createFrom().deferred(() -> {
+            int count = subscriptions.incrementAndGet();
+            if (count == 2) {
+                // The first refresh never terminates
+                return Uni.createFrom().<Integer> nothing()
+                        .onCancellation().invoke(cancellations::incrementAndGet);
+            }
+            return Uni.createFrom().item(count);
+        }).memoize().refreshAfter(Duration.ofMillis(100));
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        Thread.sleep(200);
+
+        // Stale item, triggers the stuck refresh
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        await().until(() -> subscriptions.get() == 2);
+        Thread.sleep(200);
+
+        // The stuck refresh is cancelled and replaced
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        await().until(() -> cached.await().indefinitely() == 3);
+        assertThat(cancellations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize().refreshAfter(duration, false) memoizes the refresh failure")
+    void testRefreshAfterMemoizesTheFailure() throws InterruptedException {
+        AtomicBoolean fail = new AtomicBoolean();
+        Uni<Integer> cached = Uni.createFrom().item(() -> {
+            if (fail.get()) {
+                throw new IllegalStateException("boom");
+            }
+            return 1;
+        }).memoize().refreshAfter(Duration.ofMillis(100), false);
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        fail.set(true);
+        Thread.sleep(200);
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        await().untilAsserted(() -> assertThrows(IllegalStateException.class, () -> cached.await().indefinitely()));
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Test that concurrent subscribers to uni.memoize().indefinitely() share a single upstream subscription")
+    void testConcurrentSubscribersShareTheUpstreamSubscription() throws InterruptedException {
+        AtomicInteger subscriptions = new AtomicInteger();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        Uni<Integer> cached = Uni.createFrom().completionStage(() -> {
+            subscriptions.incrementAndGet();
+            return future;
+        }).memoize().indefinitely();
+
+        int count = 500;
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger sum = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < count; i++) {
+                executor.execute(() -> cached.subscribe().with(item -> {
+                    sum.addAndGet(item);
+                    latch.countDown();
+                }));
+            }
+            future.complete(2);
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(sum).hasValue(2 * count);
+        assertThat(subscriptions).hasValue(1);
+    }
+
     @RepeatedTest(10)
     public void testDrainBlockedByAwait() {
         Uni<Integer> uni = Uni.createFrom().item(() -> 1)
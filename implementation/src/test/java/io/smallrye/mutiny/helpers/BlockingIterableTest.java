@@ -32,6 +32,47 @@ import io.smallrye.mutiny.subscription.BackPressureFailure;
 
 public class BlockingIterableTest {
 
+    @Test
+    @Timeout(10)
+    public void testDrainTo() {
+        BlockingIterable.DrainableIterator<Integer> iterator = Multi.createFrom().range(0, 10_000)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .subscribe().asIterable()
+                .iterator();
+
+        List<Integer> all = new ArrayList<>();
+        List<Integer> batch = new ArrayList<>();
+        int drained;
+        while ((drained = iterator.drainTo(batch, 500)) > 0) {
+            assertThat(drained).isLessThanOrEqualTo(500).isEqualTo(batch.size());
+            all.addAll(batch);
+            batch.clear();
+        }
+        assertThat(all).hasSize(10_000).startsWith(0, 1, 2).endsWith(9_999);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    @Timeout(10)
+    public void testDrainToWithFailure() {
+        BlockingIterable.DrainableIterator<Integer> iterator = Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .subscribe().asIterable()
+                .iterator();
+        assertThatThrownBy(() -> iterator.drainTo(new ArrayList<>(), 10)).hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    @Timeout(10)
+    public void testForEachRemaining() {
+        List<Integer> list = new ArrayList<>();
+        Multi.createFrom().range(0, 10_000)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .subscribe().asIterable(16, () -> new SpscArrayQueue<>(16))
+                .iterator()
+                .forEachRemaining(list::add);
+        assertThat(list).hasSize(10_000).startsWith(0, 1, 2).endsWith(9_999);
+    }
+
     @Test
     @Timeout(5)
     public void testToIterable() {
@@ -0,0 +1,131 @@
+package io.smallrye.mutiny.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+public class MultiEmitterProcessorTest {
+
+    @Test
+    public void testProducingItemsOnRequest() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        List<Long> requests = new ArrayList<>();
+        processor.onRequest(n -> {
+            requests.add(n);
+            for (long i = 0; i < n; i++) {
+                processor.emit(requests.size());
+            }
+        });
+
+        AssertSubscriber<Integer> subscriber = processor.toMulti().subscribe()
+                .withSubscriber(AssertSubscriber.create(2));
+        subscriber.assertItems(1, 1);
+        subscriber.request(1).assertItems(1, 1, 2);
+        assertThat(requests).containsExactly(2L, 1L);
+        assertThat(processor.requested()).isEqualTo(0);
+    }
+
+    @Test
+    public void testThatTheHandlerOnlyReceivesTheOutstandingDemand() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor.toMulti().subscribe()
+                .withSubscriber(AssertSubscriber.create(10));
+        processor.emit(1).emit(2).emit(3).emit(4);
+        subscriber.assertItems(1, 2, 3, 4);
+        assertThat(processor.requested()).isEqualTo(6);
+
+        List<Long> requests = new ArrayList<>();
+        processor.onRequest(requests::add);
+        assertThat(requests).containsExactly(6L);
+    }
+
+    @Test
+    public void testThatItemsEmittedAheadOfTheRequestsAreNotRequestedAgain() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        List<Long> requests = new ArrayList<>();
+        processor.onRequest(requests::add);
+        // Buffered, there is no demand yet
+        processor.emit(1).emit(2);
+
+        AssertSubscriber<Integer> subscriber = processor.toMulti().subscribe()
+                .withSubscriber(AssertSubscriber.create(1));
+        subscriber.assertItems(1);
+        assertThat(requests).isEmpty();
+        assertThat(processor.requested()).isEqualTo(0);
+
+        subscriber.request(3).assertItems(1, 2);
+        assertThat(requests).containsExactly(2L);
+        assertThat(processor.requested()).isEqualTo(2);
+    }
+
+    @Test
+    public void testThatTheHandlerIsNotCalledAfterCancellation() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        List<Long> requests = new ArrayList<>();
+        processor.onRequest(requests::add);
+        AssertSubscriber<Integer> subscriber = processor.toMulti().subscribe()
+                .withSubscriber(AssertSubscriber.create(1));
+        subscriber.cancel();
+        subscriber.request(1);
+        assertThat(requests).containsExactly(1L);
+        assertThat(processor.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testFailureInOnRequest() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        processor.onRequest(n -> {
+            throw new IllegalStateException("boom");
+        });
+        AssertSubscriber<Integer> subscriber = processor.toMulti().subscribe()
+                .withSubscriber(AssertSubscriber.create());
+        subscriber.assertNotTerminated()
+                .request(1)
+                .assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testThatEachRequestIsNotifiedOnceWhenTheHandlerIsAttachedConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+                AssertSubscriber<Integer> subscriber = processor.toMulti().subscribe()
+                        .withSubscriber(AssertSubscriber.create());
+                AtomicLong notified = new AtomicLong();
+                CountDownLatch start = new CountDownLatch(1);
+
+                Future<?> requests = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10; j++) {
+                        subscriber.request(1);
+                    }
+                    return null;
+                });
+                Future<?> registration = executor.submit(() -> {
+                    start.await();
+                    processor.onRequest(notified::addAndGet);
+                    return null;
+                });
+                start.countDown();
+                requests.get();
+                registration.get();
+
+                assertThat(notified).hasValue(10);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
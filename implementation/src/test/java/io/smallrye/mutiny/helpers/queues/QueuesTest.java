@@ -290,6 +290,90 @@ public class QueuesTest {
         assertThat(q.isEmpty()).isTrue();
     }
 
+    @Test
+    public void testThatMpscLinkedArrayQueueCannotReceiveNull() {
+        assertThrows(NullPointerException.class, () -> {
+            MpscLinkedArrayQueue<Object> q = new MpscLinkedArrayQueue<>(8);
+            q.offer(null);
+        });
+    }
+
+    @Test
+    public void testMpscQueueCreation() {
+        assertThat(Queues.createMpscQueue()).isInstanceOf(MpscLinkedArrayQueue.class);
+    }
+
+    @Test
+    public void testMpscLinkedArrayQueueOfferAcrossChunks() {
+        MpscLinkedArrayQueue<Integer> q = new MpscLinkedArrayQueue<>(8);
+        assertThat(q.isEmpty()).isTrue();
+        for (int i = 0; i < 100; i++) {
+            q.offer(i);
+        }
+        assertThat(q.isEmpty()).isFalse();
+        for (int i = 0; i < 50; i++) {
+            assertThat(q.poll()).isEqualTo(i);
+        }
+        for (int i = 100; i < 120; i++) {
+            q.offer(i);
+        }
+        for (int i = 50; i < 120; i++) {
+            assertThat(q.poll()).isEqualTo(i);
+        }
+        assertThat(q.poll()).isNull();
+        assertThat(q.isEmpty()).isTrue();
+
+        q.offer(1);
+        q.offer(2);
+        q.clear();
+        assertThat(q.poll()).isNull();
+        assertThat(q.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testMpscLinkedArrayQueueWithConcurrentProducers() throws Exception {
+        int producers = 4;
+        int count = 50_000;
+        MpscLinkedArrayQueue<Integer> q = new MpscLinkedArrayQueue<>(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int offset = p * count;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < count; i++) {
+                    q.offer(offset + i);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+
+        // Each producer's items must be received in order
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        int received = 0;
+        while (received < producers * count) {
+            Integer item = q.poll();
+            if (item != null) {
+                int producer = item / count;
+                assertThat(item % count).isEqualTo(last[producer] + 1);
+                last[producer] = item % count;
+                received++;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(q.poll()).isNull();
+        assertThat(q.isEmpty()).isTrue();
+    }
+
     @Test
     public void testSpscCapacity() {
         SpscArrayQueue<Integer> q = new SpscArrayQueue<>(8);
@@ -496,4 +580,37 @@ public class QueuesTest {
                 .isInstanceOf(UnsupportedOperationException.class);
     }
 
+    @Test
+    public void testSpscArrayQueueWithConcurrentProducerAndConsumer() throws InterruptedException {
+        checkConcurrentProducerAndConsumer(new SpscArrayQueue<>(16));
+    }
+
+    @Test
+    public void testSpscLinkedArrayQueueWithConcurrentProducerAndConsumer() throws InterruptedException {
+        checkConcurrentProducerAndConsumer(new SpscLinkedArrayQueue<>(16));
+    }
+
+    private void checkConcurrentProducerAndConsumer(Queue<Integer> queue) throws InterruptedException {
+        int count = 100_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        for (int i = 0; i < count; i++) {
+            Integer item;
+            while ((item = queue.poll()) == null) {
+                Thread.yield();
+            }
+            assertThat(item).isEqualTo(i);
+        }
+        producer.join();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+    }
+
 }
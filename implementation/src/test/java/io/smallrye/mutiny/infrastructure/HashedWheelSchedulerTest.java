@@ -0,0 +1,212 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HashedWheelSchedulerTest {
+
+    private ExecutorService executor;
+    private HashedWheelScheduler scheduler;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(2);
+        scheduler = new HashedWheelScheduler(executor, 1, TimeUnit.MILLISECONDS, 16);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testThatTheDefaultWorkerPoolIsAHashedWheelScheduler() {
+        assertThat(Infrastructure.getDefaultWorkerPool()).isInstanceOf(HashedWheelScheduler.class);
+    }
+
+    @Test
+    public void testTasksAreNotExecutedBeforeTheirDeadline() throws Exception {
+        long begin = System.nanoTime();
+        ScheduledFuture<Long> future = scheduler.schedule(System::nanoTime, 50, TimeUnit.MILLISECONDS);
+        long executedAt = future.get(1, TimeUnit.SECONDS);
+        assertThat(executedAt - begin).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(future.isDone()).isTrue();
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(0);
+    }
+
+    @Test
+    public void testTasksSpanningSeveralRotations() throws Exception {
+        // The wheel covers 16ms, so this task stays in its bucket for several rotations.
+        long begin = System.nanoTime();
+        ScheduledFuture<Long> future = scheduler.schedule(System::nanoTime, 100, TimeUnit.MILLISECONDS);
+        assertThat(future.get(1, TimeUnit.SECONDS) - begin).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testHugeDelaysDoNotOverflow() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        List<ScheduledFuture<?>> futures = new ArrayList<>();
+        futures.add(scheduler.schedule(executed::incrementAndGet, Long.MAX_VALUE, TimeUnit.NANOSECONDS));
+        futures.add(scheduler.schedule(executed::incrementAndGet, Duration.ofDays(1_000_000).toMillis(),
+                TimeUnit.MILLISECONDS));
+        futures.add(scheduler.schedule(executed::incrementAndGet, Long.MAX_VALUE, TimeUnit.DAYS));
+        futures.add(scheduler.scheduleAtFixedRate(executed::incrementAndGet, Long.MAX_VALUE, Long.MAX_VALUE,
+                TimeUnit.NANOSECONDS));
+        futures.add(scheduler.scheduleWithFixedDelay(executed::incrementAndGet, Long.MAX_VALUE, Long.MAX_VALUE,
+                TimeUnit.NANOSECONDS));
+
+        Thread.sleep(100);
+        assertThat(executed).hasValue(0);
+        for (ScheduledFuture<?> future : futures) {
+            assertThat(future.isDone()).isFalse();
+            assertThat(future.getDelay(TimeUnit.DAYS)).isGreaterThan(365L * 100);
+        }
+    }
+
+    @Test
+    public void testTasksWithoutDelayAreExecutedImmediately() throws Exception {
+        assertThat(scheduler.schedule(() -> 1, 0, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(scheduler.submit(() -> 2).get(1, TimeUnit.SECONDS)).isEqualTo(2);
+    }
+
+    @Test
+    public void testTasksAreExecutedOnTheExecutor() throws Exception {
+        ScheduledFuture<String> future = scheduler.schedule(() -> Thread.currentThread().getName(), 5,
+                TimeUnit.MILLISECONDS);
+        assertThat(future.get(1, TimeUnit.SECONDS)).startsWith("pool-");
+    }
+
+    @Test
+    public void testCancellation() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        List<ScheduledFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            futures.add(scheduler.schedule(executed::incrementAndGet, 200 + (i % 50), TimeUnit.MILLISECONDS));
+        }
+        for (int i = 0; i < futures.size(); i += 2) {
+            assertThat(futures.get(i).cancel(false)).isTrue();
+        }
+
+        await().until(() -> futures.stream().allMatch(Future::isDone));
+        Thread.sleep(100);
+        assertThat(executed).hasValue(5_000);
+        assertThat(futures.get(0).isCancelled()).isTrue();
+        assertThat(futures.get(1).isCancelled()).isFalse();
+    }
+
+    @Test
+    public void testFixedRateTasks() {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(count::incrementAndGet, 5, 5, TimeUnit.MILLISECONDS);
+        assertThat(((RunnableScheduledFuture<?>) future).isPeriodic()).isTrue();
+        await().until(() -> count.get() >= 5);
+        future.cancel(false);
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testFixedDelayTasks() {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(count::incrementAndGet, 5, 5,
+                TimeUnit.MILLISECONDS);
+        await().until(() -> count.get() >= 5);
+        future.cancel(false);
+    }
+
+    @Test
+    public void testFailingTask() {
+        ScheduledFuture<?> future = scheduler.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 5, TimeUnit.MILLISECONDS);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testShutdownRunsTheDelayedTasks() throws Exception {
+        ScheduledFuture<Integer> future = scheduler.schedule(() -> 1, 50, TimeUnit.MILLISECONDS);
+        scheduler.shutdown();
+        assertThat(scheduler.isShutdown()).isTrue();
+        assertThat(scheduler.isTerminated()).isFalse();
+        assertThrows(RejectedExecutionException.class, () -> scheduler.schedule(() -> {
+        }, 1, TimeUnit.MILLISECONDS));
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.isTerminated()).isTrue();
+    }
+
+    @Test
+    public void testShutdownCancelsThePeriodicTasks() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> periodic = scheduler.scheduleAtFixedRate(count::incrementAndGet, 1, 1, TimeUnit.HOURS);
+        ScheduledFuture<?> running = scheduler.scheduleWithFixedDelay(count::incrementAndGet, 1, 1,
+                TimeUnit.MILLISECONDS);
+        await().until(() -> count.get() >= 2);
+        scheduler.shutdown();
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        await().until(running::isDone);
+        assertThat(periodic.isCancelled()).isTrue();
+        assertThat(running.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testShutdownNowReturnsTheTasksNotRun() throws InterruptedException {
+        ScheduledFuture<?> first = scheduler.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+        ScheduledFuture<?> second = scheduler.schedule(() -> 2, 2, TimeUnit.HOURS);
+        ScheduledFuture<?> cancelled = scheduler.schedule(() -> 3, 3, TimeUnit.HOURS);
+        cancelled.cancel(false);
+
+        List<Runnable> tasks = scheduler.shutdownNow();
+        assertThat(tasks).containsExactlyInAnyOrder((Runnable) first, (Runnable) second);
+        assertThat(first.isDone()).isFalse();
+        assertThat(scheduler.isTerminated()).isTrue();
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.shutdownNow()).isEmpty();
+        assertThrows(RejectedExecutionException.class, () -> scheduler.schedule(() -> {
+        }, 1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testShutdownNowAfterShutdown() {
+        ScheduledFuture<?> future = scheduler.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+        scheduler.shutdown();
+        assertThat(scheduler.isTerminated()).isFalse();
+        assertThat(scheduler.shutdownNow()).containsExactly((Runnable) future);
+        assertThat(scheduler.isTerminated()).isTrue();
+    }
+
+    @Test
+    public void testShutdownBeforeAnyTask() {
+        HashedWheelScheduler unused = new HashedWheelScheduler(executor);
+        unused.shutdown();
+        assertThat(unused.isTerminated()).isTrue();
+        assertThat(unused.shutdownNow()).isEmpty();
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelScheduler(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedWheelScheduler(executor, 0, TimeUnit.MILLISECONDS, 16));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedWheelScheduler(executor, 1, TimeUnit.MILLISECONDS, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.scheduleAtFixedRate(() -> {
+                }, 1, 0, TimeUnit.MILLISECONDS));
+    }
+}
@@ -51,6 +51,45 @@ public class UniInterceptorTest {
         assertThat(Infrastructure.getUniInterceptors().get(1)).isEqualTo(interceptor2);
     }
 
+    @Test
+    public void testThatComposedInterceptorsAreCalledInOrder() {
+        // The static initializer of UniCreate creates a Uni, make sure it ran before registering the interceptors
+        Uni.createFrom();
+        StringBuilder trace = new StringBuilder();
+        Infrastructure.registerUniInterceptor(new UniInterceptor() {
+            @Override
+            public int ordinal() {
+                return 2;
+            }
+
+            @Override
+            public <T> Uni<T> onUniCreation(Uni<T> uni) {
+                trace.append("b");
+                return uni;
+            }
+        });
+        Infrastructure.registerUniInterceptor(new UniInterceptor() {
+            @Override
+            public int ordinal() {
+                return 1;
+            }
+
+            @Override
+            public <T> Uni<T> onUniCreation(Uni<T> uni) {
+                trace.append("a");
+                return uni;
+            }
+        });
+
+        Uni.createFrom().item(1);
+        assertThat(trace.toString()).isEqualTo("ab");
+
+        Infrastructure.clearInterceptors();
+        Uni<Integer> uni = Uni.createFrom().item(1);
+        assertThat(trace.toString()).isEqualTo("ab");
+        assertThat(Infrastructure.onUniCreation(uni)).isSameAs(uni);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testCreationInterception() {
@@ -0,0 +1,110 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+public class VirtualThreadsTest {
+
+    @AfterEach
+    public void cleanup() {
+        Infrastructure.resetCanCallerThreadBeBlockedSupplier();
+    }
+
+    @Test
+    public void testPlatformThreadsAreNotVirtual() {
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    public void testExecutorCreationWithoutVirtualThreadSupport() {
+        assumeFalse(VirtualThreads.isSupported());
+        assertThrows(UnsupportedOperationException.class, VirtualThreads::newVirtualThreadPerTaskExecutor);
+    }
+
+    @Test
+    public void testBlockingOnVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        ExecutorService executor = (ExecutorService) new VirtualThreadExecutorConfiguration()
+                .getDefaultWorkerExecutor();
+        try {
+            Future<Boolean> virtual = executor.submit(() -> VirtualThreads.isVirtual(Thread.currentThread()));
+            assertThat(virtual.get()).isTrue();
+
+            Future<Integer> item = executor.submit(() -> Uni.createFrom().item(1)
+                    .onItem().delayIt().by(Duration.ofMillis(10))
+                    .await().indefinitely());
+            assertThat(item.get()).isEqualTo(1);
+
+            Future<List<Integer>> items = executor.submit(() -> Multi.createFrom().range(0, 1000)
+                    .emitOn(Infrastructure.getDefaultExecutor())
+                    .subscribe().asStream()
+                    .collect(Collectors.toList()));
+            assertThat(items.get()).hasSize(1000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAllowingVirtualThreadsDelegatesOnPlatformThreads() {
+        Infrastructure.setCanCallerThreadBeBlockedSupplier(VirtualThreads.allowingVirtualThreads(() -> false));
+        assertThat(Infrastructure.canCallerThreadBeBlocked()).isFalse();
+        assertThrows(IllegalStateException.class, () -> Uni.createFrom().item(1).await().indefinitely());
+
+        Infrastructure.setCanCallerThreadBeBlockedSupplier(VirtualThreads.allowingVirtualThreads(() -> true));
+        assertThat(Infrastructure.canCallerThreadBeBlocked()).isTrue();
+    }
+
+    @Test
+    public void testAllowingVirtualThreadsAllowsBlockingOnVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+        Infrastructure.setCanCallerThreadBeBlockedSupplier(VirtualThreads.allowingVirtualThreads(() -> false));
+
+        ExecutorService executor = (ExecutorService) new VirtualThreadExecutorConfiguration()
+                .getDefaultWorkerExecutor();
+        try {
+            Future<Integer> item = executor.submit(() -> Uni.createFrom().item(1).await().indefinitely());
+            assertThat(item.get()).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConfiguredSupplierForbidsBlockingOnVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+        Infrastructure.setCanCallerThreadBeBlockedSupplier(() -> false);
+
+        ExecutorService executor = (ExecutorService) new VirtualThreadExecutorConfiguration()
+                .getDefaultWorkerExecutor();
+        try {
+            Future<Throwable> failure = executor.submit(() -> {
+                try {
+                    Uni.createFrom().item(1).await().indefinitely();
+                    return null;
+                } catch (IllegalStateException e) {
+                    return e;
+                }
+            });
+            assertThat(failure.get()).isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("cannot be blocked");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
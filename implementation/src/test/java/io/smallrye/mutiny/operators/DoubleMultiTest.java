@@ -0,0 +1,275 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.DoubleMulti;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.DoubleSubscriber;
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+public class DoubleMultiTest {
+
+    @Test
+    public void testItemsFollowRequests() {
+        AssertSubscriber<Double> subscriber = DoubleMulti.items(1.5, 2.5, 3.5).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+        subscriber.request(2);
+        subscriber.assertItems(1.5, 2.5).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertCompleted().assertItems(1.5, 2.5, 3.5);
+    }
+
+    @Test
+    public void testEmptyItems() {
+        DoubleMulti.items().boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertCompleted()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testFromPublisher() {
+        AssertSubscriber<Double> subscriber = DoubleMulti.from(Multi.createFrom().items(1, 2L, 3.5f)).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        subscriber.assertItems(1.0).assertNotTerminated();
+        subscriber.request(5);
+        subscriber.assertCompleted().assertItems(1.0, 2.0, 3.5);
+
+        DoubleMulti.from(Multi.createFrom().failure(new IOException("boom"))).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testFromPublisherCancellation() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AssertSubscriber<Double> subscriber = DoubleMulti.from(Multi.createFrom().range(0, 100)
+                .onCancellation().invoke(() -> cancelled.set(true)))
+                .map(d -> d + 0.5)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.cancel();
+        subscriber.assertItems(0.5, 1.5).assertNotTerminated();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testInvalidRequestOnTheSource() {
+        assertThat(requestAndGetFailure(DoubleMulti.items(1.0, 2.0), -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be greater than 0");
+    }
+
+    @Test
+    public void testInvalidRequestOnTheOperators() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        DoubleMulti upstream = DoubleMulti.from(Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(() -> cancelled.set(true)));
+
+        assertThat(requestAndGetFailure(upstream.map(d -> d + 1), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be greater than 0");
+        assertThat(cancelled).isTrue();
+
+        assertThat(requestAndGetFailure(DoubleMulti.items(1.0, 2.0).filter(d -> true), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(requestAndGetFailure(DoubleMulti.items(1.0, 2.0).scan(Double::sum), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMap() {
+        DoubleMulti.items(1.0, 2.0, 3.0).map(d -> d / 2).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(0.5, 1.0, 1.5);
+    }
+
+    @Test
+    public void testFilterReplenishesDroppedItems() {
+        AssertSubscriber<Double> subscriber = DoubleMulti.items(0.5, 1.0, 1.5, 2.0, 2.5, 3.0)
+                .filter(d -> d != Math.floor(d))
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(0.5, 1.5).assertNotTerminated();
+        subscriber.request(3);
+        subscriber.assertCompleted().assertItems(0.5, 1.5, 2.5);
+    }
+
+    @Test
+    public void testFilterWithoutBackPressure() {
+        DoubleMulti.items(1.0, Double.NaN, 2.0, Double.NaN)
+                .filter(d -> !Double.isNaN(d))
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(1.0, 2.0);
+    }
+
+    @Test
+    public void testScan() {
+        DoubleMulti.items(1.0, 2.0, 3.0, 4.0).scan((a, b) -> a * b).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1.0, 2.0, 6.0, 24.0);
+
+        DoubleMulti.items(7.5).scan(Double::sum).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(7.5);
+    }
+
+    @Test
+    public void testCallbackFailuresCancelTheUpstream() {
+        AtomicInteger cancellations = new AtomicInteger();
+        DoubleMulti upstream = DoubleMulti.from(Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(cancellations::incrementAndGet));
+
+        upstream.map(d -> {
+            if (d == 2.0) {
+                throw new IllegalStateException("map");
+            }
+            return d;
+        }).boxed().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "map")
+                .assertItems(0.0, 1.0);
+
+        upstream.filter(d -> {
+            if (d == 2.0) {
+                throw new IllegalStateException("filter");
+            }
+            return true;
+        }).boxed().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "filter")
+                .assertItems(0.0, 1.0);
+
+        upstream.scan((a, b) -> {
+            if (b == 2.0) {
+                throw new IllegalStateException("scan");
+            }
+            return a + b;
+        }).boxed().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "scan")
+                .assertItems(0.0, 1.0);
+
+        upstream.mapToObj(d -> d == 2.0 ? null : "item-" + d)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(NullPointerException.class, "mapper")
+                .assertItems("item-0.0", "item-1.0");
+
+        assertThat(cancellations).hasValue(4);
+    }
+
+    @Test
+    public void testUpstreamFailureIsPropagatedByTheOperators() {
+        DoubleMulti failed = DoubleMulti.from(Multi.createFrom().<Double> failure(new IOException("boom")));
+        failed.map(d -> d).filter(d -> true).scan(Double::sum).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testCancellation() {
+        AssertSubscriber<Double> subscriber = DoubleMulti.from(Multi.createFrom().range(0, 100))
+                .map(d -> d + 1).filter(d -> true).scan(Double::sum).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.cancel();
+        subscriber.request(10);
+        subscriber.assertItems(1.0, 3.0).assertNotTerminated();
+    }
+
+    @Test
+    public void testParameterValidation() {
+        assertThatThrownBy(() -> DoubleMulti.items((double[]) null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DoubleMulti.from(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DoubleMulti.items(1.0).map(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DoubleMulti.items(1.0).filter(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DoubleMulti.items(1.0).scan(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DoubleMulti.items(1.0).mapToObj(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCollectors() {
+        assertThat(DoubleMulti.items(0.5, 1.5, 2.5).sum().await().indefinitely()).isEqualTo(4.5);
+        assertThat(DoubleMulti.items(0.5, 1.5, 2.5).count().await().indefinitely()).isEqualTo(3L);
+        assertThat(DoubleMulti.items(0.5, 1.5, 3.5).average().await().indefinitely()).isEqualTo(1.8333333333333333);
+        assertThat(DoubleMulti.items(0.5, 1.5, 2.5).toArray().await().indefinitely())
+                .containsExactly(0.5, 1.5, 2.5);
+    }
+
+    @Test
+    public void testMinAndMax() {
+        assertThat(DoubleMulti.items(5.5, -3.25, 9.0, 1.0).min().await().indefinitely()).isEqualTo(-3.25);
+        assertThat(DoubleMulti.items(5.5, -3.25, 9.0, 1.0).max().await().indefinitely()).isEqualTo(9.0);
+        assertThat(DoubleMulti.items(-1.0).min().await().indefinitely()).isEqualTo(-1.0);
+        assertThat(DoubleMulti.items(-1.0).max().await().indefinitely()).isEqualTo(-1.0);
+        assertThat(DoubleMulti.items(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY).min().await().indefinitely())
+                .isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(DoubleMulti.items(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY).max().await().indefinitely())
+                .isEqualTo(Double.POSITIVE_INFINITY);
+        // Like Math.min and Math.max: -0.0 is smaller than 0.0, and NaN wins
+        assertThat(DoubleMulti.items(0.0, -0.0).min().await().indefinitely()).isEqualTo(-0.0);
+        assertThat(DoubleMulti.items(-0.0, 0.0).max().await().indefinitely()).isEqualTo(0.0);
+        assertThat(DoubleMulti.items(1.0, Double.NaN, 2.0).min().await().indefinitely()).isNaN();
+        assertThat(DoubleMulti.items(1.0, Double.NaN, 2.0).max().await().indefinitely()).isNaN();
+    }
+
+    @Test
+    public void testCollectorsOnEmptyStreams() {
+        assertThat(DoubleMulti.items().sum().await().indefinitely()).isEqualTo(0.0);
+        assertThat(DoubleMulti.items().count().await().indefinitely()).isEqualTo(0L);
+        assertThat(DoubleMulti.items().min().await().indefinitely()).isNull();
+        assertThat(DoubleMulti.items().max().await().indefinitely()).isNull();
+        assertThat(DoubleMulti.items().average().await().indefinitely()).isNull();
+        assertThat(DoubleMulti.items().toArray().await().indefinitely()).isEmpty();
+    }
+
+    @Test
+    public void testCollectorPropagatesFailures() {
+        assertThatThrownBy(() -> DoubleMulti.from(Multi.createFrom().failure(new IllegalStateException("boom")))
+                .min().await().indefinitely())
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("boom");
+    }
+
+    private static Throwable requestAndGetFailure(DoubleMulti multi, long request) {
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        multi.subscribe(new DoubleSubscriber() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onItem(double item) {
+                // Ignored
+            }
+
+            @Override
+            public void onFailure(Throwable f) {
+                failure.set(f);
+            }
+
+            @Override
+            public void onCompletion() {
+                // Ignored
+            }
+        });
+        subscription.get().request(request);
+        return failure.get();
+    }
+}
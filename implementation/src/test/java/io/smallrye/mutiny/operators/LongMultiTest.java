@@ -0,0 +1,321 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.LongMulti;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.LongSubscriber;
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+public class LongMultiTest {
+
+    @Test
+    public void testRange() {
+        LongMulti.range(Long.MAX_VALUE - 3, Long.MAX_VALUE).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(Long.MAX_VALUE - 3, Long.MAX_VALUE - 2, Long.MAX_VALUE - 1);
+    }
+
+    @Test
+    public void testRangeValidation() {
+        assertThatThrownBy(() -> LongMulti.range(5, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("end must be greater than start");
+    }
+
+    @Test
+    public void testItemsFollowRequests() {
+        AssertSubscriber<Long> subscriber = LongMulti.items(1L, 2L, 3L).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+        subscriber.request(2);
+        subscriber.assertItems(1L, 2L).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertCompleted().assertItems(1L, 2L, 3L);
+    }
+
+    @Test
+    public void testEmptyItems() {
+        LongMulti.items().boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertCompleted()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testFromPublisher() {
+        AssertSubscriber<Long> subscriber = LongMulti.from(Multi.createFrom().items(1, 2L, 3.9)).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        subscriber.assertItems(1L).assertNotTerminated();
+        subscriber.request(5);
+        subscriber.assertCompleted().assertItems(1L, 2L, 3L);
+
+        LongMulti.from(Multi.createFrom().failure(new IOException("boom"))).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testFromPublisherCancellation() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AssertSubscriber<Long> subscriber = LongMulti.from(Multi.createFrom().range(0, 100)
+                .onCancellation().invoke(() -> cancelled.set(true)))
+                .map(l -> l + 1)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.cancel();
+        subscriber.assertItems(1L, 2L).assertNotTerminated();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testTicks() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        try {
+            AssertSubscriber<Long> subscriber = LongMulti.ticks(Duration.ofMillis(10), executor).boxed()
+                    .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+            await().until(() -> subscriber.getItems().size() >= 3);
+            subscriber.cancel();
+            assertThat(subscriber.getItems()).startsWith(0L, 1L, 2L);
+            subscriber.assertNotTerminated();
+            // The cancellation also cancels the periodic task
+            await().until(() -> executor.getQueue().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTicksWithoutEnoughRequests() {
+        AssertSubscriber<Long> subscriber = LongMulti.ticks(Duration.ofMillis(10)).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        await().until(() -> subscriber.getFailure() != null);
+        subscriber
+                .assertFailedWith(BackPressureFailure.class, "lack of requests")
+                .assertItems(0L, 1L);
+    }
+
+    @Test
+    public void testInvalidRequestOnTheSource() {
+        assertThat(requestAndGetFailure(LongMulti.range(0, 10), -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be greater than 0");
+    }
+
+    @Test
+    public void testInvalidRequestOnTheOperators() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        LongMulti upstream = LongMulti.from(Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(() -> cancelled.set(true)));
+
+        assertThat(requestAndGetFailure(upstream.map(l -> l + 1), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be greater than 0");
+        assertThat(cancelled).isTrue();
+
+        assertThat(requestAndGetFailure(LongMulti.range(0, 10).filter(l -> true), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(requestAndGetFailure(LongMulti.range(0, 10).scan(Long::sum), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMap() {
+        LongMulti.range(0, 4).map(l -> l * Integer.MAX_VALUE).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(0L, (long) Integer.MAX_VALUE, 2L * Integer.MAX_VALUE, 3L * Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testFilterReplenishesDroppedItems() {
+        AssertSubscriber<Long> subscriber = LongMulti.range(0, 10)
+                .filter(l -> l % 2 == 1)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1L, 3L).assertNotTerminated();
+        subscriber.request(3);
+        subscriber.assertCompleted().assertItems(1L, 3L, 5L, 7L, 9L);
+    }
+
+    @Test
+    public void testFilterWithoutBackPressure() {
+        LongMulti.range(0, 10)
+                .filter(l -> l % 3 == 0)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(0L, 3L, 6L, 9L);
+    }
+
+    @Test
+    public void testScan() {
+        LongMulti.range(1, 6).scan((a, b) -> a * b).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1L, 2L, 6L, 24L, 120L);
+
+        LongMulti.items(7L).scan(Long::sum).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(7L);
+    }
+
+    @Test
+    public void testCallbackFailuresCancelTheUpstream() {
+        AtomicInteger cancellations = new AtomicInteger();
+        LongMulti upstream = LongMulti.from(Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(cancellations::incrementAndGet));
+
+        upstream.map(l -> {
+            if (l == 2) {
+                throw new IllegalStateException("map");
+            }
+            return l;
+        }).boxed().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "map")
+                .assertItems(0L, 1L);
+
+        upstream.filter(l -> {
+            if (l == 2) {
+                throw new IllegalStateException("filter");
+            }
+            return true;
+        }).boxed().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "filter")
+                .assertItems(0L, 1L);
+
+        upstream.scan((a, b) -> {
+            if (b == 2) {
+                throw new IllegalStateException("scan");
+            }
+            return a + b;
+        }).boxed().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "scan")
+                .assertItems(0L, 1L);
+
+        upstream.mapToObj(l -> l == 2 ? null : "item-" + l)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(NullPointerException.class, "mapper")
+                .assertItems("item-0", "item-1");
+
+        assertThat(cancellations).hasValue(4);
+    }
+
+    @Test
+    public void testUpstreamFailureIsPropagatedByTheOperators() {
+        LongMulti failed = LongMulti.from(Multi.createFrom().<Long> failure(new IOException("boom")));
+        failed.map(l -> l).filter(l -> true).scan(Long::sum).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testCancellation() {
+        AssertSubscriber<Long> subscriber = LongMulti.range(0, 100).map(l -> l + 1).filter(l -> true)
+                .scan(Long::sum).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.cancel();
+        subscriber.request(10);
+        subscriber.assertItems(1L, 3L).assertNotTerminated();
+    }
+
+    @Test
+    public void testConversions() {
+        LongMulti.range(0, 3).mapToObj(l -> "item-" + l)
+                .subscribe().withSubscriber(AssertSubscriber.create(3))
+                .assertCompleted()
+                .assertItems("item-0", "item-1", "item-2");
+        assertThat(LongMulti.items(1L, 2L).asDoubleMulti().map(d -> d / 4).toArray().await().indefinitely())
+                .containsExactly(0.25, 0.5);
+    }
+
+    @Test
+    public void testParameterValidation() {
+        assertThatThrownBy(() -> LongMulti.items((long[]) null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.from(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.ticks(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.ticks(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.ticks(Duration.ofMillis(10), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.range(0, 1).map(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.range(0, 1).filter(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.range(0, 1).scan(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.range(0, 1).mapToObj(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCollectors() {
+        assertThat(LongMulti.range(1, 101).sum().await().indefinitely()).isEqualTo(5050L);
+        assertThat(LongMulti.range(1, 101).count().await().indefinitely()).isEqualTo(100L);
+        assertThat(LongMulti.items(5L, -3L, Long.MAX_VALUE, 1L).min().await().indefinitely()).isEqualTo(-3L);
+        assertThat(LongMulti.items(5L, Long.MIN_VALUE, Long.MAX_VALUE, 1L).max().await().indefinitely())
+                .isEqualTo(Long.MAX_VALUE);
+        assertThat(LongMulti.range(1, 101).average().await().indefinitely()).isEqualTo(50.5);
+        assertThat(LongMulti.range(0, 100).toArray().await().indefinitely()).hasSize(100).startsWith(0L, 1L)
+                .endsWith(99L);
+    }
+
+    @Test
+    public void testCollectorsOnEmptyStreams() {
+        assertThat(LongMulti.items().sum().await().indefinitely()).isEqualTo(0L);
+        assertThat(LongMulti.items().count().await().indefinitely()).isEqualTo(0L);
+        assertThat(LongMulti.items().min().await().indefinitely()).isNull();
+        assertThat(LongMulti.items().max().await().indefinitely()).isNull();
+        assertThat(LongMulti.items().average().await().indefinitely()).isNull();
+        assertThat(LongMulti.items().toArray().await().indefinitely()).isEmpty();
+    }
+
+    @Test
+    public void testCollectorPropagatesFailures() {
+        assertThatThrownBy(() -> LongMulti.from(Multi.createFrom().failure(new IllegalStateException("boom")))
+                .max().await().indefinitely())
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("boom");
+    }
+
+    private static Throwable requestAndGetFailure(LongMulti multi, long request) {
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        multi.subscribe(new LongSubscriber() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onItem(long item) {
+                // Ignored
+            }
+
+            @Override
+            public void onFailure(Throwable f) {
+                failure.set(f);
+            }
+
+            @Override
+            public void onCompletion() {
+                // Ignored
+            }
+        });
+        subscription.get().request(request);
+        return failure.get();
+    }
+}
@@ -1,6 +1,12 @@
 package io.smallrye.mutiny.operators;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -67,4 +73,56 @@ public class MultiCacheTest {
         s1.assertItems(1, 2).request(1).assertItems(1, 2, 3).assertCompleted();
         s2.assertItems(1, 2, 3).assertCompleted();
     }
+
+    @Test
+    public void testCachingLargeStreamsSpanningSeveralSegments() {
+        int size = 10_000;
+        Multi<Integer> multi = Multi.createFrom().range(0, size).cache();
+
+        AssertSubscriber<Integer> s1 = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+        assertThat(s1.getItems()).hasSize(size).startsWith(0, 1, 2).endsWith(size - 2, size - 1);
+
+        AssertSubscriber<Integer> s2 = multi.subscribe().withSubscriber(AssertSubscriber.create(150))
+                .assertNotTerminated();
+        assertThat(s2.getItems()).hasSize(150).endsWith(148, 149);
+        s2.request(size);
+        s2.assertCompleted();
+        assertThat(s2.getItems()).containsExactlyElementsOf(s1.getItems());
+    }
+
+    @Test
+    public void testCancellationStopsTheReplay() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 1000).cache();
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertCompleted();
+
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(200));
+        assertThat(subscriber.getItems()).hasSize(200);
+        subscriber.cancel()
+                .request(10)
+                .assertNotTerminated();
+        assertThat(subscriber.getItems()).hasSize(200);
+    }
+
+    @Test
+    public void testLateSubscribersWithAsynchronousUpstream() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            int size = 50_000;
+            Multi<Integer> multi = Multi.createFrom().range(0, size).emitOn(executor).cache();
+            List<AssertSubscriber<Integer>> subscribers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                subscribers.add(multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+            }
+            for (AssertSubscriber<Integer> subscriber : subscribers) {
+                subscriber.await().assertCompleted();
+                assertThat(subscriber.getItems()).hasSize(size);
+                for (int i = 0; i < size; i++) {
+                    assertThat(subscriber.getItems().get(i)).isEqualTo(i);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -1,12 +1,18 @@
 package io.smallrye.mutiny.operators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
@@ -501,4 +507,248 @@ public class MultiCreateFromEmitterTest {
         subscriber2.assertCompleted();
 
     }
+
+    @Test
+    public void testEmissionsFromConcurrentThreads() {
+        int producers = 8;
+        int count = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+                AtomicInteger remaining = new AtomicInteger(producers);
+                for (int p = 0; p < producers; p++) {
+                    executor.submit(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        for (int i = 0; i < count; i++) {
+                            emitter.emit(i);
+                        }
+                        if (remaining.decrementAndGet() == 0) {
+                            emitter.complete();
+                        }
+                    });
+                }
+            }).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+            start.countDown();
+            subscriber.await().assertCompleted();
+            assertThat(subscriber.getItems()).hasSize(producers * count);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEmitAllWithBufferStrategy() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.emitAll(Arrays.asList(1, 2, 3, 4));
+            emitter.emitAll(new Integer[] { 5, 6, 7, 8 }, 1, 2);
+            emitter.complete();
+        }).subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1, 2)
+                .assertNotTerminated()
+                .request(10)
+                .assertItems(1, 2, 3, 4, 6, 7)
+                .assertCompleted();
+    }
+
+    @Test
+    public void testEmitAllWithDropStrategy() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.emitAll(Arrays.asList(1, 2, 3, 4));
+            emitter.complete();
+        }, BackPressureStrategy.DROP).subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1, 2).assertCompleted();
+    }
+
+    @Test
+    public void testEmitAllWithErrorStrategy() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.emitAll(Arrays.asList(1, 2, 3, 4));
+            emitter.complete();
+        }, BackPressureStrategy.ERROR).subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1, 2)
+                .assertFailedWith(BackPressureFailure.class, "requests");
+    }
+
+    @Test
+    public void testEmitAllWithIgnoreStrategy() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.emitAll(Arrays.asList(1, 2, 3, 4));
+            emitter.complete();
+        }, BackPressureStrategy.IGNORE).subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1, 2, 3, 4).assertCompleted();
+    }
+
+    @Test
+    public void testEmitAllWithLatestStrategy() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.emitAll(Arrays.asList(1, 2, 3, 4));
+            emitter.complete();
+        }, BackPressureStrategy.LATEST).subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1, 2)
+                .assertNotTerminated()
+                .request(1)
+                .assertItems(1, 2, 4)
+                .assertCompleted();
+    }
+
+    @Test
+    public void testEmitAllWithNullItem() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.emitAll(Arrays.asList(1, 2, null, 4));
+            emitter.complete();
+        }).subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertItems(1, 2)
+                .assertFailedWith(NullPointerException.class, "null");
+    }
+
+    @Test
+    public void testEmitAllWithInvalidParameters() {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        Multi.createFrom().<Integer> emitter(reference::set).subscribe().withSubscriber(AssertSubscriber.create());
+        MultiEmitter<? super Integer> emitter = reference.get();
+
+        assertThatThrownBy(() -> emitter.emitAll(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> emitter.emitAll(null, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> emitter.emitAll(new Integer[] { 1, 2 }, -1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> emitter.emitAll(new Integer[] { 1, 2 }, 1, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testProducingItemsOnRequest() {
+        List<Long> requests = new ArrayList<>();
+        AtomicInteger next = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.onRequest(n -> {
+                requests.add(n);
+                for (long i = 0; i < n && next.get() < 5; i++) {
+                    emitter.emit(next.getAndIncrement());
+                }
+                if (next.get() == 5) {
+                    emitter.complete();
+                }
+            });
+        }, BackPressureStrategy.ERROR).subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        // The outstanding demand is passed when the handler is attached
+        subscriber.assertItems(0, 1).assertNotTerminated();
+        assertThat(requests).containsExactly(2L);
+
+        subscriber.request(1).assertItems(0, 1, 2).assertNotTerminated();
+        subscriber.request(10).assertItems(0, 1, 2, 3, 4).assertCompleted();
+        assertThat(requests).containsExactly(2L, 1L, 10L);
+    }
+
+    @Test
+    public void testThatOnRequestIsNotCalledWithoutDemand() {
+        AtomicInteger calls = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.onRequest(n -> calls.incrementAndGet());
+        }).subscribe().withSubscriber(AssertSubscriber.create());
+
+        assertThat(calls).hasValue(0);
+        subscriber.request(1);
+        assertThat(calls).hasValue(1);
+        subscriber.cancel();
+        subscriber.request(1);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void testFailureInOnRequest() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            emitter.onRequest(n -> {
+                throw new IllegalStateException("boom");
+            });
+        }).subscribe().withSubscriber(AssertSubscriber.create());
+
+        subscriber.assertNotTerminated()
+                .request(1)
+                .assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testThatARequestIsNotNotifiedTwiceWhenTheHandlerIsAttachedDuringTheRequest() {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        List<Long> requests = new ArrayList<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter -> {
+            reference.set(emitter);
+            emitter.emit(0); // Buffered, there is no demand yet
+        })
+                // Attach the handler while the request of 2 is being processed
+                .onItem().invoke(i -> reference.get().onRequest(requests::add))
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        subscriber.request(2).assertItems(0);
+
+        // One item is still expected, and it must be notified once
+        assertThat(reference.get().requested()).isEqualTo(1);
+        assertThat(requests).containsExactly(1L);
+    }
+
+    @Test
+    public void testThatTheDefaultOnRequestNotifiesTheOutstandingDemand() {
+        AtomicLong requested = new AtomicLong(3);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        MultiEmitter<Integer> emitter = new MultiEmitter<Integer>() {
+            @Override
+            public MultiEmitter<Integer> emit(Integer item) {
+                requested.decrementAndGet();
+                return this;
+            }
+
+            @Override
+            public void fail(Throwable f) {
+                failure.set(f);
+            }
+
+            @Override
+            public void complete() {
+                // Ignored
+            }
+
+            @Override
+            public MultiEmitter<Integer> onTermination(Runnable onTermination) {
+                return this;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public long requested() {
+                return requested.get();
+            }
+        };
+
+        List<Long> requests = new ArrayList<>();
+        emitter.onRequest(requests::add);
+        assertThat(requests).containsExactly(3L);
+
+        emitter.onRequest(n -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        requested.set(0);
+        emitter.onRequest(requests::add);
+        assertThat(requests).containsExactly(3L);
+    }
 }
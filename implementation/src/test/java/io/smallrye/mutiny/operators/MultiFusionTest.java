@@ -0,0 +1,142 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.MultiFilterOp;
+import io.smallrye.mutiny.operators.multi.MultiFusedOp;
+import io.smallrye.mutiny.operators.multi.MultiMapOp;
+import io.smallrye.mutiny.operators.multi.MultiOnItemInvoke;
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+public class MultiFusionTest {
+
+    @Test
+    public void testThatSingleOperatorsAreNotFused() {
+        Multi<Integer> upstream = Multi.createFrom().range(1, 5);
+        assertThat(upstream.map(i -> i + 1)).isInstanceOf(MultiMapOp.class);
+        assertThat(upstream.filter(i -> i % 2 == 0)).isInstanceOf(MultiFilterOp.class);
+        assertThat(upstream.invoke(i -> {
+        })).isInstanceOf(MultiOnItemInvoke.class);
+    }
+
+    @Test
+    public void testThatAdjacentOperatorsAreFused() {
+        Multi<Integer> multi = Multi.createFrom().range(1, 11)
+                .map(i -> i * 2)
+                .filter(i -> i % 4 == 0)
+                .invoke(i -> {
+                })
+                .map(i -> i + 1);
+        assertThat(multi).isInstanceOf(MultiFusedOp.class);
+        assertThat(multi.collectItems().asList().await().indefinitely()).containsExactly(5, 9, 13, 17, 21);
+    }
+
+    @Test
+    public void testThatFusingDoesNotAlterTheUpstream() {
+        Multi<Integer> upstream = Multi.createFrom().range(1, 5).map(i -> i * 10);
+        Multi<Integer> fused = upstream.map(i -> i + 1);
+
+        assertThat(upstream.collectItems().asList().await().indefinitely()).containsExactly(10, 20, 30, 40);
+        assertThat(fused.collectItems().asList().await().indefinitely()).containsExactly(11, 21, 31, 41);
+    }
+
+    @Test
+    public void testStagesAreCalledInOrder() {
+        List<String> events = new ArrayList<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 3)
+                .invoke(i -> events.add("a" + i))
+                .map(i -> i * 10)
+                .invoke(i -> events.add("b" + i))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).containsExactly(10, 20);
+        assertThat(events).containsExactly("a1", "b10", "a2", "b20");
+    }
+
+    @Test
+    public void testThatFilteredItemsAreReplacedByNewRequests() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 21)
+                .filter(i -> i % 2 == 0)
+                .map(i -> i * 10)
+                .filter(i -> i % 40 == 0)
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertNotTerminated();
+        assertThat(subscriber.getItems()).containsExactly(40, 80);
+
+        subscriber.request(10);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).containsExactly(40, 80, 120, 160, 200);
+    }
+
+    @Test
+    public void testThatANullMappedItemIsAFailure() {
+        Multi.createFrom().range(1, 5)
+                .map(i -> i)
+                .map(i -> i == 2 ? null : i)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(NullPointerException.class, "");
+    }
+
+    @Test
+    public void testThatAFailingStageCancelsTheUpstream() {
+        AtomicInteger invoked = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 5)
+                .on().cancellation(cancelled::incrementAndGet)
+                .map(i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .invoke(i -> invoked.incrementAndGet())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(subscriber.getItems()).containsExactly(1);
+        assertThat(invoked).hasValue(1);
+        assertThat(cancelled).hasValue(1);
+    }
+
+    @Test
+    public void testThatCancellingFromAStageStopsTheProcessing() {
+        AtomicInteger downstreamCalls = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = AssertSubscriber.create(10);
+        Multi.createFrom().range(1, 5)
+                .invoke(i -> {
+                    if (i == 2) {
+                        subscriber.cancel();
+                    }
+                })
+                .invoke(i -> downstreamCalls.incrementAndGet())
+                .subscribe().withSubscriber(subscriber);
+
+        assertThat(subscriber.getItems()).containsExactly(1);
+        assertThat(downstreamCalls).hasValue(1);
+    }
+
+    @Test
+    public void testThatFailuresAndCompletionArePropagated() {
+        Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .map(i -> i + 1)
+                .filter(i -> true)
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(IOException.class, "boom");
+
+        Multi.createFrom().<Integer> empty()
+                .map(i -> i + 1)
+                .filter(i -> true)
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertCompleted();
+    }
+}
@@ -885,4 +885,81 @@ public class MultiGroupTest {
         s2.assertFailedWith(TestException.class, "boom");
         subscriber.assertFailedWith(TestException.class, "boom");
     }
+
+    @Test
+    public void testGroupByWithMaxGroups() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> items = Multi.createFrom().items(1, 2, 3, 1, 4, 2)
+                .groupItems().withMaxGroups(3).by(i -> i)
+                .flatMap(group -> {
+                    events.add("open-" + group.key());
+                    return group.onCompletion().invoke(() -> events.add("close-" + group.key()));
+                })
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(items).containsExactly(1, 2, 3, 1, 4, 2);
+        // 1 is used again before 4 arrives, so 2 is the least recently used group, and 3 when 2 comes back
+        assertThat(events).containsSubsequence("open-1", "open-2", "open-3", "close-2", "open-4", "close-3",
+                "open-2");
+        assertThat(events).filteredOn(e -> e.startsWith("open")).hasSize(5);
+        assertThat(events).filteredOn(e -> e.startsWith("close")).hasSize(5);
+    }
+
+    @Test
+    public void testGroupByWithIdleEviction() {
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        AssertSubscriber<GroupedMulti<Integer, Integer>> subscriber = Multi.createFrom()
+                .emitter((Consumer<MultiEmitter<? super Integer>>) emitter::set)
+                .groupItems().evictIdleAfter(Duration.ofMillis(50)).by(i -> i % 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        emitter.get().emit(1).emit(2);
+        await().until(() -> subscriber.getItems().size() == 2);
+        AssertSubscriber<Integer> odd = subscriber.getItems().get(0).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> even = subscriber.getItems().get(1).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        odd.await().assertItems(1).assertCompleted();
+        even.await().assertItems(2).assertCompleted();
+        subscriber.assertNotTerminated();
+
+        // The group is created again
+        emitter.get().emit(3);
+        await().until(() -> subscriber.getItems().size() == 3);
+        assertThat(subscriber.getItems().get(2).key()).isEqualTo(1);
+        subscriber.getItems().get(2).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .await()
+                .assertItems(3)
+                .assertCompleted();
+
+        emitter.get().complete();
+        subscriber.await().assertCompleted();
+    }
+
+    @Test
+    public void testGroupByWithRequests() {
+        AtomicInteger requested = new AtomicInteger();
+        AssertSubscriber<GroupedMulti<Integer, Integer>> subscriber = Multi.createFrom().range(0, 100)
+                .onRequest().invoke(n -> requested.addAndGet((int) Math.min(n, Integer.MAX_VALUE)))
+                .groupItems().withRequests(10).by(i -> i % 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertThat(subscriber.getItems()).hasSize(2);
+        // The groups are not consumed, so only the requests and the replenishment for the 2 emitted groups are
+        // requested
+        assertThat(requested).hasValue(12);
+    }
+
+    @Test
+    public void testGroupByConfigurationValidation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Multi.createFrom().range(1, 10).groupItems().withMaxGroups(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> Multi.createFrom().range(1, 10).groupItems().withRequests(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> Multi.createFrom().range(1, 10).groupItems().evictIdleAfter(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> Multi.createFrom().range(1, 10).groupItems().evictIdleAfter(Duration.ZERO));
+    }
 }
@@ -0,0 +1,205 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.builders.CollectionBasedMulti;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+public class MultiQueueFusionTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testThatFusionIsOnlyGrantedToFusionCapableSubscribers() {
+        AtomicInteger regular = new AtomicInteger(-1);
+        AtomicInteger capable = new AtomicInteger(-1);
+
+        new CollectionBasedMulti<>(1, 2, 3).subscribe(new FusionProbe(regular));
+        new CollectionBasedMulti<>(1, 2, 3).subscribe(new FusionCapableProbe(capable));
+
+        assertThat(regular).hasValue(QueueSubscription.NONE);
+        assertThat(capable).hasValue(QueueSubscription.SYNC);
+    }
+
+    @Test
+    public void testEmitOnWithCollection() {
+        List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        List<Integer> list = Multi.createFrom().iterable(expected)
+                .emitOn(executor)
+                .collectItems().asList()
+                .await().indefinitely();
+        assertThat(list).isEqualTo(expected);
+    }
+
+    @Test
+    public void testEmitOnWithItemsFollowsRequests() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().items(1, 2, 3, 4, 5)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        await().until(() -> subscriber.getItems().size() == 2);
+        subscriber.assertNotTerminated();
+
+        subscriber.request(3);
+        subscriber.await().assertCompleted().assertItems(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void testEmitOnWithFailingIterator() {
+        Iterable<Integer> iterable = () -> new Iterator<Integer>() {
+            int count;
+
+            @Override
+            public boolean hasNext() {
+                if (count == 3) {
+                    throw new IllegalStateException("boom");
+                }
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return count++;
+            }
+        };
+
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().iterable(iterable)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.await()
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(0, 1, 2);
+    }
+
+    @Test
+    public void testEmitOnWithUnicastProcessor() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                processor.onNext(i);
+            }
+            processor.onComplete();
+        }).start();
+
+        subscriber.await().assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(1000).startsWith(0, 1, 2).endsWith(999);
+    }
+
+    @Test
+    public void testEmitOnWithFailingUnicastProcessor() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onError(new IOException("boom"));
+
+        subscriber.await()
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1, 2);
+    }
+
+    @Test
+    public void testFlatMapWithFusedInnerStreams() {
+        List<Integer> list = Multi.createFrom().range(0, 1000)
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i))
+                .concatenate()
+                .collectItems().asList()
+                .await().indefinitely();
+        assertThat(list).hasSize(2000).startsWith(0, 0, 1, 1).endsWith(999, 999);
+    }
+
+    @Test
+    public void testFlatMapWithFailingFusedInnerStream() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 3)
+                .onItem().transformToMulti(i -> Multi.createFrom().<Integer> iterable(() -> new Iterator<Integer>() {
+                    @Override
+                    public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        throw new IllegalStateException("boom");
+                    }
+                }))
+                .merge()
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(subscriber.getItems()).isEmpty();
+    }
+
+    private static class FusionProbe implements MultiSubscriber<Integer> {
+
+        private final AtomicInteger mode;
+
+        FusionProbe(AtomicInteger mode) {
+            this.mode = mode;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            mode.set(((QueueSubscription<Integer>) subscription).requestFusion(QueueSubscription.ANY));
+        }
+
+        @Override
+        public void onItem(Integer item) {
+            // Ignored
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            // Ignored
+        }
+
+        @Override
+        public void onCompletion() {
+            // Ignored
+        }
+    }
+
+    private static class FusionCapableProbe extends FusionProbe implements QueueSubscription.FusionCapable {
+
+        FusionCapableProbe(AtomicInteger mode) {
+            super(mode);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.Assertions;
@@ -1325,4 +1326,116 @@ public class MultiTransformToMultiTest {
                 .containsExactly(0, 1, 2, 3, 4, -5, 6, 7, 8, 9, -10, 11, 12, 13, 14, -15, 16, 17, 18, 19);
     }
 
+    @RepeatedTest(100)
+    public void testConcatEagerRaceWithInnerEmissionOnAnotherThreadForSomeItems() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 20)
+                .onItem().transformToMulti(i -> {
+                    if (i % 5 != 0) {
+                        return Multi.createFrom().item(i);
+                    } else {
+                        return Multi.createFrom().item(-i)
+                                .emitOn(Infrastructure.getDefaultExecutor());
+                    }
+                }).concatenateEagerly(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertCompleted();
+        assertThat(subscriber.getItems())
+                .containsExactly(0, 1, 2, 3, 4, -5, 6, 7, 8, 9, -10, 11, 12, 13, 14, -15, 16, 17, 18, 19);
+    }
+
+    @Test
+    public void testConcatEagerSubscribesEagerlyAndPreservesOrder() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i * 10, i * 10 + 1)
+                        .onSubscribe().invoke(() -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                        // The first inner streams are the slowest ones
+                        .onItem().call(x -> Uni.createFrom().nullItem().onItem().delayIt().by(Duration.ofMillis(20 - i)))
+                        .onTermination().invoke(active::decrementAndGet))
+                .concatenateEagerly(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertCompleted();
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 10, 11, 20, 21, 30, 31, 40, 41, 50, 51, 60, 61, 70, 71,
+                80, 81, 90, 91);
+        assertThat(maxActive.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void testConcatEagerWithRequests() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onItem().transformToMulti(i -> Multi.createFrom().range(i * 10, i * 10 + 10))
+                .withRequests(4)
+                .concatenateEagerly(8)
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2, 3, 4);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(1000).isSorted();
+    }
+
+    @Test
+    public void testConcatEagerWithInnerFailure() {
+        Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> {
+                    if (i == 5) {
+                        return Multi.createFrom().<Integer> failure(new IOException("boom"));
+                    }
+                    return Multi.createFrom().item(i);
+                })
+                .concatenateEagerly(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testConcatEagerWithInnerFailureAndFailureCollection() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> {
+                    if (i == 5) {
+                        return Multi.createFrom().<Integer> failure(new IOException("boom"));
+                    }
+                    return Multi.createFrom().item(i);
+                })
+                .collectFailures()
+                .concatenateEagerly(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom");
+
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2, 3, 4, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void testThatUpstreamIsCancelledIfMapperThrowsExceptionWithConcatenateEagerly() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(() -> cancelled.set(true))
+                .onItem().transformToMulti(i -> {
+                    if (i == 3) {
+                        throw new IllegalArgumentException("boom");
+                    }
+                    return Multi.createFrom().item(i);
+                })
+                .concatenateEagerly(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalArgumentException.class, "boom");
+
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testConcatEagerCancellation() {
+        AtomicInteger cancellations = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> Multi.createFrom().<Integer> nothing()
+                        .onCancellation().invoke(cancellations::incrementAndGet))
+                .concatenateEagerly(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.cancel();
+        assertThat(cancellations).hasValue(4);
+    }
 }
@@ -2,14 +2,18 @@ package io.smallrye.mutiny.operators;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.test.AssertSubscriber;
 
 public class MultiTransformToUniTest {
@@ -223,4 +227,149 @@ public class MultiTransformToUniTest {
 
         assertThat(list).containsExactly(2, 3, 4);
     }
+
+    @Test
+    public void testTransformToUniAndMergeWithKnownItemsRespectsRequests() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onItem().transformToUniAndMerge(i -> Uni.createFrom().item(i))
+                .subscribe().withSubscriber(AssertSubscriber.create(3));
+
+        subscriber.assertNotTerminated();
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2);
+
+        subscriber.request(5);
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(100).isSorted();
+    }
+
+    @Test
+    public void testTransformToUniAndConcatenateMixingKnownAndAsyncItems() {
+        List<Integer> list = Multi.createFrom().range(0, 200)
+                .onItem().transformToUniAndConcatenate(i -> {
+                    if (i % 7 == 0) {
+                        return Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> i));
+                    }
+                    return Uni.createFrom().item(i);
+                })
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(list).hasSize(200).isSorted();
+    }
+
+    @Test
+    public void testTransformToMultiWithEmptyAndKnownItems() {
+        List<Integer> list = Multi.createFrom().range(0, 300)
+                .onItem().transformToMulti(i -> {
+                    if (i % 3 == 0) {
+                        return Multi.createFrom().<Integer> empty();
+                    }
+                    return Multi.createFrom().item(i);
+                })
+                .merge(4)
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(list).hasSize(200).doesNotContain(0, 3, 6);
+    }
+
+    @Test
+    public void testTransformToUniAndMergeHonoursTheConcurrency() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Integer> list = Multi.createFrom().range(0, 100)
+                .onItem().transformToUni(i -> Uni.createFrom().completionStage(() -> CompletableFuture.supplyAsync(() -> i))
+                        .onSubscribe().invoke(() -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                        .onTermination().invoke(active::decrementAndGet))
+                .merge(4)
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(list).hasSize(100).containsExactlyInAnyOrderElementsOf(
+                Multi.createFrom().range(0, 100).collectItems().asList().await().indefinitely());
+        assertThat(maxActive.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void testTransformToUniAndMergeCancelsTheInFlightUnis() {
+        AtomicInteger cancellations = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> nothing()
+                        .onCancellation().invoke(cancellations::incrementAndGet))
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.cancel();
+        assertThat(cancellations).hasValue(4);
+    }
+
+    @Test
+    public void testTransformToUniAndMergeWithFailureCancelsTheInFlightUnis() {
+        AtomicInteger cancellations = new AtomicInteger();
+        Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> {
+                    if (i == 3) {
+                        return Uni.createFrom().<Integer> failure(new IOException("boom"));
+                    }
+                    return Uni.createFrom().<Integer> nothing()
+                            .onCancellation().invoke(cancellations::incrementAndGet);
+                })
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom");
+
+        assertThat(cancellations).hasValue(3);
+    }
+
+    @Test
+    public void testTransformToUniAndMergeCollectsAllTheFailures() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onItem().transformToUni(i -> {
+                    if (i % 10 == 0) {
+                        return Uni.createFrom().<Integer> failure(new IOException("boom-" + i))
+                                .emitOn(Infrastructure.getDefaultExecutor());
+                    }
+                    return Uni.createFrom().item(i).emitOn(Infrastructure.getDefaultExecutor());
+                })
+                .collectFailures()
+                .merge(8)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertFailedWith(CompositeException.class, "boom-");
+        assertThat(subscriber.getItems()).hasSize(90);
+        assertThat(((CompositeException) subscriber.getFailure()).getCauses()).hasSize(10);
+    }
+
+    @Test
+    public void testTransformToMultiAndMergeKeepsTheConcurrencyWithKnownItems() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .onItem().transformToMulti(i -> {
+                    if (i == 1) {
+                        return Multi.createFrom().<Integer> empty();
+                    }
+                    if (i < 3) {
+                        return Multi.createFrom().item(i);
+                    }
+                    return Multi.createFrom().<Integer> nothing()
+                            .onSubscribe().invoke(s -> subscriptions.incrementAndGet());
+                })
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // The known item and empty streams must not hold back the subscription to the long-lived ones
+        assertThat(subscriber.getItems()).containsExactly(0, 2);
+        assertThat(subscriptions).hasValue(2);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testTransformToUniAndMergeReusingSlotsFromSeveralThreads() {
+        List<Integer> list = Multi.createFrom().range(0, 10_000)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i).emitOn(Infrastructure.getDefaultExecutor()))
+                .merge(16)
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(list).hasSize(10_000).doesNotHaveDuplicates();
+    }
 }
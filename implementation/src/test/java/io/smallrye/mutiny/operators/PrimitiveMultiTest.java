@@ -0,0 +1,250 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.DoubleMulti;
+import io.smallrye.mutiny.IntMulti;
+import io.smallrye.mutiny.LongMulti;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.IntSubscriber;
+import io.smallrye.mutiny.test.AssertSubscriber;
+
+public class PrimitiveMultiTest {
+
+    @Test
+    public void testIntRange() {
+        AssertSubscriber<Integer> subscriber = IntMulti.range(1, 5).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+        subscriber.assertCompleted().assertItems(1, 2, 3, 4);
+    }
+
+    @Test
+    public void testIntRangeValidation() {
+        assertThatThrownBy(() -> IntMulti.range(5, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("end must be greater than start");
+    }
+
+    @Test
+    public void testIntItemsFollowRequests() {
+        AssertSubscriber<Integer> subscriber = IntMulti.items(1, 2, 3).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+        subscriber.request(2);
+        subscriber.assertItems(1, 2).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertCompleted().assertItems(1, 2, 3);
+    }
+
+    @Test
+    public void testEmptyItems() {
+        IntMulti.items().boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertCompleted()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        IntMulti.range(0, 10).map(i -> i + 1).subscribe(new IntSubscriber() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onItem(int item) {
+                // Ignored
+            }
+
+            @Override
+            public void onFailure(Throwable f) {
+                failure.set(f);
+            }
+
+            @Override
+            public void onCompletion() {
+                // Ignored
+            }
+        });
+
+        subscription.get().request(-1);
+        assertThat(failure.get()).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be greater than 0");
+    }
+
+    @Test
+    public void testMapFilterAndScan() {
+        AssertSubscriber<Integer> subscriber = IntMulti.range(0, 10)
+                .map(i -> i * 2)
+                .filter(i -> i % 3 == 0)
+                .scan(Integer::sum)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+        subscriber.assertCompleted().assertItems(0, 6, 18, 36);
+    }
+
+    @Test
+    public void testFilterReplenishesDroppedItems() {
+        AssertSubscriber<Integer> subscriber = IntMulti.range(0, 10)
+                .filter(i -> i % 2 == 1)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1, 3).assertNotTerminated();
+        subscriber.request(3);
+        subscriber.assertCompleted().assertItems(1, 3, 5, 7, 9);
+    }
+
+    @Test
+    public void testMapperFailureCancelsUpstream() {
+        AtomicInteger calls = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = IntMulti.range(0, 10)
+                .map(i -> {
+                    calls.incrementAndGet();
+                    if (i == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(IllegalStateException.class, "boom").assertItems(0, 1);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    public void testFromPublisher() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = IntMulti.from(Multi.createFrom().items(1, 2L, 3.9)
+                .onCancellation().invoke(() -> cancelled.set(true))).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        subscriber.assertItems(1).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertItems(1, 2).assertNotTerminated();
+        subscriber.cancel();
+        assertThat(cancelled).isTrue();
+
+        IntMulti.from(Multi.createFrom().items(1, 2L, 3.9)).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(5))
+                .assertCompleted()
+                .assertItems(1, 2, 3);
+    }
+
+    @Test
+    public void testFilterAndScanFailuresCancelUpstream() {
+        AtomicInteger cancellations = new AtomicInteger();
+        IntMulti upstream = IntMulti.from(Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(cancellations::incrementAndGet));
+
+        upstream.filter(i -> {
+            if (i == 2) {
+                throw new IllegalStateException("filter");
+            }
+            return true;
+        }).boxed().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "filter")
+                .assertItems(0, 1);
+
+        upstream.scan((a, b) -> {
+            if (b == 2) {
+                throw new IllegalStateException("scan");
+            }
+            return a + b;
+        }).boxed().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "scan")
+                .assertItems(0, 1);
+
+        assertThat(cancellations).hasValue(2);
+    }
+
+    @Test
+    public void testFilterWithoutBackPressure() {
+        IntMulti.range(0, 10)
+                .filter(i -> i % 3 == 0)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(0, 3, 6, 9);
+    }
+
+    @Test
+    public void testMapToObj() {
+        IntMulti.range(0, 3).mapToObj(i -> "item-" + i)
+                .subscribe().withSubscriber(AssertSubscriber.create(3))
+                .assertCompleted()
+                .assertItems("item-0", "item-1", "item-2");
+
+        IntMulti.range(0, 3).mapToObj(i -> i == 1 ? null : "item-" + i)
+                .subscribe().withSubscriber(AssertSubscriber.create(3))
+                .assertFailedWith(NullPointerException.class, "mapper")
+                .assertItems("item-0");
+    }
+
+    @Test
+    public void testCancellation() {
+        AssertSubscriber<Integer> subscriber = IntMulti.range(0, 100).map(i -> i + 1).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.cancel();
+        subscriber.request(10);
+        subscriber.assertItems(1, 2).assertNotTerminated();
+    }
+
+    @Test
+    public void testIntCollectors() {
+        assertThat(IntMulti.range(1, 101).sum().await().indefinitely()).isEqualTo(5050);
+        assertThat(IntMulti.range(1, 101).count().await().indefinitely()).isEqualTo(100L);
+        assertThat(IntMulti.items(5, 3, 9, 1).min().await().indefinitely()).isEqualTo(1);
+        assertThat(IntMulti.items(5, 3, 9, 1).max().await().indefinitely()).isEqualTo(9);
+        assertThat(IntMulti.range(1, 101).average().await().indefinitely()).isEqualTo(50.5);
+        assertThat(IntMulti.range(0, 100).toArray().await().indefinitely()).hasSize(100).startsWith(0, 1).endsWith(99);
+    }
+
+    @Test
+    public void testCollectorsOnEmptyStreams() {
+        assertThat(IntMulti.items().sum().await().indefinitely()).isEqualTo(0);
+        assertThat(IntMulti.items().count().await().indefinitely()).isEqualTo(0L);
+        assertThat(IntMulti.items().min().await().indefinitely()).isNull();
+        assertThat(IntMulti.items().max().await().indefinitely()).isNull();
+        assertThat(IntMulti.items().average().await().indefinitely()).isNull();
+        assertThat(IntMulti.items().toArray().await().indefinitely()).isEmpty();
+    }
+
+    @Test
+    public void testCollectorPropagatesFailures() {
+        assertThatThrownBy(() -> IntMulti.from(Multi.createFrom().failure(new IllegalStateException("boom")))
+                .sum().await().indefinitely())
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("boom");
+    }
+
+    @Test
+    public void testLongMulti() {
+        assertThat(LongMulti.range(Integer.MAX_VALUE, Integer.MAX_VALUE + 3L).sum().await().indefinitely())
+                .isEqualTo(3L * Integer.MAX_VALUE + 3);
+        assertThat(LongMulti.items(4L, 8L).map(l -> l / 2).toArray().await().indefinitely()).containsExactly(2L, 4L);
+        assertThat(IntMulti.items(Integer.MAX_VALUE, Integer.MAX_VALUE).asLongMulti().sum().await().indefinitely())
+                .isEqualTo(2L * Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testDoubleMulti() {
+        assertThat(DoubleMulti.items(1.5, 2.5).sum().await().indefinitely()).isEqualTo(4.0);
+        assertThat(DoubleMulti.from(Multi.createFrom().items(1, 2, 3)).average().await().indefinitely()).isEqualTo(2.0);
+        assertThat(LongMulti.range(0, 4).asDoubleMulti().map(d -> d / 2).toArray().await().indefinitely())
+                .containsExactly(0.0, 0.5, 1.0, 1.5);
+        assertThat(IntMulti.range(0, 3).asDoubleMulti().max().await().indefinitely()).isEqualTo(2.0);
+    }
+}
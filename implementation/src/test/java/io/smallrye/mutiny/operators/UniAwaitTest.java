@@ -7,6 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -96,6 +99,71 @@ public class UniAwaitTest {
         assertThat(exception.get()).hasCauseInstanceOf(InterruptedException.class);
     }
 
+    @Test
+    @Timeout(10)
+    public void testThatTimeoutCancelsTheUpstream() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Uni<Object> uni = Uni.createFrom().nothing().onCancellation().invoke(() -> cancelled.set(true));
+        assertThrows(TimeoutException.class, () -> uni.await().atMost(Duration.ofMillis(10)));
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @Timeout(10)
+    public void testThatTimeoutCancelsASubscriptionReceivedAfterwards() {
+        CountDownLatch timedOut = new CountDownLatch(1);
+        AtomicBoolean subscribed = new AtomicBoolean();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Uni<Object> uni = Uni.createFrom().nothing()
+                    .onSubscribe().invoke(() -> subscribed.set(true))
+                    .onCancellation().invoke(() -> cancelled.set(true))
+                    .runSubscriptionOn(command -> executor.execute(() -> {
+                        // Deliver onSubscribe once the calling thread stopped waiting
+                        try {
+                            timedOut.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        command.run();
+                    }));
+            assertThrows(TimeoutException.class, () -> uni.await().atMost(Duration.ofMillis(10)));
+            assertThat(subscribed).isFalse();
+            timedOut.countDown();
+            await().untilTrue(cancelled);
+            assertThat(subscribed).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    public void testThatInterruptionCancelsTheUpstream() {
+        AtomicBoolean awaiting = new AtomicBoolean();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicReference<RuntimeException> exception = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                awaiting.set(true);
+                Uni.createFrom().nothing().onCancellation().invoke(() -> cancelled.set(true))
+                        .await().indefinitely();
+            } catch (RuntimeException e) {
+                interrupted.set(Thread.currentThread().isInterrupted());
+                exception.set(e);
+            }
+        });
+        thread.start();
+        await().untilTrue(awaiting);
+        thread.interrupt();
+        await().until(() -> exception.get() != null);
+        assertThat(exception.get()).hasCauseInstanceOf(InterruptedException.class);
+        assertThat(cancelled).isTrue();
+        assertThat(interrupted).isTrue();
+    }
+
     @Test
     public void testAwaitAsOptionalWithResult() {
         assertThat(
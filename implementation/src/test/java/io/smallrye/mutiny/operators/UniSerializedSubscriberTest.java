@@ -494,6 +494,39 @@ public class UniSerializedSubscriberTest {
                 .isInstanceOf(IllegalStateException.class).hasMessageContaining("boom");
     }
 
+    @Test
+    public void testThatForwardedSerializedSubscribersAreNotWrappedAgain() {
+        AtomicReference<UniSerializedSubscriber<? super Integer>> received = new AtomicReference<>();
+        AbstractUni<Integer> source = new AbstractUni<Integer>() {
+            @Override
+            protected void subscribing(UniSerializedSubscriber<? super Integer> subscriber) {
+                received.set(subscriber);
+                subscriber.onSubscribe(mock(UniSubscription.class));
+                subscriber.onItem(1);
+            }
+        };
+        AbstractUni<Integer> forwarding = new AbstractUni<Integer>() {
+            @Override
+            protected void subscribing(UniSerializedSubscriber<? super Integer> subscriber) {
+                received.set(subscriber);
+                AbstractUni.subscribe(source, subscriber);
+            }
+        };
+
+        UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+        AtomicReference<UniSerializedSubscriber<? super Integer>> outer = new AtomicReference<>();
+        UniSerializedSubscriber.subscribe(new AbstractUni<Integer>() {
+            @Override
+            protected void subscribing(UniSerializedSubscriber<? super Integer> s) {
+                outer.set(s);
+                forwarding.subscribing(s);
+            }
+        }, subscriber);
+
+        subscriber.assertCompleted().assertItem(1);
+        assertThat(received.get()).isSameAs(outer.get());
+    }
+
     private void await(CountDownLatch latch) {
         try {
             latch.await();
@@ -6,8 +6,11 @@ import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -195,4 +198,82 @@ public class UniToMultiTest {
                 .assertHasNotReceivedAnyItem()
                 .assertCompleted();
     }
+
+    @Test
+    public void testThatTheUniIsNotSubscribedBeforeTheRequest() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Multi<Integer> multi = Uni.createFrom().item(1)
+                .onSubscribe().invoke(subscriptions::incrementAndGet)
+                .toMulti();
+
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(0));
+        assertThat(subscriptions).hasValue(0);
+        subscriber.cancel().request(1);
+        assertThat(subscriptions).hasValue(0);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        Uni.createFrom().completionStage(new CompletableFuture<Integer>())
+                .toMulti()
+                .subscribe().withSubscriber(AssertSubscriber.create(0))
+                .request(-1)
+                .assertFailedWith(IllegalArgumentException.class, "");
+
+        Multi.createFrom().item(1)
+                .subscribe().withSubscriber(AssertSubscriber.create(0))
+                .request(0)
+                .assertFailedWith(IllegalArgumentException.class, "");
+    }
+
+    @Test
+    public void testCancellationAfterRequest() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = Uni.createFrom().completionStage(new CompletableFuture<Integer>())
+                .onCancellation().invoke(() -> cancelled.set(true))
+                .toMulti()
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        assertThat(cancelled).isFalse();
+        subscriber.cancel();
+        assertThat(cancelled).isTrue();
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testFailingOnNextFailsTheStream() {
+        assertFailingOnNextFailsTheStream(Uni.createFrom().item(1).toMulti());
+        assertFailingOnNextFailsTheStream(Multi.createFrom().item(1));
+        assertFailingOnNextFailsTheStream(Uni.createFrom().item(() -> 1).toMulti());
+    }
+
+    private void assertFailingOnNextFailsTheStream(Multi<Integer> multi) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        multi.subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                throw new IllegalStateException("boom");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                failure.set(t);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(completed).isFalse();
+    }
 }